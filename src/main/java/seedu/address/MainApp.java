@@ -22,6 +22,7 @@ import seedu.address.model.ReadOnlyEduTrack;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryEduTrackStorage;
 import seedu.address.storage.EduTrackStorage;
 import seedu.address.storage.JsonEduTrackStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -57,16 +58,28 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        EduTrackStorage eduTrackStorage = new JsonEduTrackStorage(userPrefs.getEduTrackFilePath());
+        EduTrackStorage eduTrackStorage = initEduTrackStorage(userPrefs);
         storage = new StorageManager(eduTrackStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, config.getSavePolicy(), config.getSaveDelayMillis());
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage of the data file in {@code userPrefs}, which writes the file in the format chosen there.
+     * Either storage reads a data file in the other format, so changing the format converts the data file.
+     */
+    private EduTrackStorage initEduTrackStorage(ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file format : " + userPrefs.getEduTrackFileFormat());
+        if (userPrefs.getEduTrackFileFormat() == UserPrefs.DataFileFormat.BINARY) {
+            return new BinaryEduTrackStorage(userPrefs.getEduTrackFilePath());
+        }
+        return new JsonEduTrackStorage(userPrefs.getEduTrackFilePath());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -127,6 +140,13 @@ public class MainApp extends Application {
             initializedConfig = new Config();
         }
 
+        if (!Config.isValidSaveDelayMillis(initializedConfig.getSaveDelayMillis())) {
+            logger.warning("Save delay of " + initializedConfig.getSaveDelayMillis() + " ms in config file "
+                    + configFilePathUsed + " is negative. Using default save delay of "
+                    + Config.DEFAULT_SAVE_DELAY_MILLIS + " ms.");
+            initializedConfig.setSaveDelayMillis(Config.DEFAULT_SAVE_DELAY_MILLIS);
+        }
+
         //Update config file in case it was missing to begin with or there are new/unused fields
         try {
             ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
@@ -177,6 +197,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        logic.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -13,10 +13,31 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_SAVE_DELAY_MILLIS = 1000;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private SavePolicy savePolicy = SavePolicy.EVERY_COMMAND;
+    private long saveDelayMillis = DEFAULT_SAVE_DELAY_MILLIS;
+
+    /**
+     * When the data is saved in the background after commands change it.
+     * Whatever the policy, only the latest data is written when several commands come before a save.
+     */
+    public enum SavePolicy {
+        /** Saves as soon as possible after each command. */
+        EVERY_COMMAND,
+        /** Saves at most once every {@code saveDelayMillis} ms, that long after the first unsaved command. */
+        INTERVAL,
+        /** Saves once no command has come for {@code saveDelayMillis} ms. */
+        ON_IDLE,
+        /**
+         * Appends the changes made by each command to a journal next to the data file, and folds the journal into
+         * the data file in the background once it grows long.
+         */
+        JOURNAL
+    }
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +55,29 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public SavePolicy getSavePolicy() {
+        return savePolicy;
+    }
+
+    public void setSavePolicy(SavePolicy savePolicy) {
+        this.savePolicy = savePolicy;
+    }
+
+    /**
+     * Returns true if {@code saveDelayMillis} can be used as the save delay, which must not be negative.
+     */
+    public static boolean isValidSaveDelayMillis(long saveDelayMillis) {
+        return saveDelayMillis >= 0;
+    }
+
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +91,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && savePolicy == otherConfig.savePolicy
+                && saveDelayMillis == otherConfig.saveDelayMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, savePolicy, saveDelayMillis);
     }
 
     @Override
@@ -60,6 +106,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("savePolicy", savePolicy)
+                .add("saveDelayMillis", saveDelayMillis)
                 .toString();
     }
 
@@ -0,0 +1,56 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Hands out one shared instance of an immutable value for each string it is created from.
+ * The value is created, and so validated, only the first time its string is seen; later requests for an equal
+ * string return the same instance. Values are held weakly, so those no longer in use can still be garbage collected.
+ *
+ * @param <T> the type of the values handed out
+ */
+public class Interner<T> {
+
+    private final Map<String, WeakReference<T>> instances = new WeakHashMap<>();
+    private final Function<String, T> factory;
+
+    /**
+     * Constructs an {@code Interner} that creates values with {@code factory}.
+     * The factory may throw to reject a string, in which case nothing is remembered for it.
+     */
+    public Interner(Function<String, T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the shared value for {@code key}, creating it if there is none.
+     */
+    public synchronized T intern(String key) {
+        requireNonNull(key);
+        T instance = get(key);
+        if (instance == null) {
+            instance = factory.apply(key);
+            instances.put(key, new WeakReference<>(instance));
+        }
+        return instance;
+    }
+
+    /**
+     * Returns true if a value has already been created from {@code key} and is still in use.
+     */
+    public synchronized boolean contains(String key) {
+        requireNonNull(key);
+        return get(key) != null;
+    }
+
+    private T get(String key) {
+        WeakReference<T> reference = instances.get(key);
+        return reference == null ? null : reference.get();
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A set of half-open integer intervals [start, end), each with a value, for finding the intervals that overlap a
+ * given interval without looking at every interval.
+ * The intervals are kept in a treap (a binary search tree balanced by random priorities) ordered by start, in which
+ * every node also knows the latest end of the intervals below it. Finding the k intervals that overlap a given one
+ * takes expected O(log n + k) time, and adding or removing an interval expected O(log n) time.
+ * Intervals may overlap, and the same interval may be added with several values.
+ *
+ * @param <V> the type of the values of the intervals
+ */
+public class IntervalTree<V> {
+
+    private final Random random = new Random();
+    private Node<V> root;
+    private int size;
+
+    /**
+     * Adds the interval [{@code start}, {@code end}) with {@code value}.
+     * The interval must not be empty.
+     */
+    public void add(int start, int end, V value) {
+        requireNonNull(value);
+        checkArgument(start < end, "Interval must not be empty");
+        root = insert(root, new Node<>(start, end, value, random.nextInt()));
+        size++;
+    }
+
+    /**
+     * Removes the interval [{@code start}, {@code end}) with {@code value}, and returns true if it was there.
+     */
+    public boolean remove(int start, int end, V value) {
+        requireNonNull(value);
+        int sizeBefore = size;
+        root = delete(root, start, end, value);
+        return size < sizeBefore;
+    }
+
+    /**
+     * Removes every interval.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the values of the intervals that overlap [{@code start}, {@code end}), in order of start.
+     */
+    public List<V> getOverlapping(int start, int end) {
+        List<V> values = new ArrayList<>();
+        collectOverlapping(root, start, end, values);
+        return values;
+    }
+
+    /**
+     * Returns the values of the intervals that contain {@code point}, in order of start.
+     */
+    public List<V> getContaining(int point) {
+        return getOverlapping(point, point + 1);
+    }
+
+    private static <V> void collectOverlapping(Node<V> node, int start, int end, List<V> values) {
+        // No interval below a node ending at or before start can overlap
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collectOverlapping(node.left, start, end, values);
+        if (node.start < end) {
+            if (node.end > start) {
+                values.add(node.value);
+            }
+            // Intervals to the right start no earlier than this one, so only look there if this one starts in time
+            collectOverlapping(node.right, start, end, values);
+        }
+    }
+
+    private static <V> Node<V> insert(Node<V> node, Node<V> toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+        if (toInsert.start < node.start) {
+            node.left = insert(node.left, toInsert);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, toInsert);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private Node<V> delete(Node<V> node, int start, int end, V value) {
+        if (node == null || node.maxEnd < end) {
+            return node;
+        }
+        if (node.start == start && node.end == end && node.value.equals(value)) {
+            size--;
+            return merge(node.left, node.right);
+        }
+        // Intervals with the same start may be on either side of a node after rotations
+        int sizeBefore = size;
+        if (start <= node.start) {
+            node.left = delete(node.left, start, end, value);
+        }
+        if (start >= node.start && size == sizeBefore) {
+            node.right = delete(node.right, start, end, value);
+        }
+        node.update();
+        return node;
+    }
+
+    private static <V> Node<V> merge(Node<V> left, Node<V> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static <V> Node<V> rotateRight(Node<V> node) {
+        Node<V> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        return left;
+    }
+
+    private static <V> Node<V> rotateLeft(Node<V> node) {
+        Node<V> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        return right;
+    }
+
+    /**
+     * A node of the treap, holding one interval.
+     */
+    private static class Node<V> {
+        private final int start;
+        private final int end;
+        private final V value;
+        private final int priority;
+        private int maxEnd;
+        private Node<V> left;
+        private Node<V> right;
+
+        private Node(int start, int end, V value, int priority) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        private void update() {
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+}
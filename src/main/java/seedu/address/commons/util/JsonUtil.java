@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -40,12 +45,16 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        try (OutputStream out = Files.newOutputStream(jsonFile)) {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, objectToSerialize);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = Files.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -92,6 +101,31 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser that reads the JSON data in {@code jsonFile} one token at a time, without reading the whole
+     * file into memory. Values read with {@link JsonParser#readValueAs} are converted as by {@link #fromJsonString}.
+     * The parser must be closed, which closes the file.
+     *
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createParser(Path jsonFile) throws IOException {
+        requireNonNull(jsonFile);
+        return objectMapper.getFactory().createParser(Files.newInputStream(jsonFile));
+    }
+
+    /**
+     * Returns a generator that writes pretty-printed JSON data to {@code jsonFile} as it is generated, overwriting
+     * the file if it exists. Values written with {@link JsonGenerator#writeObject} are converted as by
+     * {@link #toJsonString}. The generator must be closed, which closes the file.
+     *
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonGenerator createGenerator(Path jsonFile) throws IOException {
+        requireNonNull(jsonFile);
+        return objectMapper.getFactory().createGenerator(Files.newOutputStream(jsonFile), JsonEncoding.UTF8)
+                .useDefaultPrettyPrinter();
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +145,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, all on one line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
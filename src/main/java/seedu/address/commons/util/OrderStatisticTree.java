@@ -0,0 +1,223 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * A sorted multiset that also answers order-statistic queries: the element at a given position, the first k
+ * elements, and the number of elements before a given point.
+ * The elements are kept in a treap (a binary search tree balanced by random priorities) in which every node knows
+ * the size of its subtree. Adding, removing and positional queries take expected O(log n) time, and listing the
+ * first k elements expected O(k + log n) time.
+ * Elements that compare equal are kept in the order they were added.
+ *
+ * @param <E> the type of the elements
+ */
+public class OrderStatisticTree<E> {
+
+    private final Comparator<? super E> comparator;
+    private final Random random = new Random();
+    private Node<E> root;
+
+    /**
+     * Creates an empty tree ordered by {@code comparator}.
+     */
+    public OrderStatisticTree(Comparator<? super E> comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+    }
+
+    /**
+     * Adds {@code element} after every element that does not compare greater than it.
+     */
+    public void add(E element) {
+        requireNonNull(element);
+        root = insert(root, new Node<>(element, random.nextInt()));
+    }
+
+    /**
+     * Removes one element equal to {@code element}, and returns true if there was one.
+     */
+    public boolean remove(E element) {
+        requireNonNull(element);
+        int sizeBefore = size();
+        root = delete(root, element);
+        return size() < sizeBefore;
+    }
+
+    /**
+     * Removes every element.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns the element at {@code index}, counting from 0 in sorted order.
+     */
+    public E get(int index) {
+        checkArgument(0 <= index && index < size(), "Index out of range: " + index);
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} elements from the start, in sorted order.
+     */
+    public List<E> getFirst(int limit) {
+        checkArgument(limit >= 0);
+        List<E> elements = new ArrayList<>();
+        Deque<Node<E>> path = new ArrayDeque<>();
+        Node<E> node = root;
+        while (elements.size() < limit && (node != null || !path.isEmpty())) {
+            if (node != null) {
+                path.push(node);
+                node = node.left;
+            } else {
+                node = path.pop();
+                elements.add(node.element);
+                node = node.right;
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Returns the number of elements for which {@code isBefore} is true.
+     * {@code isBefore} must be true for every element up to some point in sorted order and false after it, as
+     * {@code e -> comparator.compare(e, x) < 0} is for any {@code x}.
+     */
+    public int countBefore(Predicate<? super E> isBefore) {
+        requireNonNull(isBefore);
+        int count = 0;
+        Node<E> node = root;
+        while (node != null) {
+            if (isBefore.test(node.element)) {
+                count += sizeOf(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private Node<E> insert(Node<E> node, Node<E> toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+        if (comparator.compare(toInsert.element, node.element) < 0) {
+            node.left = insert(node.left, toInsert);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, toInsert);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private Node<E> delete(Node<E> node, E element) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = comparator.compare(element, node.element);
+        if (comparison == 0 && node.element.equals(element)) {
+            return merge(node.left, node.right);
+        }
+        // Elements comparing equal to this one may be on either side of it after rotations
+        int sizeBefore = node.size;
+        if (comparison <= 0) {
+            node.left = delete(node.left, element);
+            node.update();
+        }
+        if (comparison >= 0 && node.size == sizeBefore) {
+            node.right = delete(node.right, element);
+            node.update();
+        }
+        return node;
+    }
+
+    private static <E> Node<E> merge(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static <E> Node<E> rotateRight(Node<E> node) {
+        Node<E> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        return left;
+    }
+
+    private static <E> Node<E> rotateLeft(Node<E> node) {
+        Node<E> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        return right;
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A node of the treap, holding one element.
+     */
+    private static class Node<E> {
+        private final E element;
+        private final int priority;
+        private int size = 1;
+        private Node<E> left;
+        private Node<E> right;
+
+        private Node(E element, int priority) {
+            this.element = element;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = 1 + sizeOf(left) + sizeOf(right);
+        }
+    }
+}
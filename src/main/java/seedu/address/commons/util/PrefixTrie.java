@@ -0,0 +1,201 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A trie of string keys, each of which is associated with one or more values, for answering prefix queries
+ * without looking at every key.
+ * Keys are compared ignoring case. A key and value may be added several times, and stay in the trie until they
+ * have been removed as many times.
+ * Every node knows the values of all the keys below it, so finding the values of keys with a given prefix takes
+ * time proportional to the length of the prefix.
+ *
+ * @param <V> the type of the values associated with keys
+ */
+public class PrefixTrie<V> {
+
+    private final Node<V> root = new Node<>();
+
+    /**
+     * Associates {@code value} with {@code key} once more.
+     */
+    public void add(String key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        String normalizedKey = normalize(key);
+        Node<V> node = root;
+        node.addValue(value);
+        for (int i = 0; i < normalizedKey.length(); i++) {
+            node = node.children.computeIfAbsent(normalizedKey.charAt(i), c -> new Node<>());
+            node.addValue(value);
+        }
+        if (node.keyCount == 0) {
+            node.key = key;
+        }
+        node.keyCount++;
+    }
+
+    /**
+     * Removes one association of {@code value} with {@code key}.
+     * The pair must have been added more times than it has been removed.
+     */
+    public void remove(String key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        String normalizedKey = normalize(key);
+        Deque<Node<V>> path = new ArrayDeque<>();
+        Node<V> node = root;
+        path.push(node);
+        for (int i = 0; i < normalizedKey.length(); i++) {
+            node = node.children.get(normalizedKey.charAt(i));
+            checkArgument(node != null, "Key is not in the trie: " + key);
+            path.push(node);
+        }
+        checkArgument(node.keyCount > 0 && node.valueCounts.containsKey(value), "Key is not in the trie: " + key);
+
+        node.keyCount--;
+        if (node.keyCount == 0) {
+            node.key = null;
+        }
+        for (int i = normalizedKey.length(); i >= 0; i--) {
+            Node<V> current = path.pop();
+            current.removeValue(value);
+            if (i > 0 && current.isEmpty()) {
+                path.peek().children.remove(normalizedKey.charAt(i - 1));
+            }
+        }
+    }
+
+    /**
+     * Removes every key from the trie.
+     */
+    public void clear() {
+        root.children.clear();
+        root.valueCounts.clear();
+        root.key = null;
+        root.keyCount = 0;
+    }
+
+    /**
+     * Returns an unmodifiable view of the values of every key that starts with {@code prefix}.
+     */
+    public Set<V> getValuesWithPrefix(String prefix) {
+        Node<V> node = find(prefix);
+        return node == null ? Collections.emptySet() : Collections.unmodifiableSet(node.valueCounts.keySet());
+    }
+
+    /**
+     * Returns true if {@code value} is associated with a key that starts with {@code prefix}.
+     */
+    public boolean hasValueWithPrefix(String prefix, V value) {
+        requireNonNull(value);
+        Node<V> node = find(prefix);
+        return node != null && node.valueCounts.containsKey(value);
+    }
+
+    /**
+     * Returns up to {@code limit} keys that start with {@code prefix}, in alphabetical order ignoring case.
+     * Each key is given as it was first added.
+     */
+    public List<String> getKeysWithPrefix(String prefix, int limit) {
+        checkArgument(limit >= 0);
+        List<String> keys = new ArrayList<>();
+        Node<V> start = find(prefix);
+        if (start == null) {
+            return keys;
+        }
+
+        // Depth-first, visiting children in order, so keys come out sorted and the walk stops at the limit
+        Deque<Iterator<Node<V>>> stack = new ArrayDeque<>();
+        if (start.keyCount > 0 && keys.size() < limit) {
+            keys.add(start.key);
+        }
+        stack.push(start.children.values().iterator());
+        while (!stack.isEmpty() && keys.size() < limit) {
+            Iterator<Node<V>> children = stack.peek();
+            if (!children.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            Node<V> child = children.next();
+            if (child.keyCount > 0) {
+                keys.add(child.key);
+            }
+            stack.push(child.children.values().iterator());
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the longest prefix shared by every key that starts with {@code prefix}, ignoring case, spelt as in the
+     * first such key in alphabetical order. Returns an empty {@code Optional} if no key starts with {@code prefix}.
+     * Only the nodes down to the first branch or key below {@code prefix} are visited, however many keys there are.
+     */
+    public Optional<String> getCommonPrefix(String prefix) {
+        Node<V> node = find(prefix);
+        if (node == null || node.isEmpty()) {
+            return Optional.empty();
+        }
+        int length = normalize(prefix).length();
+        while (node.keyCount == 0 && node.children.size() == 1) {
+            node = node.children.values().iterator().next();
+            length++;
+        }
+
+        Node<V> first = node;
+        while (first.keyCount == 0) {
+            first = first.children.values().iterator().next();
+        }
+        return Optional.of(first.key.substring(0, Math.min(length, first.key.length())));
+    }
+
+    private Node<V> find(String prefix) {
+        requireNonNull(prefix);
+        String normalizedPrefix = normalize(prefix);
+        Node<V> node = root;
+        for (int i = 0; i < normalizedPrefix.length() && node != null; i++) {
+            node = node.children.get(normalizedPrefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static String normalize(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A node of the trie, standing for the prefix spelt out by the path to it.
+     */
+    private static class Node<V> {
+        private final Map<Character, Node<V>> children = new TreeMap<>();
+        private final Map<V, Integer> valueCounts = new HashMap<>();
+        private String key;
+        private int keyCount;
+
+        private void addValue(V value) {
+            valueCounts.merge(value, 1, Integer::sum);
+        }
+
+        private void removeValue(V value) {
+            valueCounts.computeIfPresent(value, (v, count) -> count > 1 ? count - 1 : null);
+        }
+
+        private boolean isEmpty() {
+            return keyCount == 0 && children.isEmpty();
+        }
+    }
+}
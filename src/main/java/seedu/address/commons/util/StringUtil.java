@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -48,6 +49,42 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns the longest prefix shared by all of {@code strings}, ignoring case, as it is spelt in the first of
+     * them. Returns an empty string if {@code strings} is empty.
+     */
+    public static String getCommonPrefixIgnoreCase(List<String> strings) {
+        requireNonNull(strings);
+        if (strings.isEmpty()) {
+            return "";
+        }
+        String first = strings.get(0);
+        int length = first.length();
+        for (String s : strings) {
+            while (!s.regionMatches(true, 0, first, 0, length)) {
+                length--;
+            }
+        }
+        return first.substring(0, length);
+    }
+
+    /**
+     * Returns true if every character of {@code s} from {@code from} (inclusive) to {@code to} (exclusive) is one of
+     * the ASCII digits 0 to 9. This is true of an empty range.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isAsciiDigits(CharSequence s, int from, int to) {
+        requireNonNull(s);
+        checkArgument(0 <= from && from <= to && to <= s.length());
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
      * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
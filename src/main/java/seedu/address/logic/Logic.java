@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler told the message of every error in saving the data, which happens in the background after
+     * commands. The handler is called on the thread saving the data.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Saves the data not yet saved, and stops saving in the background.
+     */
+    void shutdown();
+
     /**
      * Returns the AddressBook.
      *
@@ -36,6 +48,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of classes */
     ObservableList<Class> getFilteredClassList();
 
+    /**
+     * Returns {@code prefix} completed as far as its possible completions agree.
+     *
+     * @see seedu.address.model.Model#completeWord(String)
+     */
+    String completeWord(String prefix);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,11 +1,16 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Config.SavePolicy;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
@@ -17,6 +22,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyEduTrack;
 import seedu.address.model.module.Class;
 import seedu.address.model.student.Student;
+import seedu.address.storage.EduTrackJournal;
+import seedu.address.storage.EduTrackSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -28,20 +35,42 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT = "Could not save data to file %s due to "
             + "insufficient permissions to write to the file or the folder.";
 
+    private static final long UNSAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final EduTrackParser eduTrackParser;
+    private final EduTrackSaver saver;
+    // The modification count of the model when it was last saved, or UNSAVED if the last save failed
+    private volatile long savedModificationCount;
+    private volatile Consumer<String> saveErrorHandler = message -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
-     * {@code Storage}.
+     * {@code Storage}, saving the data in the background after every command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, SavePolicy.EVERY_COMMAND, 0);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and
+     * {@code Storage}, saving the data in the background as {@code savePolicy} says.
+     * With {@link SavePolicy#JOURNAL}, the journal of {@code storage} is told of every change to the model.
+     *
+     * @param saveDelayMillis The delay used by the save policy, as in {@link Config#getSaveDelayMillis()}.
+     */
+    public LogicManager(Model model, Storage storage, SavePolicy savePolicy, long saveDelayMillis) {
         this.model = model;
-        this.storage = storage;
         eduTrackParser = new EduTrackParser();
+        saver = new EduTrackSaver(storage, savePolicy, saveDelayMillis, this::handleSaveError);
+        if (savePolicy == SavePolicy.JOURNAL) {
+            EduTrackJournal journal = storage.getEduTrackJournal();
+            journal.setEduTrack(model.getEduTrack());
+            model.setEduTrackChangeListener(journal);
+        }
+        savedModificationCount = model.getModificationCount();
     }
 
     @Override
@@ -50,19 +79,54 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = eduTrackParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
         try {
-            storage.saveEduTrack(model.getEduTrack());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            commandResult = command.execute(model);
+            model.commitChanges();
+        } catch (CommandException | RuntimeException e) {
+            // A command that fails part way leaves nothing behind, rather than a step that undoes it
+            model.discardChanges();
+            throw e;
+        } finally {
+            // After the changes are committed or discarded, so that a command that changed the data and then
+            // failed is saved too
+            saveIfModified();
         }
-
         return commandResult;
     }
 
+    /**
+     * Saves the data if it changed since it was last saved. Commands that only read the data, such as list and
+     * find, leave nothing to save.
+     */
+    private void saveIfModified() {
+        long modificationCount = model.getModificationCount();
+        if (modificationCount != savedModificationCount) {
+            savedModificationCount = modificationCount;
+            saver.save(model.getEduTrack());
+        }
+    }
+
+    private void handleSaveError(IOException e) {
+        // The data is saved again after the next command, even if that command changes nothing
+        savedModificationCount = UNSAVED;
+        if (e instanceof AccessDeniedException) {
+            saveErrorHandler.accept(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
+        } else {
+            saveErrorHandler.accept(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()));
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    @Override
+    public void shutdown() {
+        saver.shutdown();
+    }
+
     @Override
     public ReadOnlyEduTrack getAddressBook() {
         return model.getEduTrack();
@@ -78,6 +142,11 @@ public class LogicManager implements Logic {
         return model.getFilteredClassList();
     }
 
+    @Override
+    public String completeWord(String prefix) {
+        return model.completeWord(prefix);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getEduTrackFilePath();
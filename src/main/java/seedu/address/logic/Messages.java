@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -24,6 +25,7 @@ public class Messages {
             + "Create one!";
     public static final String MESSAGE_DUPLICATE_FIELDS = "Multiple values specified for the following single-valued "
             + "field(s): ";
+    public static final String MESSAGE_SCHEDULE_CLASH = "\nWarning: the schedule clashes with %1$s";
 
 
     /**
@@ -46,6 +48,17 @@ public class Messages {
         return builder.toString();
     }
 
+    /**
+     * Returns a warning naming the {@code clashingClasses}, or an empty string if there are none.
+     */
+    public static String formatClashes(List<Class> clashingClasses) {
+        if (clashingClasses.isEmpty()) {
+            return "";
+        }
+        return String.format(MESSAGE_SCHEDULE_CLASH,
+                clashingClasses.stream().map(Messages::formatClass).collect(Collectors.joining(", ")));
+    }
+
     /**
      * Formats the {@code class} for display to the user.
      */
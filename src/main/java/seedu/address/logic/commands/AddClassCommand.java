@@ -5,6 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.module.Class;
@@ -43,7 +44,8 @@ public class AddClassCommand extends Command {
         }
 
         model.addClass(c);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, c.getClassName()));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, c.getClassName())
+                + Messages.formatClashes(model.getClassesClashingWith(c)));
     }
 
     @Override
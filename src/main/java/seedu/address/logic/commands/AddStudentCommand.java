@@ -57,7 +57,9 @@ public class AddStudentCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_STUDENT);
         }
 
-        model.addStudent(toAdd);
+        if (!model.hasStudent(toAdd)) {
+            model.addStudent(toAdd);
+        }
         model.addStudentToClass(this.toAdd, classToAddStudent);
         return new CommandResult(String.format(MESSAGE_ADD_STUDENT_SUCCESS,
                 Messages.formatStudent(this.toAdd), Messages.formatClass(classToAddStudent)));
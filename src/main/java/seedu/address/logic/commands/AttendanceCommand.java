@@ -0,0 +1,142 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LAST;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.module.AttendanceHistory;
+import seedu.address.model.module.Class;
+import seedu.address.model.student.Student;
+
+/**
+ * Reports the attendance of a class over a range of its lessons, and the students who missed any of them.
+ */
+public class AttendanceCommand extends Command {
+    public static final String COMMAND_WORD = "attendance" + " /c";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the attendance rate of this class over a range of lessons, "
+            + "and the students who missed any of them.\n"
+            + "Parameters: "
+            + PREFIX_CLASS + " CLASS_INDEX "
+            + "[" + PREFIX_FROM + " FIRST_LESSON] "
+            + "[" + PREFIX_TO + " LAST_LESSON] or "
+            + "[" + PREFIX_LAST + " NUMBER_OF_LESSONS]"
+            + "\n"
+            + "Example: "
+            + COMMAND_WORD + " 1 " + PREFIX_FROM + " 3 " + PREFIX_TO + " 5";
+    public static final String MESSAGE_ATTENDANCE_SUCCESS = "Attendance of %1$s for lessons %2$d to %3$d: %4$.1f%%\n"
+            + "Missed a lesson: %5$s";
+    public static final String MESSAGE_ABSENTEE = "%1$s (%2$d missed)";
+    public static final String MESSAGE_NO_ABSENTEES = "None";
+    public static final String MESSAGE_NO_LESSONS = "%1$s has not had any lessons yet!";
+    public static final String MESSAGE_INVALID_LESSON_RANGE = "Lessons should be between 1 and %1$d, "
+            + "with the first lesson no later than the last.";
+
+    private final Index targetClassIndex;
+    private final Integer firstLesson;
+    private final Integer lastLesson;
+    private final Integer recentLessons;
+
+    /**
+     * Creates an AttendanceCommand over lessons {@code firstLesson} to {@code lastLesson} of the class at
+     * {@code classIndex}, both numbered from 1.
+     * A null {@code firstLesson} means the first lesson, and a null {@code lastLesson} the current lesson.
+     */
+    public AttendanceCommand(Index classIndex, Integer firstLesson, Integer lastLesson) {
+        requireNonNull(classIndex);
+        this.targetClassIndex = classIndex;
+        this.firstLesson = firstLesson;
+        this.lastLesson = lastLesson;
+        this.recentLessons = null;
+    }
+
+    /**
+     * Creates an AttendanceCommand over the last {@code recentLessons} lessons of the class at {@code classIndex}.
+     */
+    public AttendanceCommand(Index classIndex, int recentLessons) {
+        requireNonNull(classIndex);
+        this.targetClassIndex = classIndex;
+        this.firstLesson = null;
+        this.lastLesson = null;
+        this.recentLessons = recentLessons;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Class studentClass = model.retrieveClass(targetClassIndex);
+        AttendanceHistory history = studentClass.getAttendanceHistory();
+        int lessonCount = history.getLessonCount();
+        if (lessonCount == 0) {
+            throw new CommandException(String.format(MESSAGE_NO_LESSONS, Messages.formatClass(studentClass)));
+        }
+
+        int from;
+        int to;
+        if (recentLessons != null) {
+            from = Math.max(1, lessonCount - recentLessons + 1);
+            to = lessonCount;
+        } else {
+            from = firstLesson == null ? 1 : firstLesson;
+            to = lastLesson == null ? lessonCount : lastLesson;
+        }
+        if (!AttendanceHistory.isValidLessonRange(from, to, lessonCount)) {
+            throw new CommandException(String.format(MESSAGE_INVALID_LESSON_RANGE, lessonCount));
+        }
+
+        int lessons = to - from + 1;
+        int totalAttended = 0;
+        List<String> absentees = new ArrayList<>();
+        for (Student student : studentClass.getStudentList()) {
+            int attended = history.countAttended(student, from - 1, to);
+            totalAttended += attended;
+            if (attended < lessons) {
+                absentees.add(String.format(MESSAGE_ABSENTEE, Messages.formatStudent(student), lessons - attended));
+            }
+        }
+
+        int classSize = studentClass.getStudentList().size();
+        double attendanceRate = classSize == 0 ? 0 : 100.0 * totalAttended / ((long) lessons * classSize);
+        return new CommandResult(String.format(MESSAGE_ATTENDANCE_SUCCESS, Messages.formatClass(studentClass),
+                from, to, attendanceRate, absentees.isEmpty() ? MESSAGE_NO_ABSENTEES : String.join(", ", absentees)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceCommand)) {
+            return false;
+        }
+
+        AttendanceCommand otherAttendanceCommand = (AttendanceCommand) other;
+        return targetClassIndex.equals(otherAttendanceCommand.targetClassIndex)
+                && Objects.equals(firstLesson, otherAttendanceCommand.firstLesson)
+                && Objects.equals(lastLesson, otherAttendanceCommand.lastLesson)
+                && Objects.equals(recentLessons, otherAttendanceCommand.recentLessons);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("classIndex", targetClassIndex)
+                .add("firstLesson", firstLesson)
+                .add("lastLesson", lastLesson)
+                .add("recentLessons", recentLessons)
+                .toString();
+    }
+}
@@ -76,10 +76,11 @@ public class EditClassCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_CLASS);
         }
 
-        model.setClass(index, editedClass);
+        model.setClass(classToEdit, editedClass);
         model.updateFilteredClassList(PREDICATE_SHOW_ALL_CLASSES);
         return new CommandResult(String.format(MESSAGE_EDIT_CLASS_SUCCESS, Messages.formatClass(editedClass),
-                editedClass.getClassSchedule(), editedClass.getClassMemo()));
+                editedClass.getClassSchedule(), editedClass.getClassMemo())
+                + Messages.formatClashes(model.getClassesClashingWith(editedClass)));
     }
 
     /**
@@ -94,7 +95,7 @@ public class EditClassCommand extends Command {
         Memo memo = editClassDescriptor.getClassNote().orElse(classToEdit.getClassMemo());
         Schedule schedule = editClassDescriptor.getClassSchedule().orElse(classToEdit.getClassSchedule());
 
-        return new Class(updatedClassName, studentList, memo, schedule);
+        return new Class(updatedClassName, studentList, memo, schedule, classToEdit.getAttendanceHistory());
     }
 
     @Override
@@ -84,13 +84,12 @@ public class EditStudentCommand extends Command {
             Student studentToEdit = lastShownList.get(studentIndex.getZeroBased());
             Student editedStudent = createEditedStudent(studentToEdit, editStudentDescriptor);
 
-            if (!studentToEdit.isSameStudent(editedStudent) && studentClass.hasStudentInClass(editedStudent)) {
+            if (!studentToEdit.isSameStudent(editedStudent) && model.hasStudent(editedStudent)) {
                 throw new CommandException(MESSAGE_DUPLICATE_STUDENT);
             }
 
             model.setStudent(studentToEdit, editedStudent);
-            model.setStudentInClass(studentToEdit, editedStudent, studentClass);
-            model.updateFilteredStudentList((s) -> studentClass.getStudentList().contains(s));
+            model.updateFilteredStudentListToClass(studentClass);
 
             return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.formatStudent(editedStudent)));
         } catch (ClassNotFoundException e) {
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMO;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Lists the students and classes whose memos contain all of the argument keywords.
+ * Keyword matching is case insensitive and ignores punctuation.
+ */
+public class FindMemoCommand extends Command {
+
+    public static final String COMMAND_WORD = "find" + " /m";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the students and classes whose memos contain "
+            + "all of the specified keywords (case-insensitive) and displays them as lists with index numbers.\n"
+            + "Parameters: "
+            + PREFIX_MEMO + " KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " extra help";
+
+    public static final String MESSAGE_SUCCESS = "Listed %1$d students and %2$d classes with memos containing: %3$s";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a FindMemoCommand to find the students and classes with memos containing all of {@code keywords}.
+     */
+    public FindMemoCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredListsByMemo(keywords);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredStudentList().size(),
+                model.getFilteredClassList().size(), String.join(" ", keywords)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindMemoCommand)) {
+            return false;
+        }
+
+        FindMemoCommand otherCommand = (FindMemoCommand) other;
+        return keywords.equals(otherCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+
+/**
+ * Finds and lists all students whose name has a word similar to any of the argument keywords, most similar first.
+ * Keyword matching is case insensitive and tolerates misspellings.
+ */
+public class FindSimilarNameCommand extends Command {
+
+    public static final String COMMAND_WORD = FindCommand.COMMAND_WORD;
+
+    /** Marks the keywords of a {@code find} as ones to match by similarity */
+    public static final String SIMILARITY_MARKER = "~";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + SIMILARITY_MARKER + ": Finds all students whose "
+            + "names contain a word similar to any of the specified keywords (case-insensitive, allowing for typos) "
+            + "and displays them as a list with index numbers, most similar first.\n"
+            + "Parameters: " + SIMILARITY_MARKER + "KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " " + SIMILARITY_MARKER + "alise bensen";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a FindSimilarNameCommand to find the students with names similar to {@code keywords}.
+     */
+    public FindSimilarNameCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredStudentListBySimilarName(keywords);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindSimilarNameCommand)) {
+            return false;
+        }
+
+        FindSimilarNameCommand otherFindSimilarNameCommand = (FindSimilarNameCommand) other;
+        return keywords.equals(otherFindSimilarNameCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
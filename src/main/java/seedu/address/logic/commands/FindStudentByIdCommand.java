@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.module.Class;
+import seedu.address.model.student.Id;
+import seedu.address.model.student.Student;
+
+/**
+ * Lists the students with the given id, together with the classes they are in.
+ */
+public class FindStudentByIdCommand extends Command {
+
+    public static final String COMMAND_WORD = "find" + " /id";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the students with the given id "
+            + "and displays them together with the classes they are in.\n"
+            + "Parameters: "
+            + PREFIX_ID + " STUDENT_ID"
+            + "\n"
+            + "Example: " + COMMAND_WORD + " A0251234Z";
+
+    public static final String MESSAGE_SUCCESS = "Listed all students in EduTrack with id %1$s (%2$d found).\n"
+            + "Classes: %3$s";
+
+    private final Id id;
+
+    /**
+     * Creates a FindStudentByIdCommand to find the students with the given {@code id}.
+     */
+    public FindStudentByIdCommand(Id id) {
+        requireNonNull(id);
+        this.id = id;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Student> matches = model.getStudentsById(id);
+        List<Class> classes = model.getClassesById(id);
+        model.updateFilteredStudentListById(id);
+        String classNames = classes.stream().map(Messages::formatClass).collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, id, matches.size(), classNames));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindStudentByIdCommand)) {
+            return false;
+        }
+
+        FindStudentByIdCommand otherCommand = (FindStudentByIdCommand) other;
+        return id.equals(otherCommand.id);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("id", id)
+                .toString();
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+import seedu.address.model.student.AtRiskPredicate;
+
+/**
+ * Lists the students at risk, who are absent from the current lesson and have attended few lessons.
+ */
+public class ListAtRiskCommand extends Command {
+
+    public static final String COMMAND_WORD = ListCommand.COMMAND_WORD + " /risk";
+
+    public static final String MESSAGE_SUCCESS = "Listed %1$d students absent from the current lesson who have "
+            + "attended fewer than " + AtRiskPredicate.MIN_LESSONS_ATTENDED + " lessons";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredStudentListToAtRisk();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredStudentList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof ListAtRiskCommand;
+    }
+}
@@ -3,16 +3,12 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 
-import java.util.List;
-
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.module.Class;
-import seedu.address.model.student.Student;
-import seedu.address.model.student.exceptions.StudentAlreadyMarkedPresent;
 
 /**
  * Marks all the student in a class as present.
@@ -41,15 +37,8 @@ public class MarkAllStudentPresentCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         Class studentClass = model.retrieveClass(targetClassIndex);
-        List<Student> studentList = studentClass.getStudentList();
-        for (Student studentToUnmark : studentList) {
-            Student editedStudent = studentToUnmark.duplicateStudent();
-            try {
-                model.markStudentPresent(studentToUnmark, studentClass, editedStudent);
-            } catch (StudentAlreadyMarkedPresent e) {
-                continue;
-            }
-        }
+        model.markStudentsAttendance(studentClass, studentClass.getStudentList(), true);
+        model.updateFilteredStudentListToClass(studentClass);
         return new CommandResult(String.format(MESSAGE_MARK_STUDENT_ATTENDANCE_SUCCESS,
                 Messages.formatClass(studentClass)));
     }
@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.module.Class;
+import seedu.address.model.student.Id;
+import seedu.address.model.student.Student;
+
+/**
+ * Marks the student with the given id as present in the class the student is in, or, if the student is in more than
+ * one class, in the one of them running now.
+ */
+public class MarkStudentPresentByIdCommand extends Command {
+    public static final String COMMAND_WORD = "mark" + " /id";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Marks the student with the given id as being present.\n"
+            + "Parameters: "
+            + PREFIX_ID + " STUDENT_ID"
+            + "\n"
+            + "Example: "
+            + COMMAND_WORD + " A0251234Z";
+    public static final String MESSAGE_STUDENT_ALREADY_MARKED = "%s has already been marked present!";
+    public static final String MESSAGE_MARK_STUDENT_ATTENDANCE_SUCCESS = "%s sucessfully marked present!";
+    public static final String MESSAGE_STUDENT_NOT_FOUND = "No student has the id %s!";
+    public static final String MESSAGE_AMBIGUOUS_ID = "%d students share the id %s! "
+            + "Mark them by their index in the class instead.";
+    public static final String MESSAGE_NOT_IN_CLASS = "%s is not in any class!";
+    public static final String MESSAGE_AMBIGUOUS_CLASS = "%s is in %d classes, but not in exactly one running now! "
+            + "Mark them by their index in the class instead.";
+    private final Id id;
+    private final Clock clock;
+
+    /**
+     * Command to mark the student with the given {@code id} present for lesson, reading the current time from the
+     * system clock.
+     * @param id Id of the student to mark
+     */
+    public MarkStudentPresentByIdCommand(Id id) {
+        this(id, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Command to mark the student with the given {@code id} present for lesson, reading the current time from
+     * {@code clock}.
+     */
+    public MarkStudentPresentByIdCommand(Id id, Clock clock) {
+        requireNonNull(id);
+        requireNonNull(clock);
+        this.id = id;
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Student> matches = model.getStudentsById(id);
+        if (matches.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_STUDENT_NOT_FOUND, id));
+        }
+        if (matches.size() > 1) {
+            throw new CommandException(String.format(MESSAGE_AMBIGUOUS_ID, matches.size(), id));
+        }
+
+        Student studentToMark = matches.get(0);
+        Class studentClass = getClassToMark(model, studentToMark);
+        if (model.markStudentsAttendance(studentClass, matches, true) == 0) {
+            throw new CommandException(String.format(MESSAGE_STUDENT_ALREADY_MARKED,
+                    Messages.formatStudent(studentToMark)));
+        }
+        model.updateFilteredStudentListById(id);
+        return new CommandResult(String.format(MESSAGE_MARK_STUDENT_ATTENDANCE_SUCCESS,
+                Messages.formatStudent(studentToMark)));
+    }
+
+    /**
+     * Returns the class of {@code student} to mark it present in: its only class, or else the only one of its
+     * classes running now.
+     */
+    private Class getClassToMark(Model model, Student student) throws CommandException {
+        List<Class> classes = model.getClassesById(id);
+        if (classes.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NOT_IN_CLASS, Messages.formatStudent(student)));
+        }
+        if (classes.size() == 1) {
+            return classes.get(0);
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Class> runningClasses = classes.stream()
+                .filter(c -> c.getClassSchedule() != null && c.getClassSchedule().isRunningAt(now))
+                .collect(Collectors.toList());
+        if (runningClasses.size() != 1) {
+            throw new CommandException(String.format(MESSAGE_AMBIGUOUS_CLASS, Messages.formatStudent(student),
+                    classes.size()));
+        }
+        return runningClasses.get(0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MarkStudentPresentByIdCommand)) {
+            return false;
+        }
+
+        MarkStudentPresentByIdCommand otherCommand = (MarkStudentPresentByIdCommand) other;
+        return this.id.equals(otherCommand.id)
+                && this.clock.equals(otherCommand.clock);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("id", this.id.toString())
+                .add("clock", this.clock)
+                .toString();
+    }
+}
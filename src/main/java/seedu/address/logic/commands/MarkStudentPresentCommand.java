@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENT;
 
+import java.util.List;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -13,7 +15,6 @@ import seedu.address.model.module.Class;
 import seedu.address.model.module.ClassName;
 import seedu.address.model.module.exceptions.ClassNotFoundException;
 import seedu.address.model.student.Student;
-import seedu.address.model.student.exceptions.StudentAlreadyMarkedPresent;
 
 /**
  * Marks a student in a Class in teh EduTrack as present.
@@ -56,14 +57,14 @@ public class MarkStudentPresentCommand extends Command {
         try {
             studentClass = model.getClass(className);
             studentToMark = studentClass.getStudentInClass(targetStudentIndex);
-            Student editedStudent = studentToMark.duplicateStudent();
-            model.markStudentPresent(studentToMark, studentClass, editedStudent);
-        } catch (StudentAlreadyMarkedPresent e) {
-            throw new CommandException(String.format(MESSAGE_STUDENT_ALREADY_MARKED,
-                    Messages.formatStudent(studentToMark)));
         } catch (ClassNotFoundException e) {
             throw new CommandException(String.format(MESSAGE_MISSING_CLASS_NAME, className));
         }
+        if (model.markStudentsAttendance(studentClass, List.of(studentToMark), true) == 0) {
+            throw new CommandException(String.format(MESSAGE_STUDENT_ALREADY_MARKED,
+                    Messages.formatStudent(studentToMark)));
+        }
+        model.updateFilteredStudentListToClass(studentClass);
         return new CommandResult(String.format(MESSAGE_MARK_STUDENT_ATTENDANCE_SUCCESS,
                 Messages.formatStudent(studentToMark)));
     }
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Lists the classes running at the current time.
+ */
+public class NowCommand extends Command {
+
+    public static final String COMMAND_WORD = "now";
+
+    public static final String MESSAGE_SUCCESS = "Listed %1$d classes running now";
+
+    private final Clock clock;
+
+    /**
+     * Creates a NowCommand that reads the current time from the system clock.
+     */
+    public NowCommand() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a NowCommand that reads the current time from {@code clock}.
+     */
+    public NowCommand(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredClassListToRunningAt(LocalDateTime.now(clock));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredClassList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NowCommand)) {
+            return false;
+        }
+
+        NowCommand otherNowCommand = (NowCommand) other;
+        return clock.equals(otherNowCommand.clock);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("clock", clock)
+                .toString();
+    }
+}
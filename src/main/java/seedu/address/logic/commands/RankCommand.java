@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.module.Class;
+import seedu.address.model.student.AttendanceRanking;
+import seedu.address.model.student.Student;
+
+/**
+ * Lists the students who attended the fewest lessons, with their rank and percentile, among all students or the
+ * students of a class.
+ */
+public class RankCommand extends Command {
+    public static final String COMMAND_WORD = "rank" + " /s";
+    public static final String CLASS_COMMAND_WORD = "rank" + " /c";
+
+    public static final int DEFAULT_LIMIT = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " or " + CLASS_COMMAND_WORD
+            + ": Lists the students who attended the fewest lessons, among all students or in a class.\n"
+            + "Parameters: "
+            + "[" + PREFIX_CLASS + " CLASS_INDEX] "
+            + "[" + PREFIX_TOP + " NUMBER_OF_STUDENTS]\n"
+            + "Example: " + CLASS_COMMAND_WORD + " 1 " + PREFIX_TOP + " 5";
+    public static final String MESSAGE_SUCCESS = "Students who attended the fewest lessons%1$s:\n%2$s";
+    public static final String MESSAGE_IN_CLASS = " in %1$s";
+    public static final String MESSAGE_STUDENT = "%1$d. %2$s: %3$d lessons (percentile %4$.1f)";
+    public static final String MESSAGE_NO_STUDENTS = "There are no students to rank.";
+
+    private final Index targetClassIndex;
+    private final int limit;
+
+    /**
+     * Creates a RankCommand over all students, listing up to {@code limit} of them.
+     */
+    public RankCommand(int limit) {
+        this.targetClassIndex = null;
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a RankCommand over the students of the class at {@code classIndex}, listing up to {@code limit} of
+     * them.
+     */
+    public RankCommand(Index classIndex, int limit) {
+        requireNonNull(classIndex);
+        this.targetClassIndex = classIndex;
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        AttendanceRanking ranking;
+        String scope;
+        if (targetClassIndex == null) {
+            ranking = model.getAttendanceRanking();
+            scope = "";
+        } else {
+            Class studentClass = model.retrieveClass(targetClassIndex);
+            ranking = model.getAttendanceRanking(studentClass);
+            scope = String.format(MESSAGE_IN_CLASS, Messages.formatClass(studentClass));
+        }
+
+        List<Student> students = ranking.getFewestLessonsAttended(limit);
+        if (students.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_STUDENTS);
+        }
+        List<String> lines = new ArrayList<>();
+        for (Student student : students) {
+            lines.add(String.format(MESSAGE_STUDENT, ranking.getAttendanceRank(student),
+                    Messages.formatStudent(student), ranking.getLessonsAttended(student),
+                    ranking.getAttendancePercentile(student)));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, scope, String.join("\n", lines)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RankCommand)) {
+            return false;
+        }
+
+        RankCommand otherRankCommand = (RankCommand) other;
+        return Objects.equals(targetClassIndex, otherRankCommand.targetClassIndex)
+                && limit == otherRankCommand.limit;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("classIndex", targetClassIndex)
+                .add("limit", limit)
+                .toString();
+    }
+}
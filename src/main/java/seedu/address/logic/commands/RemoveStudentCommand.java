@@ -61,8 +61,12 @@ public class RemoveStudentCommand extends RemoveCommand {
         }
         Student studentToDelete = studentList.get(studentIndex.getZeroBased());
 
-        model.deleteStudent(studentToDelete);
         model.deleteStudentFromClass(studentToDelete, studentClass);
+        boolean isInOtherClass = model.getClassesById(studentToDelete.getId()).stream()
+                .anyMatch(c -> c.hasStudentInClass(studentToDelete));
+        if (!isInOtherClass) {
+            model.deleteStudent(studentToDelete);
+        }
 
         Name studentName = studentToDelete.getName();
         return new CommandResult(String.format(MESSAGE_REMOVE_STUDENT_SUCCESS, studentName,
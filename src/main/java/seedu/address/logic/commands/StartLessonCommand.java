@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.module.Class;
+
+/**
+ * Starts a new lesson of a class, for which attendance is then marked.
+ */
+public class StartLessonCommand extends Command {
+    public static final String COMMAND_WORD = "lesson" + " /c";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Starts a new lesson of this class. Every student in the class is marked absent for it.\n"
+            + "Parameters: "
+            + PREFIX_CLASS + " CLASS_INDEX"
+            + "\n"
+            + "Example: "
+            + COMMAND_WORD + " 1";
+    public static final String MESSAGE_START_LESSON_SUCCESS = "Started lesson %1$d of %2$s!";
+    private final Index targetClassIndex;
+
+    /**
+     * Creates a StartLessonCommand to start a new lesson of the class at {@code classIndex}.
+     */
+    public StartLessonCommand(Index classIndex) {
+        requireNonNull(classIndex);
+        this.targetClassIndex = classIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Class studentClass = model.retrieveClass(targetClassIndex);
+        model.startLesson(studentClass);
+        model.updateFilteredStudentListToClass(studentClass);
+        return new CommandResult(String.format(MESSAGE_START_LESSON_SUCCESS,
+                studentClass.getAttendanceHistory().getLessonCount(), Messages.formatClass(studentClass)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StartLessonCommand)) {
+            return false;
+        }
+
+        StartLessonCommand otherStartLessonCommand = (StartLessonCommand) other;
+        return this.targetClassIndex.equals(otherStartLessonCommand.targetClassIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("classIndex", this.targetClassIndex.toString())
+                .toString();
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.module.Class;
+
+/**
+ * Shows the attendance statistics of a class.
+ */
+public class StatsCommand extends Command {
+    public static final String COMMAND_WORD = "stats" + " /c";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the attendance statistics of this class.\n"
+            + "Parameters: "
+            + PREFIX_CLASS + " CLASS_INDEX"
+            + "\n"
+            + "Example: "
+            + COMMAND_WORD + " 1";
+    public static final String MESSAGE_SUCCESS = "Attendance of %1$s:\n"
+            + "Lessons held: %2$d\n"
+            + "Current lesson: %3$d present, %4$d absent\n"
+            + "Average attendance: %5$.1f%%\n"
+            + "Students by lessons attended: %6$s";
+    public static final String MESSAGE_DISTRIBUTION_ENTRY = "%1$d lessons: %2$d";
+    private final Index targetClassIndex;
+
+    /**
+     * Creates a StatsCommand to show the attendance statistics of the class at {@code classIndex}.
+     */
+    public StatsCommand(Index classIndex) {
+        requireNonNull(classIndex);
+        this.targetClassIndex = classIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Class studentClass = model.retrieveClass(targetClassIndex);
+        return new CommandResult(formatStats(studentClass));
+    }
+
+    /**
+     * Formats the attendance statistics of {@code studentClass} for display to the user.
+     */
+    public static String formatStats(Class studentClass) {
+        String distribution = studentClass.getAttendanceDistribution().entrySet().stream()
+                .map(StatsCommand::formatDistributionEntry)
+                .collect(Collectors.joining(", "));
+        return String.format(MESSAGE_SUCCESS, Messages.formatClass(studentClass),
+                studentClass.getAttendanceHistory().getLessonCount(), studentClass.getPresentCount(),
+                studentClass.getAbsentCount(), studentClass.getAverageAttendanceRate(), distribution);
+    }
+
+    private static String formatDistributionEntry(Map.Entry<Integer, Integer> entry) {
+        return String.format(MESSAGE_DISTRIBUTION_ENTRY, entry.getKey(), entry.getValue());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return this.targetClassIndex.equals(otherStatsCommand.targetClassIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("classIndex", this.targetClassIndex.toString())
+                .toString();
+    }
+}
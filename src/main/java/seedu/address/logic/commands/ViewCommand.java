@@ -2,14 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Predicate;
-
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.module.Class;
-import seedu.address.model.student.Student;
 
 /**
  * Lists all students in the specified class to the user.
@@ -44,12 +41,7 @@ public class ViewCommand extends Command {
         }
 
         Class classToView = model.getClassByIndex(classIndex);
-        model.updateFilteredStudentList(new Predicate<Student>() {
-            @Override
-            public boolean test(Student student) {
-                return classToView.getStudentList().contains(student);
-            }
-        });
+        model.updateFilteredStudentListToClass(classToView);
         return new CommandResult(String.format(MESSAGE_SUCCESS, classToView.getClassName()));
     }
 
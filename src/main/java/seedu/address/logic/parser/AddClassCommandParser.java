@@ -35,8 +35,8 @@ public class AddClassCommandParser implements Parser<AddClassCommand> {
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLASS);
         ClassName className = ParserUtil.parseClassName(argMultimap.getValue(PREFIX_CLASS).get());
         UniqueStudentList emptyStudentList = new UniqueStudentList();
-        Memo memo = new Memo(" ");
-        Schedule schedule = new Schedule();
+        Memo memo = Memo.of(" ");
+        Schedule schedule = Schedule.of(" ");
         Class c = new Class(className, emptyStudentList, memo, schedule);
 
         return new AddClassCommand(c);
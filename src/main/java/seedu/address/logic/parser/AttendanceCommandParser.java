@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LAST;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.AttendanceCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AttendanceCommand object.
+ */
+public class AttendanceCommandParser implements Parser<AttendanceCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AttendanceCommand
+     * and returns an AttendanceCommand object for execution.
+     * @throws ParseException if the user input does not follow the expected format
+     */
+    public AttendanceCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS, PREFIX_FROM, PREFIX_TO,
+                PREFIX_LAST);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_CLASS)
+                || !argMultimap.getPreamble().isEmpty()
+                || (arePrefixesPresent(argMultimap, PREFIX_LAST)
+                        && (argMultimap.getValue(PREFIX_FROM).isPresent()
+                                || argMultimap.getValue(PREFIX_TO).isPresent()))) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLASS, PREFIX_FROM, PREFIX_TO, PREFIX_LAST);
+        try {
+            Index classIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_CLASS).get());
+            Optional<String> recentLessons = argMultimap.getValue(PREFIX_LAST);
+            if (recentLessons.isPresent()) {
+                return new AttendanceCommand(classIndex, ParserUtil.parseIndex(recentLessons.get()).getOneBased());
+            }
+            Integer firstLesson = parseLesson(argMultimap.getValue(PREFIX_FROM));
+            Integer lastLesson = parseLesson(argMultimap.getValue(PREFIX_TO));
+            return new AttendanceCommand(classIndex, firstLesson, lastLesson);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+    /**
+     * Parses a lesson number counted from 1, or returns null if none was given.
+     */
+    private static Integer parseLesson(Optional<String> lesson) throws ParseException {
+        if (lesson.isEmpty()) {
+            return null;
+        }
+        return ParserUtil.parseIndex(lesson.get()).getOneBased();
+    }
+
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
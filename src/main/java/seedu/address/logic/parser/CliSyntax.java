@@ -16,5 +16,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_ID = new Prefix("/id");
     public static final Prefix PREFIX_MEMO = new Prefix("/m");
     public static final Prefix PREFIX_SCHEDULE = new Prefix("/t");
+    public static final Prefix PREFIX_FROM = new Prefix("/from");
+    public static final Prefix PREFIX_TO = new Prefix("/to");
+    public static final Prefix PREFIX_LAST = new Prefix("/last");
+    public static final Prefix PREFIX_TOP = new Prefix("/top");
 
 }
@@ -11,6 +11,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddClassCommand;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddStudentCommand;
+import seedu.address.logic.commands.AttendanceCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
@@ -18,14 +19,25 @@ import seedu.address.logic.commands.EditClassCommand;
 import seedu.address.logic.commands.EditStudentCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindMemoCommand;
+import seedu.address.logic.commands.FindSimilarNameCommand;
+import seedu.address.logic.commands.FindStudentByIdCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListAtRiskCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkAllStudentPresentCommand;
 import seedu.address.logic.commands.MarkStudentAbsentCommand;
+import seedu.address.logic.commands.MarkStudentPresentByIdCommand;
 import seedu.address.logic.commands.MarkStudentPresentCommand;
+import seedu.address.logic.commands.NowCommand;
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemoveClassCommand;
 import seedu.address.logic.commands.RemoveCommand;
 import seedu.address.logic.commands.RemoveStudentCommand;
+import seedu.address.logic.commands.StartLessonCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -120,9 +132,21 @@ public class EduTrackParser {
         case MarkStudentPresentCommand.COMMAND_WORD:
             return new MarkStudentPresentCommandParser().parse(arguments);
 
+        case MarkStudentPresentByIdCommand.COMMAND_WORD:
+            return new MarkStudentPresentByIdCommandParser().parse(arguments);
+
         case MarkStudentAbsentCommand.COMMAND_WORD:
             return new MarkStudentAbsentCommandParser().parse(arguments);
 
+        case StartLessonCommand.COMMAND_WORD:
+            return new StartLessonCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser().parse(arguments);
+
+        case AttendanceCommand.COMMAND_WORD:
+            return new AttendanceCommandParser().parse(arguments);
+
         case EditStudentCommand.COMMAND_WORD:
             return new EditStudentCommandParser().parse(arguments);
 
@@ -142,11 +166,36 @@ public class EduTrackParser {
             return new ClearCommand();
 
         case FindCommand.COMMAND_WORD:
+            if (arguments.trim().startsWith(FindSimilarNameCommand.SIMILARITY_MARKER)) {
+                return new FindSimilarNameCommandParser().parse(arguments);
+            }
             return new FindCommandParser().parse(arguments);
 
+        case FindMemoCommand.COMMAND_WORD:
+            return new FindMemoCommandParser().parse(arguments);
+
+        case FindStudentByIdCommand.COMMAND_WORD:
+            return new FindStudentByIdCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case ListAtRiskCommand.COMMAND_WORD:
+            return new ListAtRiskCommand();
+
+        case RankCommand.COMMAND_WORD:
+        case RankCommand.CLASS_COMMAND_WORD:
+            return new RankCommandParser().parse(arguments);
+
+        case NowCommand.COMMAND_WORD:
+            return new NowCommand();
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
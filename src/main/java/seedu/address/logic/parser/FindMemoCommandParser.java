@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMO;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.FindMemoCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindMemoCommand object
+ */
+public class FindMemoCommandParser implements Parser<FindMemoCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindMemoCommand
+     * and returns a FindMemoCommand object for execution.
+     * @throws ParseException if the user input does not follow the expected format
+     */
+    public FindMemoCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MEMO);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_MEMO)
+                || !argMultimap.getPreamble().isEmpty()
+                || argMultimap.getValue(PREFIX_MEMO).get().trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindMemoCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MEMO);
+        String[] keywords = argMultimap.getValue(PREFIX_MEMO).get().trim().split("\\s+");
+        return new FindMemoCommand(Arrays.asList(keywords));
+    }
+
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
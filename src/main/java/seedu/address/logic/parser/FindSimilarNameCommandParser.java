@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import seedu.address.logic.commands.FindSimilarNameCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindSimilarNameCommand object
+ */
+public class FindSimilarNameCommandParser implements Parser<FindSimilarNameCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindSimilarNameCommand
+     * and returns a FindSimilarNameCommand object for execution.
+     * Each keyword may be marked with {@link FindSimilarNameCommand#SIMILARITY_MARKER}, but only the first must be.
+     * Repeated keywords are only kept once.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindSimilarNameCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (!trimmedArgs.startsWith(FindSimilarNameCommand.SIMILARITY_MARKER)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSimilarNameCommand.MESSAGE_USAGE));
+        }
+
+        Set<String> nameKeywords = new LinkedHashSet<>();
+        for (String keyword : trimmedArgs.split("\\s+")) {
+            String unmarkedKeyword = keyword.startsWith(FindSimilarNameCommand.SIMILARITY_MARKER)
+                    ? keyword.substring(FindSimilarNameCommand.SIMILARITY_MARKER.length())
+                    : keyword;
+            if (!unmarkedKeyword.isEmpty()) {
+                nameKeywords.add(unmarkedKeyword);
+            }
+        }
+        if (nameKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSimilarNameCommand.MESSAGE_USAGE));
+        }
+
+        return new FindSimilarNameCommand(new ArrayList<>(nameKeywords));
+    }
+
+}
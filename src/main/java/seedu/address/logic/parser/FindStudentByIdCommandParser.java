@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.FindStudentByIdCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.student.Id;
+
+/**
+ * Parses input arguments and creates a new FindStudentByIdCommand object
+ */
+public class FindStudentByIdCommandParser implements Parser<FindStudentByIdCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindStudentByIdCommand
+     * and returns a FindStudentByIdCommand object for execution.
+     * @throws ParseException if the user input does not follow the expected format
+     */
+    public FindStudentByIdCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ID);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_ID)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindStudentByIdCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ID);
+        Id id = ParserUtil.parseId(argMultimap.getValue(PREFIX_ID).get());
+        return new FindStudentByIdCommand(id);
+    }
+
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.MarkStudentPresentByIdCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.student.Id;
+
+/**
+ * Parses input arguments and creates a new MarkStudentPresentByIdCommand object
+ */
+public class MarkStudentPresentByIdCommandParser implements Parser<MarkStudentPresentByIdCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MarkStudentPresentByIdCommand
+     * and returns a MarkStudentPresentByIdCommand object for execution.
+     * @throws ParseException if the user input does not follow the expected format
+     */
+    public MarkStudentPresentByIdCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ID);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_ID)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    MarkStudentPresentByIdCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ID);
+        Id id = ParserUtil.parseId(argMultimap.getValue(PREFIX_ID).get());
+        return new MarkStudentPresentByIdCommand(id);
+    }
+
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
@@ -50,7 +50,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -112,7 +112,7 @@ public class ParserUtil {
         if (!ClassName.isValidClassName(trimmedClassName)) {
             throw new ParseException(ClassName.MESSAGE_CONSTRAINTS);
         }
-        return new ClassName(trimmedClassName);
+        return ClassName.of(trimmedClassName);
     }
 
     /**
@@ -127,7 +127,7 @@ public class ParserUtil {
         if (!Id.isValidId(trimmedId)) {
             throw new ParseException(Id.MESSAGE_CONSTRAINTS);
         }
-        return new Id(trimmedId);
+        return Id.of(trimmedId);
     }
 
     /**
@@ -142,7 +142,7 @@ public class ParserUtil {
         if (!Memo.isValidMemo(trimmedMemo)) {
             throw new ParseException(Memo.MESSAGE_CONSTRAINTS);
         }
-        return new Memo(trimmedMemo);
+        return Memo.of(trimmedMemo);
     }
 
     /**
@@ -157,6 +157,6 @@ public class ParserUtil {
         if (!Schedule.isValidSchedule(trimmedClassSchedule)) {
             throw new ParseException(Schedule.MESSAGE_CONSTRAINTS);
         }
-        return new Schedule(trimmedClassSchedule);
+        return Schedule.of(trimmedClassSchedule);
     }
 }
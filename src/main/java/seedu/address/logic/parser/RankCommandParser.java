@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RankCommand object
+ */
+public class RankCommandParser implements Parser<RankCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RankCommand
+     * and returns a RankCommand object for execution.
+     * @throws ParseException if the user input does not follow the expected format
+     */
+    public RankCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_STUDENT, PREFIX_CLASS, PREFIX_TOP);
+
+        Optional<String> allStudents = argMultimap.getValue(PREFIX_STUDENT);
+        Optional<String> classIndex = argMultimap.getValue(PREFIX_CLASS);
+        if (!argMultimap.getPreamble().isEmpty()
+                || allStudents.isPresent() == classIndex.isPresent()
+                || (allStudents.isPresent() && !allStudents.get().isEmpty())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RankCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_STUDENT, PREFIX_CLASS, PREFIX_TOP);
+        try {
+            Optional<String> top = argMultimap.getValue(PREFIX_TOP);
+            int limit = top.isPresent() ? ParserUtil.parseIndex(top.get()).getOneBased() : RankCommand.DEFAULT_LIMIT;
+            if (classIndex.isPresent()) {
+                Index index = ParserUtil.parseIndex(classIndex.get());
+                return new RankCommand(index, limit);
+            }
+            return new RankCommand(limit);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RankCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
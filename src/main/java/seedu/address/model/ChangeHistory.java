@@ -0,0 +1,151 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Records the changes made to the data of the model, grouped into steps that can be undone and redone.
+ * Each change is recorded as a pair of operations, one undoing it and one making it again, which hold only the
+ * data the change touched. A step therefore takes memory in proportion to what it changed rather than to the size
+ * of the data, and undoing or redoing it costs about as much as making it did.
+ * Only a limited number of steps are kept, the oldest being forgotten first, so that a long session does not hold
+ * on to every change it made.
+ */
+class ChangeHistory {
+
+    /** The number of steps kept to undo by default. */
+    static final int MAX_UNDOABLE_STEPS = 100;
+
+    private final Deque<List<Change>> undoableSteps = new ArrayDeque<>();
+    private final Deque<List<Change>> redoableSteps = new ArrayDeque<>();
+    private final int maxUndoableSteps;
+    private List<Change> pendingChanges = new ArrayList<>();
+
+    /**
+     * Creates a history that keeps up to {@link #MAX_UNDOABLE_STEPS} steps to undo.
+     */
+    ChangeHistory() {
+        this(MAX_UNDOABLE_STEPS);
+    }
+
+    /**
+     * Creates a history that keeps up to {@code maxUndoableSteps} steps to undo, which must be positive.
+     */
+    ChangeHistory(int maxUndoableSteps) {
+        checkArgument(maxUndoableSteps > 0);
+        this.maxUndoableSteps = maxUndoableSteps;
+    }
+
+    /**
+     * Records a change that was just made, which {@code undo} undoes and {@code redo} makes again.
+     */
+    void record(Runnable undo, Runnable redo) {
+        requireNonNull(undo);
+        requireNonNull(redo);
+        pendingChanges.add(new Change(undo, redo));
+    }
+
+    /**
+     * Groups the changes recorded since the last step into a new step, and forgets the steps that were undone.
+     * The oldest step is forgotten if there are then more steps than are kept.
+     * Does nothing if no change was recorded.
+     */
+    void commit() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        undoableSteps.push(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        redoableSteps.clear();
+        if (undoableSteps.size() > maxUndoableSteps) {
+            undoableSteps.removeLast();
+        }
+    }
+
+    /**
+     * Undoes the changes recorded since the last step, from the last to the first, and forgets them.
+     * The steps to undo and redo are left as they are.
+     *
+     * @return true if there were any changes to undo.
+     */
+    boolean discard() {
+        if (pendingChanges.isEmpty()) {
+            return false;
+        }
+        List<Change> changes = pendingChanges;
+        pendingChanges = new ArrayList<>();
+        ListIterator<Change> iterator = changes.listIterator(changes.size());
+        while (iterator.hasPrevious()) {
+            iterator.previous().undo.run();
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if there is a step to undo, counting the changes not yet grouped into a step.
+     */
+    boolean canUndo() {
+        return !pendingChanges.isEmpty() || !undoableSteps.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone step to redo that no later change has replaced.
+     */
+    boolean canRedo() {
+        return pendingChanges.isEmpty() && !redoableSteps.isEmpty();
+    }
+
+    /**
+     * Undoes the last step, undoing its changes from the last to the first.
+     * The changes not yet grouped into a step are grouped into one first.
+     *
+     * @throws IllegalStateException if there is no step to undo.
+     */
+    void undo() {
+        commit();
+        if (undoableSteps.isEmpty()) {
+            throw new IllegalStateException("There is no step to undo");
+        }
+        List<Change> step = undoableSteps.pop();
+        ListIterator<Change> changes = step.listIterator(step.size());
+        while (changes.hasPrevious()) {
+            changes.previous().undo.run();
+        }
+        redoableSteps.push(step);
+    }
+
+    /**
+     * Redoes the last step undone, making its changes again from the first to the last.
+     *
+     * @throws IllegalStateException if there is no step to redo.
+     */
+    void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no step to redo");
+        }
+        List<Change> step = redoableSteps.pop();
+        for (Change change : step) {
+            change.redo.run();
+        }
+        undoableSteps.push(step);
+    }
+
+    /**
+     * A change to the data, with the operations that undo and redo it.
+     */
+    private static class Change {
+        private final Runnable undo;
+        private final Runnable redo;
+
+        private Change(Runnable undo, Runnable redo) {
+            this.undo = undo;
+            this.redo = redo;
+        }
+    }
+}
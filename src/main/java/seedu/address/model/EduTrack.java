@@ -2,21 +2,38 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.PrefixTrie;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.module.Class;
 import seedu.address.model.module.ClassName;
+import seedu.address.model.module.Schedule;
 import seedu.address.model.module.UniqueClassList;
 import seedu.address.model.module.exceptions.ClassNotFoundException;
+import seedu.address.model.student.AttendanceRanking;
+import seedu.address.model.student.Id;
+import seedu.address.model.student.NameContainsKeywordsPredicate;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.UniqueStudentList;
+import seedu.address.model.student.exceptions.DuplicateStudentException;
+import seedu.address.model.student.exceptions.StudentNotFoundException;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * The student list is the canonical store of students; classes refer to the same {@code Student} instances,
+ * so a student is only ever replaced or removed through this class.
  */
 public class EduTrack implements ReadOnlyEduTrack {
 
@@ -45,6 +62,12 @@ public class EduTrack implements ReadOnlyEduTrack {
         classes = new UniqueClassList();
     }
 
+    private final StudentIdIndex idIndex = new StudentIdIndex();
+    private final StudentNameIndex nameIndex = new StudentNameIndex();
+    private final MemoIndex<Student> studentMemoIndex = new MemoIndex<>();
+    private final PrefixTrie<ClassName> classNameIndex = new PrefixTrie<>();
+    private final MemoIndex<Class> classMemoIndex = new MemoIndex<>();
+
     public EduTrack() {}
 
     /**
@@ -62,7 +85,14 @@ public class EduTrack implements ReadOnlyEduTrack {
      * {@code students} must not contain duplicate students.
      */
     public void setStudents(List<Student> students) {
-        this.students.setStudents(students);
+        reindexDetails(students);
+        try {
+            this.students.setStudents(students);
+        } catch (DuplicateStudentException e) {
+            reindexDetails(this.students);
+            throw e;
+        }
+        idIndex.setStudents(this.students);
     }
 
     /**
@@ -71,15 +101,27 @@ public class EduTrack implements ReadOnlyEduTrack {
      */
     public void setClasses(List<Class> classes) {
         this.classes.setClasses(classes);
+        classMemoIndex.clear();
+        this.classes.forEach(c -> classMemoIndex.add(c, c.getClassMemo()));
+        idIndex.setClasses(this.classes);
+        classNameIndex.clear();
+        for (Class c : this.classes) {
+            classNameIndex.add(c.getClassName().className, c.getClassName());
+        }
     }
 
     /**
      * Resets the existing data of this {@code EduTrack} with {@code newData}.
+     * Classes are duplicated so that changes to the classes of one {@code EduTrack} do not affect the other.
      */
     public void resetData(ReadOnlyEduTrack newData) {
         requireNonNull(newData);
         setStudents(newData.getStudentList());
-        setClasses(newData.getClassList());
+        List<Class> classCopies = new ArrayList<>(newData.getClassList().size());
+        for (Class c : newData.getClassList()) {
+            classCopies.add(c.duplicateClass());
+        }
+        setClasses(classCopies);
     }
 
     //// student-level operations
@@ -93,16 +135,38 @@ public class EduTrack implements ReadOnlyEduTrack {
         return students.contains(student);
     }
 
+    /**
+     * Returns the position of {@code student} in the student list, or -1 if it is not in EduTrack.
+     */
+    public int indexOfStudent(Student student) {
+        return students.indexOf(student);
+    }
+
     /**
      * Adds a student to the address book.
      * The student must not already exist in the address book.
      */
     public void addStudent(Student p) {
-        students.add(p);
+        addStudent(students.asUnmodifiableObservableList().size(), p);
+    }
+
+    /**
+     * Adds a student to the address book at {@code index} of the student list.
+     * The student must not already exist in the address book.
+     */
+    public void addStudent(int index, Student p) {
+        indexDetails(p);
+        try {
+            students.add(index, p);
+        } catch (DuplicateStudentException e) {
+            unindexDetails(p);
+            throw e;
+        }
+        idIndex.addStudent(p);
     }
 
     /**
-     * Replaces the given student {@code target} in the list with
+     * Replaces the given student {@code target} in the list, and in every class that refers to it, with
      * {@code editedStudent}.
      * {@code target} must exist in the address book.
      * The student identity of {@code editedStudent} must not be the same as another
@@ -111,22 +175,256 @@ public class EduTrack implements ReadOnlyEduTrack {
     public void setStudent(Student target, Student editedStudent) {
         requireNonNull(editedStudent);
 
-        students.setStudent(target, editedStudent);
+        // Details are indexed before the list changes, so that searches shown in the list see them
+        indexDetails(editedStudent);
+        try {
+            students.setStudent(target, editedStudent);
+        } catch (StudentNotFoundException | DuplicateStudentException e) {
+            unindexDetails(editedStudent);
+            throw e;
+        }
+        unindexDetails(target);
+        for (Class c : getClassesContaining(target)) {
+            c.setStudent(target, editedStudent);
+            idIndex.setStudentInClass(target, editedStudent, c);
+        }
+        idIndex.setStudent(target, editedStudent);
     }
 
     /**
-     * Removes {@code key} from this {@code EduTrack}.
+     * Replaces each key of {@code replacements} with the student it maps to, in the student list and in every
+     * class that refers to it. Each affected list is updated once for the whole batch.
+     * Every key must exist in the address book.
+     * The edited students must not be the same as another existing student in the address book.
+     */
+    public void replaceStudents(Map<Student, Student> replacements) {
+        requireNonNull(replacements);
+        for (Student target : replacements.keySet()) {
+            if (!students.contains(target)) {
+                throw new StudentNotFoundException();
+            }
+        }
+
+        for (Student editedStudent : replacements.values()) {
+            indexDetails(editedStudent);
+        }
+        try {
+            students.replaceStudents(replacements);
+        } catch (DuplicateStudentException e) {
+            replacements.values().forEach(editedStudent -> unindexDetails(editedStudent));
+            throw e;
+        }
+        replacements.keySet().forEach(target -> unindexDetails(target));
+        Set<Class> affectedClasses = new LinkedHashSet<>();
+        for (Map.Entry<Student, Student> replacement : replacements.entrySet()) {
+            for (Class c : getClassesContaining(replacement.getKey())) {
+                affectedClasses.add(c);
+                idIndex.setStudentInClass(replacement.getKey(), replacement.getValue(), c);
+            }
+            idIndex.setStudent(replacement.getKey(), replacement.getValue());
+        }
+        for (Class c : affectedClasses) {
+            c.replaceStudents(replacements);
+        }
+    }
+
+    /**
+     * Removes {@code key} from this {@code EduTrack}, along with every class that refers to it.
      * {@code key} must exist in the address book.
      */
     public void removeStudent(Student key) {
         students.remove(key);
+        unindexDetails(key);
+        for (Class c : getClassesContaining(key)) {
+            c.removeStudentFromClass(key);
+            idIndex.removeStudentFromClass(key, c);
+        }
+        idIndex.removeStudent(key);
+    }
+
+    /**
+     * Indexes the details of {@code student} that can be searched by, apart from its id.
+     */
+    private void indexDetails(Student student) {
+        nameIndex.addStudent(student);
+        studentMemoIndex.add(student, student.getMemo());
+    }
+
+    /**
+     * Forgets the details of {@code student} indexed by {@link #indexDetails(Student)}.
+     */
+    private void unindexDetails(Student student) {
+        nameIndex.removeStudent(student);
+        studentMemoIndex.remove(student, student.getMemo());
+    }
+
+    /**
+     * Replaces the indexed details with those of {@code students}.
+     */
+    private void reindexDetails(Iterable<Student> students) {
+        nameIndex.setStudents(students);
+        studentMemoIndex.clear();
+        students.forEach(student -> studentMemoIndex.add(student, student.getMemo()));
+    }
+
+    /**
+     * Returns the students whose id is {@code id}.
+     */
+    public List<Student> getStudentsById(Id id) {
+        return idIndex.getStudents(id);
+    }
+
+    /**
+     * Returns the students whose name contains any of {@code keywords} as a whole word, ignoring case, looked up in
+     * the name index without testing every student.
+     * A keyword ending with {@link NameContainsKeywordsPredicate#WILDCARD} matches any word starting with the rest
+     * of the keyword.
+     */
+    public Set<Student> getStudentsByName(Collection<String> keywords) {
+        return nameIndex.getStudentsWithNameContainingAny(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests whether a student's name contains any of {@code keywords}, matching the same
+     * students as {@link #getStudentsByName(Collection)}. It tests the student alone, and so can tell whether a
+     * student added later matches.
+     */
+    public Predicate<Student> nameContainsAny(Collection<String> keywords) {
+        return StudentNameIndex.nameContainsAny(keywords);
+    }
+
+    /**
+     * Returns the students with a word of their name similar to any of {@code keywords}, each mapped to its
+     * similarity from 0 to 1, looked up in the name index. Only students at least somewhat similar are included.
+     */
+    public Map<Student, Double> getSimilarStudents(Collection<String> keywords) {
+        return nameIndex.getSimilarStudents(keywords);
+    }
+
+    /**
+     * Returns the similarity from 0 to 1 of the name of {@code student} to {@code keywords}, as
+     * {@link #getSimilarStudents(Collection)} measures it, or 0 if the student would not be included there.
+     */
+    public double getNameSimilarity(Student student, Collection<String> keywords) {
+        return StudentNameIndex.getSimilarity(student.getName(), keywords);
+    }
+
+    /**
+     * Returns the students whose memo contains all of {@code keywords} as whole words, ignoring case and
+     * punctuation, looked up in the memo index without reading every memo.
+     */
+    public Set<Student> getStudentsByMemo(Collection<String> keywords) {
+        return studentMemoIndex.getOwnersContainingAll(MemoIndex.wordsOf(keywords));
+    }
+
+    /**
+     * Returns the classes whose memo contains all of {@code keywords} as whole words, ignoring case and
+     * punctuation, looked up in the memo index without reading every memo.
+     */
+    public Set<Class> getClassesByMemo(Collection<String> keywords) {
+        return classMemoIndex.getOwnersContainingAll(MemoIndex.wordsOf(keywords));
     }
+
+    /**
+     * Returns a predicate that tests whether a student's memo contains all of {@code keywords}, matching the same
+     * students as {@link #getStudentsByMemo(Collection)}. It reads the student's own memo, and so can tell whether
+     * a student added later matches.
+     */
+    public Predicate<Student> studentMemoContainsAll(Collection<String> keywords) {
+        Set<String> words = MemoIndex.wordsOf(keywords);
+        return student -> MemoIndex.containsAll(student.getMemo(), words);
+    }
+
+    /**
+     * Returns a predicate that tests whether a class's memo contains all of {@code keywords}, matching the same
+     * classes as {@link #getClassesByMemo(Collection)}. It reads the class's own memo, and so can tell whether
+     * a class added later matches.
+     */
+    public Predicate<Class> classMemoContainsAll(Collection<String> keywords) {
+        Set<String> words = MemoIndex.wordsOf(keywords);
+        return c -> MemoIndex.containsAll(c.getClassMemo(), words);
+    }
+
+    /**
+     * Returns up to {@code limit} words of student names that start with {@code prefix}, ignoring case, in
+     * alphabetical order.
+     */
+    public List<String> getNameWordsWithPrefix(String prefix, int limit) {
+        return nameIndex.getWordsWithPrefix(prefix, limit);
+    }
+
+    /**
+     * Returns the longest prefix shared by every word of a student name that starts with {@code prefix}, ignoring
+     * case, or an empty {@code Optional} if no such word starts with {@code prefix}.
+     */
+    public Optional<String> getNameWordsCommonPrefix(String prefix) {
+        return nameIndex.getWordsCommonPrefix(prefix);
+    }
+
+    //// class membership operations
+
+    /**
+     * Adds {@code student} to {@code studentClass}.
+     * The student must not already exist in the class.
+     */
+    public void addStudentToClass(Student student, Class studentClass) {
+        studentClass.addStudentToClass(student);
+        idIndex.addStudentToClass(student, studentClass);
+    }
+
+    /**
+     * Adds {@code student} to {@code studentClass} at {@code index} of its class list.
+     * The student must not already exist in the class.
+     */
+    public void addStudentToClass(Student student, Class studentClass, int index) {
+        studentClass.addStudentToClass(index, student);
+        idIndex.addStudentToClass(student, studentClass);
+    }
+
+    /**
+     * Removes {@code student} from {@code studentClass}.
+     * The student must exist in the class.
+     */
+    public void removeStudentFromClass(Student student, Class studentClass) {
+        studentClass.removeStudentFromClass(student);
+        idIndex.removeStudentFromClass(student, studentClass);
+    }
+
+    /**
+     * Returns the classes containing a student whose id is {@code id}.
+     */
+    public List<Class> getClassesById(Id id) {
+        return idIndex.getClasses(id);
+    }
+
+    /**
+     * Returns the classes containing {@code student}.
+     */
+    public List<Class> getClassesContaining(Student student) {
+        List<Class> candidates = idIndex.getClasses(student.getId());
+        candidates.removeIf(c -> !c.hasStudentInClass(student));
+        return candidates;
+    }
+
+    //// class-level operations
+
     /**
      * Adds a class to EduTrack.
      * The student must not already exist in EduTrack.
      */
     public void addClass(Class c) {
-        classes.add(c);
+        addClass(Index.fromZeroBased(classes.size()), c);
+    }
+
+    /**
+     * Adds a class to EduTrack at {@code index} of the class list.
+     * The class must not already exist in EduTrack.
+     */
+    public void addClass(Index index, Class c) {
+        classes.add(index, c);
+        classMemoIndex.add(c, c.getClassMemo());
+        idIndex.addClass(c);
+        classNameIndex.add(c.getClassName().className, c.getClassName());
     }
 
     /**
@@ -137,12 +435,23 @@ public class EduTrack implements ReadOnlyEduTrack {
         return classes.contains(c);
     }
 
+    /**
+     * Returns the position of {@code c} in the class list, or -1 if it is not in EduTrack.
+     */
+    public int indexOfClass(Class c) {
+        return classes.indexOf(c);
+    }
+
     /**
      * Removes a class from EduTrack.
      * The class must exist in EduTrack
      */
     public void removeClass(Class c) throws ClassNotFoundException {
+        Class removed = classes.get(c.getClassName());
         this.classes.remove(c);
+        classMemoIndex.remove(removed, removed.getClassMemo());
+        idIndex.removeClass(removed);
+        classNameIndex.remove(removed.getClassName().className, removed.getClassName());
     }
 
     /**
@@ -151,13 +460,7 @@ public class EduTrack implements ReadOnlyEduTrack {
      * @throws ClassNotFoundException when no Class in EduTrack class list has that classname
      */
     public Class getClass(ClassName className) throws ClassNotFoundException {
-        for (Class c : classes) {
-            if (c.getClassName().equals(className)) {
-                return c;
-            }
-        }
-        // if no matching className, class do not exist in unique class list
-        throw new ClassNotFoundException();
+        return classes.get(className);
     }
 
     public Class getClassByIndex(Index classIndex) {
@@ -169,6 +472,27 @@ public class EduTrack implements ReadOnlyEduTrack {
         return classes.size();
     }
 
+    /**
+     * Returns the ranking of every student in EduTrack by the number of lessons they attended.
+     */
+    public AttendanceRanking getAttendanceRanking() {
+        return students;
+    }
+
+    /**
+     * Returns the classes running on {@code day} at {@code minute} minutes after midnight.
+     */
+    public List<Class> getClassesRunningAt(DayOfWeek day, int minute) {
+        return classes.getClassesRunningAt(day, minute);
+    }
+
+    /**
+     * Returns the classes whose schedule clashes with {@code schedule}.
+     */
+    public List<Class> getClassesClashingWith(Schedule schedule) {
+        return classes.getClassesClashingWith(schedule);
+    }
+
     /**
      * Replaces the given class {@code target} in the list with
      * {@code editedClass}.
@@ -179,7 +503,31 @@ public class EduTrack implements ReadOnlyEduTrack {
     public void setClass(Index index, Class editedClass) {
         requireNonNull(editedClass);
 
+        Class target = classes.get(index);
         classes.setClass(index, editedClass);
+        // The edited class is indexed after the class it replaces is removed, as both have the same name when
+        // only the other details are edited
+        classMemoIndex.remove(target, target.getClassMemo());
+        classMemoIndex.add(editedClass, editedClass.getClassMemo());
+        idIndex.removeClass(target);
+        idIndex.addClass(editedClass);
+        classNameIndex.remove(target.getClassName().className, target.getClassName());
+        classNameIndex.add(editedClass.getClassName().className, editedClass.getClassName());
+    }
+
+    /**
+     * Returns up to {@code limit} class names that start with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> getClassNamesWithPrefix(String prefix, int limit) {
+        return classNameIndex.getKeysWithPrefix(prefix, limit);
+    }
+
+    /**
+     * Returns the longest prefix shared by every class name that starts with {@code prefix}, ignoring case, or an
+     * empty {@code Optional} if no class name starts with {@code prefix}.
+     */
+    public Optional<String> getClassNamesCommonPrefix(String prefix) {
+        return classNameIndex.getCommonPrefix(prefix);
     }
     //// util methods
 
@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import java.util.Map;
+
+import seedu.address.model.module.Class;
+import seedu.address.model.student.Student;
+
+/**
+ * Listens to the changes made to the data of EduTrack, told one at a time in the order they are made.
+ * Students and classes are identified by their positions in the lists of EduTrack, and students in a class by
+ * their positions in the class, so that making the same changes in the same order to a copy of the data made
+ * before them gives the same data.
+ */
+public interface EduTrackChangeListener {
+
+    /**
+     * Called after {@code student} is added at {@code index} of the student list.
+     */
+    void studentAdded(int index, Student student);
+
+    /**
+     * Called after the student at {@code index} of the student list is removed, along with its place in every
+     * class.
+     */
+    void studentRemoved(int index);
+
+    /**
+     * Called after the students at the positions of {@code editedStudents} are replaced, in the student list and
+     * in every class, with the students those positions map to.
+     */
+    void studentsReplaced(Map<Integer, Student> editedStudents);
+
+    /**
+     * Called after {@code addedClass} is added at {@code index} of the class list.
+     */
+    void classAdded(int index, Class addedClass);
+
+    /**
+     * Called after the class at {@code index} of the class list is removed.
+     */
+    void classRemoved(int index);
+
+    /**
+     * Called after the class at {@code index} of the class list is replaced with {@code editedClass}.
+     */
+    void classReplaced(int index, Class editedClass);
+
+    /**
+     * Called after the student at {@code studentIndex} of the student list is added at {@code position} of the
+     * class at {@code classIndex}, having attended the lessons packed in {@code lessonsAttended}.
+     */
+    void studentAddedToClass(int classIndex, int position, int studentIndex, long[] lessonsAttended);
+
+    /**
+     * Called after the student at {@code position} of the class at {@code classIndex} is removed from the class.
+     */
+    void studentRemovedFromClass(int classIndex, int position);
+
+    /**
+     * Called after the number of lessons held by the class at {@code classIndex} is set to {@code lessonCount}.
+     */
+    void lessonCountChanged(int classIndex, int lessonCount);
+
+    /**
+     * Called after whether the student at {@code position} of the class at {@code classIndex} attended the
+     * current lesson of the class is recorded.
+     */
+    void attendanceRecorded(int classIndex, int position, boolean isPresent);
+
+    /**
+     * Called after all the data is replaced with {@code newData}.
+     */
+    void dataReset(ReadOnlyEduTrack newData);
+}
@@ -0,0 +1,127 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.model.common.Memo;
+
+/**
+ * Indexes the students or classes that own memos by the lower-cased words of their memos, so that the owners of
+ * the memos containing given words are found without reading every memo.
+ * Owners are counted once for every time they are added, and stay indexed until they have been removed as many
+ * times, so that an edited owner can be indexed before the owner it replaces is removed.
+ */
+class MemoIndex<T> {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{Alnum}]+");
+
+    private final Map<String, Map<T, Integer>> ownersByWord = new HashMap<>();
+
+    /**
+     * Returns the distinct lower-cased words of {@code text}, ignoring punctuation.
+     */
+    static Set<String> wordsOf(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the distinct lower-cased words of every keyword of {@code keywords}, ignoring punctuation.
+     */
+    static Set<String> wordsOf(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> words = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            words.addAll(wordsOf(keyword));
+        }
+        return words;
+    }
+
+    /**
+     * Returns true if {@code memo} contains every word of {@code words}, as found by
+     * {@link #getOwnersContainingAll(Set)}. A null memo, or no words, never match.
+     */
+    static boolean containsAll(Memo memo, Set<String> words) {
+        return memo != null && !words.isEmpty() && wordsOf(memo.memo).containsAll(words);
+    }
+
+    /**
+     * Removes every owner from the index.
+     */
+    void clear() {
+        ownersByWord.clear();
+    }
+
+    /**
+     * Records one more use of {@code owner} with its {@code memo}. A null memo is ignored.
+     */
+    void add(T owner, Memo memo) {
+        if (memo == null) {
+            return;
+        }
+        for (String word : wordsOf(memo.memo)) {
+            ownersByWord.computeIfAbsent(word, w -> new HashMap<>()).merge(owner, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Records one use fewer of {@code owner} with its {@code memo}. A null memo is ignored.
+     */
+    void remove(T owner, Memo memo) {
+        if (memo == null) {
+            return;
+        }
+        for (String word : wordsOf(memo.memo)) {
+            Map<T, Integer> owners = ownersByWord.get(word);
+            if (owners == null) {
+                continue;
+            }
+            owners.computeIfPresent(owner, (key, count) -> count > 1 ? count - 1 : null);
+            if (owners.isEmpty()) {
+                ownersByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the owners whose memo contains every word of {@code words}, found by intersecting the owners of each
+     * word, starting with the word that has the fewest. No words match no owners.
+     */
+    Set<T> getOwnersContainingAll(Set<String> words) {
+        requireNonNull(words);
+        List<Map<T, Integer>> postings = new ArrayList<>();
+        for (String word : words) {
+            Map<T, Integer> owners = ownersByWord.get(word);
+            if (owners == null) {
+                return new HashSet<>();
+            }
+            postings.add(owners);
+        }
+        if (postings.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        postings.sort(Comparator.comparingInt(Map::size));
+        Set<T> matches = new HashSet<>(postings.get(0).keySet());
+        for (int i = 1; i < postings.size() && !matches.isEmpty(); i++) {
+            matches.retainAll(postings.get(i).keySet());
+        }
+        return matches;
+    }
+}
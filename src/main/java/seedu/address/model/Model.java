@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,9 +12,10 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.module.Class;
 import seedu.address.model.module.ClassName;
 import seedu.address.model.module.exceptions.ClassNotFoundException;
+import seedu.address.model.student.AtRiskPredicate;
+import seedu.address.model.student.AttendanceRanking;
+import seedu.address.model.student.Id;
 import seedu.address.model.student.Student;
-import seedu.address.model.student.exceptions.StudentAlreadyMarkedAbsent;
-import seedu.address.model.student.exceptions.StudentAlreadyMarkedPresent;
 
 /**
  * The API of the Model component.
@@ -92,7 +95,8 @@ public interface Model {
     void addStudentToClass(Student student, Class studentClass);
 
     /**
-     * Replaces the given student {@code target} with {@code editedPerson}.
+     * Replaces the given student {@code target} with {@code editedPerson}, both in EduTrack
+     * and in every class that contains {@code target}.
      * {@code target} must exist in EduTrack.
      * The person identity of {@code editedPerson} must not be the same as another
      * existing person in EduTrack.
@@ -100,12 +104,48 @@ public interface Model {
     void setStudent(Student target, Student editedPerson);
 
     /**
-     * Replaces the given student {@code target} with {@code editedStudent} in {@code targetClass}.
-     * {@code target} must exist in EduTrack.
-     * The student identity of {@code editedStudent} must not be the same as another
-     * existing student in EduTrack.
+     * Returns the number of changes made to the data so far, counting undoing and redoing as changes.
+     * The count only grows, so the data is unchanged for as long as the count stays the same.
+     */
+    long getModificationCount();
+
+    /**
+     * Tells {@code changeListener} of every later change to the data, including those made by undoing and redoing,
+     * in place of any listener set before.
+     */
+    void setEduTrackChangeListener(EduTrackChangeListener changeListener);
+
+    /**
+     * Groups the changes made to the data since the last call into one step that can be undone.
+     * Steps that were undone can no longer be redone once a new step is made.
+     * Does nothing if the data did not change.
+     */
+    void commitChanges();
+
+    /**
+     * Undoes the changes made to the data since the last call to {@link #commitChanges()}, and forgets them, so
+     * that a command that failed part way leaves the data as it found it.
+     * Steps that can be undone and redone are kept.
+     */
+    void discardChanges();
+
+    /** Returns true if there is a step to undo. */
+    boolean canUndo();
+
+    /** Returns true if there is an undone step to redo. */
+    boolean canRedo();
+
+    /**
+     * Undoes the last step, putting the data back as it was before the step.
+     * Changes not yet grouped into a step by {@link #commitChanges()} are grouped into one first.
+     * There must be a step to undo.
      */
-    void setStudentInClass(Student target, Student editedStudent, Class targetClass);
+    void undo();
+
+    /**
+     * Redoes the last step undone. There must be a step to redo.
+     */
+    void redo();
 
     /** Returns an unmodifiable view of the filtered student list */
     ObservableList<Student> getFilteredStudentList();
@@ -113,39 +153,141 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered class list */
     ObservableList<Class> getFilteredClassList();
 
+    /**
+     * Returns {@code prefix} completed as far as all the class names and words of student names that start with it
+     * agree, ignoring case, for completing user input. A prefix of exactly one class name or word is completed in
+     * full, followed by a space. Returns {@code prefix} itself if no class name or word starts with it.
+     * @throws NullPointerException if {@code prefix} is null.
+     */
+    String completeWord(String prefix);
+
     /**
      * Updates the filter of the filtered person list to filter by the given
-     * {@code predicate}.
+     * {@code predicate}. Installing a predicate equal to the current one shows the list it already filtered,
+     * without testing the students again.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredStudentList(Predicate<Student> predicate);
 
+    /**
+     * Updates the filtered student list to show the students at risk, as defined by {@link AtRiskPredicate}.
+     * The at-risk students are kept in a view of their own, which is only updated for the students each change
+     * touches, so showing it again does not test every student.
+     */
+    void updateFilteredStudentListToAtRisk();
+
+    /**
+     * Updates the filter of the filtered student list to show the students whose name contains any of
+     * {@code keywords} as a whole word, ignoring case. Names are looked up in an index rather than split on
+     * every test.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredStudentListByName(List<String> keywords);
+
+    /**
+     * Updates the filtered student list to show the students with the given {@code id}. They are looked up in the
+     * id index rather than found by testing every student.
+     * @throws NullPointerException if {@code id} is null.
+     */
+    void updateFilteredStudentListById(Id id);
+
+    /**
+     * Updates the filtered student list to show the students whose name has a word similar to any of
+     * {@code keywords}, most similar first. Edits and removals are reflected in the list until it is filtered
+     * again, but students added later are not.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredStudentListBySimilarName(List<String> keywords);
+
+    /**
+     * Updates the filtered student list and the filtered class list to show the students and classes whose memo
+     * contains every word of {@code keywords}, ignoring case and punctuation. They are looked up in an index of
+     * memo words rather than found by reading every memo, and stay shown in list order as the data changes.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredListsByMemo(List<String> keywords);
+
+    /**
+     * Updates the filtered student list to show exactly the students of {@code studentClass}, in class order.
+     * The list keeps following the class until it is filtered again.
+     * @throws NullPointerException if {@code studentClass} is null.
+     */
+    void updateFilteredStudentListToClass(Class studentClass);
+
     void addClass(Class c);
 
     boolean hasClass(Class c);
 
     void removeClass(Class c) throws ClassNotFoundException;
 
+    /**
+     * Returns the class at {@code classListIndex} of the displayed class list, as numbered on screen.
+     * @throws CommandException if the displayed class list is empty or has no class at that index.
+     */
     Class retrieveClass(Index classListIndex) throws CommandException;
 
-    void markStudentPresent(Student student, Class studentClass, Student editedStudent)
-            throws StudentAlreadyMarkedPresent;
-    void markStudentAbsent(Student student, Class studentClass, Student editedStudent)
-            throws StudentAlreadyMarkedAbsent;
+    /**
+     * Marks every student in {@code students} as present or absent for the current lesson of
+     * {@code studentClass}, as one batch, and records it in the lesson history of the class.
+     * Only students not yet marked as requested in this class are changed: each of them is replaced in EduTrack and
+     * in every class that refers to it, with the lessons attended going up or down by one. If no student changes,
+     * nothing is recorded and no lesson is started.
+     * Every student in {@code students} must exist in {@code studentClass}.
+     *
+     * @return the number of students whose attendance was changed.
+     */
+    int markStudentsAttendance(Class studentClass, List<Student> students, boolean isPresent);
+
+    /**
+     * Starts a new lesson of {@code studentClass}, marking every student in the class as absent for it.
+     * Students who attended the current lesson of another class stay present.
+     */
+    void startLesson(Class studentClass);
+
+    /** Returns the ranking of every student by the number of lessons they attended. */
+    AttendanceRanking getAttendanceRanking();
+
+    /** Returns the ranking of the students of {@code studentClass} by the number of its lessons they attended. */
+    AttendanceRanking getAttendanceRanking(Class studentClass);
+
+    /** Returns the students whose id is {@code id}. */
+    List<Student> getStudentsById(Id id);
+
+    /** Returns the classes containing a student whose id is {@code id}. */
+    List<Class> getClassesById(Id id);
 
     Class getClass(ClassName className) throws ClassNotFoundException;
 
+    /**
+     * Returns the class at {@code classIndex} of the displayed class list, as numbered on screen.
+     * @throws IndexOutOfBoundsException if there is no class at that index.
+     */
     Class getClassByIndex(Index classIndex);
 
+    /** Returns the number of classes in the displayed class list. */
     int getClassListSize();
 
     void updateFilteredClassList(Predicate<Class> predicate);
 
     /**
-     * Replaces the given class at {@code index} with {@code editedClass}.
-     * Class at {@code index} must exist in EduTrack.
+     * Updates the filtered class list to show the classes running at {@code time}, as found in the schedule index
+     * of EduTrack.
+     * @throws NullPointerException if {@code time} is null.
+     */
+    void updateFilteredClassListToRunningAt(LocalDateTime time);
+
+    /**
+     * Returns the classes other than {@code c} whose schedule clashes with that of {@code c}.
+     * @throws NullPointerException if {@code c} is null.
+     */
+    List<Class> getClassesClashingWith(Class c);
+
+    /**
+     * Replaces the given class {@code target} with {@code editedClass}, wherever {@code target} is in the list of
+     * every class.
+     * {@code target} must exist in EduTrack.
      * The class identity of {@code editedClass} must not be the same as another
      * existing class in EduTrack.
      */
-    void setClass(Index index, Class editedClass);
+    void setClass(Class target, Class editedClass);
 }
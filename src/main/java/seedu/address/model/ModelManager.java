@@ -4,7 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,17 +21,26 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.module.AttendanceHistory;
 import seedu.address.model.module.Class;
 import seedu.address.model.module.ClassName;
+import seedu.address.model.module.Schedule;
 import seedu.address.model.module.exceptions.ClassNotFoundException;
+import seedu.address.model.student.AtRiskPredicate;
+import seedu.address.model.student.AttendanceRanking;
+import seedu.address.model.student.CurrentLessonAttendance;
+import seedu.address.model.student.Id;
+import seedu.address.model.student.IdMatchesPredicate;
+import seedu.address.model.student.LessonsAttended;
 import seedu.address.model.student.Student;
-import seedu.address.model.student.exceptions.StudentAlreadyMarkedAbsent;
-import seedu.address.model.student.exceptions.StudentAlreadyMarkedPresent;
 
 /**
  * Represents the in-memory model of the address book data.
+ * Every change to the data is recorded with the operations that undo and redo it, so that the changes made by
+ * each command can be undone and redone.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -30,7 +48,15 @@ public class ModelManager implements Model {
     private final EduTrack eduTrack;
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredStudents;
+    private final FilteredList<Student> atRiskStudents;
+    private final SwitchableObservableList<Student> displayedStudents;
+    private final QueryResultList<Student> foundStudents = new QueryResultList<>();
     private final FilteredList<Class> filteredClasses;
+    private final SwitchableObservableList<Class> displayedClasses;
+    private final QueryResultList<Class> foundClasses = new QueryResultList<>();
+    private final ChangeHistory changeHistory = new ChangeHistory();
+    private long modificationCount;
+    private EduTrackChangeListener changeListener;
 
     /**
      * Initializes a ModelManager with the given eduTrack and userPrefs.
@@ -43,7 +69,10 @@ public class ModelManager implements Model {
         this.eduTrack = new EduTrack(eduTrack);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudents = new FilteredList<>(this.eduTrack.getStudentList());
+        atRiskStudents = new FilteredList<>(this.eduTrack.getStudentList(), new AtRiskPredicate());
+        displayedStudents = new SwitchableObservableList<>(filteredStudents);
         filteredClasses = new FilteredList<>(this.eduTrack.getClassList());
+        displayedClasses = new SwitchableObservableList<>(filteredClasses);
     }
 
     public ModelManager() {
@@ -90,7 +119,26 @@ public class ModelManager implements Model {
 
     @Override
     public void setEduTrack(ReadOnlyEduTrack eduTrack) {
+        // The replaced students and classes are no longer changed once out of EduTrack, so keeping the lists is
+        // enough to put them back
+        List<Student> previousStudents = new ArrayList<>(this.eduTrack.getStudentList());
+        List<Class> previousClasses = new ArrayList<>(this.eduTrack.getClassList());
         this.eduTrack.resetData(eduTrack);
+        foundStudents.refresh();
+        foundClasses.refresh();
+        notifyListener(listener -> listener.dataReset(this.eduTrack));
+        List<Student> newStudents = new ArrayList<>(this.eduTrack.getStudentList());
+        List<Class> newClasses = new ArrayList<>(this.eduTrack.getClassList());
+        recordChange(() -> setContents(previousStudents, previousClasses), () ->
+                setContents(newStudents, newClasses));
+    }
+
+    private void setContents(List<Student> students, List<Class> classes) {
+        eduTrack.setStudents(students);
+        eduTrack.setClasses(classes);
+        foundStudents.refresh();
+        foundClasses.refresh();
+        notifyListener(listener -> listener.dataReset(eduTrack));
     }
 
     @Override
@@ -106,29 +154,49 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteStudent(Student target) {
-        eduTrack.removeStudent(target);
+        requireNonNull(target);
+        int index = eduTrack.indexOfStudent(target);
+        List<Membership> memberships = new ArrayList<>();
+        for (Class c : eduTrack.getClassesContaining(target)) {
+            memberships.add(new Membership(target, c));
+        }
+        removeStudent(target);
+        recordChange(() -> {
+            addStudent(index, target);
+            memberships.forEach(membership -> membership.restore(target));
+        }, () -> removeStudent(target));
     }
 
     @Override
     public void deleteStudentFromClass(Student student, Class studentClass) {
-        studentClass.removeStudentFromClass(student);
-        updateFilteredStudentList((s) -> studentClass.getStudentList().contains(s));
+        requireAllNonNull(student, studentClass);
+        Membership membership = new Membership(student, studentClass);
+        removeStudentFromClass(student, studentClass);
+        recordChange(() -> membership.restore(student), () -> removeStudentFromClass(student, studentClass));
+        updateFilteredStudentListToClass(studentClass);
     }
 
     @Override
     public void addStudent(Student person) {
-        eduTrack.addStudent(person);
+        int index = eduTrack.getStudentList().size();
+        addStudent(index, person);
+        recordChange(() -> removeStudent(person), () -> addStudent(index, person));
     }
 
     @Override
     public void addStudentToClass(Student student, Class studentClass) {
-        studentClass.addStudentToClass(student);
-        updateFilteredStudentList((s) -> studentClass.getStudentList().contains(s));
+        int position = studentClass.getStudentList().size();
+        addStudentToClass(student, studentClass, position, new long[0]);
+        recordChange(() -> removeStudentFromClass(student, studentClass), () ->
+                addStudentToClass(student, studentClass, position, new long[0]));
+        updateFilteredStudentListToClass(studentClass);
     }
 
     @Override
     public void addClass(Class c) {
-        eduTrack.addClass(c);
+        Index index = Index.fromZeroBased(eduTrack.getClassListSize());
+        addClass(index, c);
+        recordChange(() -> removeClass(index), () -> addClass(index, c));
         updateFilteredClassList(PREDICATE_SHOW_ALL_CLASSES);
     }
 
@@ -139,20 +207,25 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void setClass(Index index, Class editedClass) {
-        requireAllNonNull(index, editedClass);
-        eduTrack.setClass(index, editedClass);
+    public void setClass(Class target, Class editedClass) {
+        requireAllNonNull(target, editedClass);
+        Index index = Index.fromZeroBased(indexOfClass(target));
+        replaceClass(index, editedClass);
+        recordChange(() -> replaceClass(index, target), () -> replaceClass(index, editedClass));
     }
 
     @Override
     public void removeClass(Class c) {
         requireNonNull(c);
-        eduTrack.removeClass(c);
+        Class removed = eduTrack.getClass(c.getClassName());
+        Index index = Index.fromZeroBased(eduTrack.getClassList().indexOf(removed));
+        removeClass(index);
+        recordChange(() -> addClass(index, removed), () -> removeClass(index));
     }
 
     @Override
     public Class retrieveClass(Index targetClassIndex) throws CommandException {
-        ObservableList<Class> classList = this.eduTrack.getClassList();
+        ObservableList<Class> classList = displayedClasses;
         if (classList.size() == 0) {
             throw new CommandException(Messages.MESSAGE_EMPTY_CLASS_LIST);
         }
@@ -164,21 +237,124 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void markStudentPresent(Student student, Class studentClass, Student editedStudent)
-            throws StudentAlreadyMarkedPresent {
-        editedStudent.markStudentPresent();
-        eduTrack.setStudent(student, editedStudent);
-        setStudentInClass(student, editedStudent, studentClass);
-        updateFilteredStudentList((s) -> studentClass.getStudentList().contains(s));
+    public int markStudentsAttendance(Class studentClass, List<Student> students, boolean isPresent) {
+        requireAllNonNull(studentClass, students);
+        AttendanceHistory history = studentClass.getAttendanceHistory();
+        int lessonCount = history.getLessonCount();
+        // Only the students whose attendance of the current lesson of this class changes are edited
+        Map<Student, Student> editedStudents = new LinkedHashMap<>();
+        for (Student student : students) {
+            boolean hasAttended = lessonCount > 0 && history.hasAttended(student, lessonCount - 1);
+            if (hasAttended != isPresent) {
+                editedStudents.put(student, editAttendance(student, studentClass, isPresent));
+            }
+        }
+        if (editedStudents.isEmpty()) {
+            return 0;
+        }
+
+        Runnable markAttendance = () -> {
+            replaceStudents(editedStudents);
+            for (Student student : editedStudents.values()) {
+                recordAttendance(studentClass, student, isPresent);
+            }
+        };
+        markAttendance.run();
+        recordChange(() -> {
+            for (Student student : editedStudents.values()) {
+                recordAttendance(studentClass, student, !isPresent);
+            }
+            if (history.getLessonCount() != lessonCount) {
+                // Recording attendance started the first lesson
+                setLessonCount(studentClass, lessonCount);
+            }
+            replaceStudents(invert(editedStudents));
+        }, markAttendance);
+        return editedStudents.size();
+    }
+
+    /**
+     * Returns a copy of {@code student} marked as present or absent for the current lesson of
+     * {@code studentClass}, which it has not been marked as yet.
+     * The lessons attended by the student go up or down by one, and the student stays present if it attended the
+     * current lesson of another class.
+     */
+    private Student editAttendance(Student student, Class studentClass, boolean isPresent) {
+        LessonsAttended lessonsAttended = isPresent
+                ? student.getLessonsAttended().increment()
+                : student.getLessonsAttended().decrement();
+        boolean isStillPresent = isPresent || hasAttendedOtherClass(student, studentClass);
+        return new Student(student.getName(), student.getId(), student.getMemo(),
+                CurrentLessonAttendance.of(isStillPresent), lessonsAttended);
+    }
+
+    /**
+     * Returns true if {@code student} attended the current lesson of a class other than {@code studentClass}.
+     */
+    private boolean hasAttendedOtherClass(Student student, Class studentClass) {
+        for (Class otherClass : eduTrack.getClassesContaining(student)) {
+            AttendanceHistory history = otherClass.getAttendanceHistory();
+            int lessonCount = history.getLessonCount();
+            if (otherClass != studentClass && lessonCount > 0 && history.hasAttended(student, lessonCount - 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void startLesson(Class studentClass) {
+        requireNonNull(studentClass);
+        int lessonCount = studentClass.getAttendanceHistory().getLessonCount();
+        Map<Student, Student> editedStudents = new LinkedHashMap<>();
+        for (Student student : studentClass.getStudentList()) {
+            // Students present in the current lesson of another class stay present
+            if (student.getCurrentAttendance().getIsPresent() && !hasAttendedOtherClass(student, studentClass)) {
+                editedStudents.put(student, new Student(student.getName(), student.getId(), student.getMemo(),
+                        CurrentLessonAttendance.ABSENT, student.getLessonsAttended()));
+            }
+        }
+        Runnable startLesson = () -> {
+            setLessonCount(studentClass, lessonCount + 1);
+            replaceStudents(editedStudents);
+        };
+        startLesson.run();
+        recordChange(() -> {
+            replaceStudents(invert(editedStudents));
+            setLessonCount(studentClass, lessonCount);
+        }, startLesson);
+    }
+
+    /**
+     * Returns the replacements that undo {@code replacements}.
+     */
+    private static Map<Student, Student> invert(Map<Student, Student> replacements) {
+        Map<Student, Student> inverse = new LinkedHashMap<>();
+        replacements.forEach((target, editedStudent) -> inverse.put(editedStudent, target));
+        return inverse;
     }
 
     @Override
-    public void markStudentAbsent(Student student, Class studentClass, Student editedStudent)
-            throws StudentAlreadyMarkedAbsent {
-        editedStudent.markStudentAbsent();
-        eduTrack.setStudent(student, editedStudent);
-        setStudentInClass(student, editedStudent, studentClass);
-        updateFilteredStudentList((s) -> studentClass.getStudentList().contains(s));
+    public AttendanceRanking getAttendanceRanking() {
+        return eduTrack.getAttendanceRanking();
+    }
+
+    @Override
+    public AttendanceRanking getAttendanceRanking(Class studentClass) {
+        requireNonNull(studentClass);
+        return studentClass;
+    }
+
+    @Override
+    public List<Student> getStudentsById(Id id) {
+        requireNonNull(id);
+        return eduTrack.getStudentsById(id);
+    }
+
+    @Override
+    public List<Class> getClassesById(Id id) {
+        requireNonNull(id);
+        return eduTrack.getClassesById(id);
     }
 
     public Class getClass(ClassName className) throws ClassNotFoundException {
@@ -186,13 +362,15 @@ public class ModelManager implements Model {
         return eduTrack.getClass(className);
     }
 
+    @Override
     public Class getClassByIndex(Index classIndex) {
         requireNonNull(classIndex);
-        return eduTrack.getClassByIndex(classIndex);
+        return displayedClasses.get(classIndex.getZeroBased());
     }
 
+    @Override
     public int getClassListSize() {
-        return eduTrack.getClassListSize();
+        return displayedClasses.size();
     }
     //=========== Filtered Person List Accessors =============================================================
 
@@ -200,14 +378,158 @@ public class ModelManager implements Model {
     public void setStudent(Student target, Student editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        eduTrack.setStudent(target, editedPerson);
+        replaceStudent(target, editedPerson);
+        recordChange(() -> replaceStudent(editedPerson, target), () -> replaceStudent(target, editedPerson));
+    }
+
+    //=========== Changes to the data =======================================================================
+    // Every change to the data, including those made by undo and redo, is made through these methods, which tell
+    // the change listener and the search results about it
+
+    @Override
+    public void setEduTrackChangeListener(EduTrackChangeListener changeListener) {
+        requireNonNull(changeListener);
+        this.changeListener = changeListener;
+    }
+
+    private void notifyListener(Consumer<EduTrackChangeListener> notification) {
+        if (changeListener != null) {
+            notification.accept(changeListener);
+        }
+    }
+
+    private void addStudent(int index, Student student) {
+        eduTrack.addStudent(index, student);
+        foundStudents.update(List.of(), List.of(student));
+        notifyListener(listener -> listener.studentAdded(index, student));
+    }
+
+    private void removeStudent(Student student) {
+        int index = eduTrack.indexOfStudent(student);
+        eduTrack.removeStudent(student);
+        foundStudents.update(List.of(student), List.of());
+        notifyListener(listener -> listener.studentRemoved(index));
+    }
+
+    private void replaceStudent(Student target, Student editedStudent) {
+        eduTrack.setStudent(target, editedStudent);
+        foundStudents.update(List.of(target), List.of(editedStudent));
+        notifyListener(listener -> listener.studentsReplaced(
+                Map.of(eduTrack.indexOfStudent(editedStudent), editedStudent)));
+    }
+
+    private void replaceStudents(Map<Student, Student> replacements) {
+        if (replacements.isEmpty()) {
+            return;
+        }
+        eduTrack.replaceStudents(replacements);
+        foundStudents.update(replacements.keySet(), replacements.values());
+        notifyListener(listener -> {
+            Map<Integer, Student> editedStudents = new LinkedHashMap<>();
+            for (Student editedStudent : replacements.values()) {
+                editedStudents.put(eduTrack.indexOfStudent(editedStudent), editedStudent);
+            }
+            listener.studentsReplaced(editedStudents);
+        });
+    }
+
+    private void addClass(Index index, Class c) {
+        eduTrack.addClass(index, c);
+        foundClasses.update(List.of(), List.of(c));
+        notifyListener(listener -> listener.classAdded(index.getZeroBased(), c));
+    }
+
+    private void removeClass(Index index) {
+        Class removed = eduTrack.getClassByIndex(index);
+        eduTrack.removeClass(removed);
+        foundClasses.update(List.of(removed), List.of());
+        notifyListener(listener -> listener.classRemoved(index.getZeroBased()));
+    }
+
+    private void replaceClass(Index index, Class editedClass) {
+        Class target = eduTrack.getClassByIndex(index);
+        eduTrack.setClass(index, editedClass);
+        foundClasses.update(List.of(target), List.of(editedClass));
+        notifyListener(listener -> listener.classReplaced(index.getZeroBased(), editedClass));
+    }
+
+    private void addStudentToClass(Student student, Class studentClass, int position, long[] lessonsAttended) {
+        eduTrack.addStudentToClass(student, studentClass, position);
+        if (lessonsAttended.length > 0) {
+            studentClass.setLessonsAttended(student, lessonsAttended);
+        }
+        notifyListener(listener -> listener.studentAddedToClass(indexOfClass(studentClass), position,
+                eduTrack.indexOfStudent(student), lessonsAttended));
+    }
+
+    private void removeStudentFromClass(Student student, Class studentClass) {
+        int position = studentClass.getUniqueStudentList().indexOf(student);
+        eduTrack.removeStudentFromClass(student, studentClass);
+        notifyListener(listener -> listener.studentRemovedFromClass(indexOfClass(studentClass), position));
+    }
+
+    private void setLessonCount(Class studentClass, int lessonCount) {
+        studentClass.getAttendanceHistory().setLessonCount(lessonCount);
+        notifyListener(listener -> listener.lessonCountChanged(indexOfClass(studentClass), lessonCount));
+    }
+
+    private void recordAttendance(Class studentClass, Student student, boolean isPresent) {
+        studentClass.recordAttendance(student, isPresent);
+        notifyListener(listener -> listener.attendanceRecorded(indexOfClass(studentClass),
+                studentClass.getUniqueStudentList().indexOf(student), isPresent));
+    }
+
+    private int indexOfClass(Class c) {
+        return eduTrack.indexOfClass(c);
+    }
+
+    //=========== Undo and redo =============================================================================
+
+    /**
+     * Records a change to the data that was just made, which {@code undo} undoes and {@code redo} makes again.
+     */
+    private void recordChange(Runnable undo, Runnable redo) {
+        changeHistory.record(undo, redo);
+        modificationCount++;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public void commitChanges() {
+        changeHistory.commit();
+    }
+
+    @Override
+    public void discardChanges() {
+        if (changeHistory.discard()) {
+            modificationCount++;
+        }
     }
 
     @Override
-    public void setStudentInClass(Student target, Student editedStudent, Class targetClass) {
-        requireAllNonNull(target, editedStudent, targetClass);
+    public boolean canUndo() {
+        return changeHistory.canUndo();
+    }
 
-        targetClass.setStudent(target, editedStudent);
+    @Override
+    public boolean canRedo() {
+        return changeHistory.canRedo();
+    }
+
+    @Override
+    public void undo() {
+        changeHistory.undo();
+        modificationCount++;
+    }
+
+    @Override
+    public void redo() {
+        changeHistory.redo();
+        modificationCount++;
     }
 
     // =========== Filtered Person List Accessors
@@ -215,28 +537,157 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedEduTrack}
+     * {@code versionedEduTrack}, or by the student list of a class after
+     * {@link #updateFilteredStudentListToClass(Class)}, or by the results of a search by name.
      */
     @Override
     public ObservableList<Student> getFilteredStudentList() {
-        return filteredStudents;
+        return displayedStudents;
     }
 
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
-        filteredStudents.setPredicate(predicate);
+        if (!predicate.equals(filteredStudents.getPredicate())) {
+            filteredStudents.setPredicate(predicate);
+        }
+        displayedStudents.setSource(filteredStudents);
+    }
+
+    @Override
+    public void updateFilteredStudentListToAtRisk() {
+        displayedStudents.setSource(atRiskStudents);
+    }
+
+    @Override
+    public String completeWord(String prefix) {
+        requireNonNull(prefix);
+        // Two completions are enough to tell whether there is only one
+        List<String> completions = new ArrayList<>(eduTrack.getClassNamesWithPrefix(prefix, 2));
+        for (String word : eduTrack.getNameWordsWithPrefix(prefix, 2)) {
+            if (!completions.contains(word)) {
+                completions.add(word);
+            }
+        }
+        if (completions.isEmpty()) {
+            return prefix;
+        }
+        if (completions.size() == 1) {
+            return completions.get(0) + " ";
+        }
+
+        List<String> commonPrefixes = new ArrayList<>();
+        eduTrack.getClassNamesCommonPrefix(prefix).ifPresent(commonPrefixes::add);
+        eduTrack.getNameWordsCommonPrefix(prefix).ifPresent(commonPrefixes::add);
+        return StringUtil.getCommonPrefixIgnoreCase(commonPrefixes);
+    }
+
+    @Override
+    public void updateFilteredStudentListByName(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> searchKeywords = new ArrayList<>(keywords);
+        foundStudents.setQuery(() -> eduTrack.getStudentsByName(searchKeywords),
+                eduTrack.nameContainsAny(searchKeywords), Comparator.comparingInt(eduTrack::indexOfStudent));
+        displayedStudents.setSource(foundStudents);
+    }
+
+    @Override
+    public void updateFilteredStudentListById(Id id) {
+        requireNonNull(id);
+        foundStudents.setQuery(() -> eduTrack.getStudentsById(id), new IdMatchesPredicate(id),
+                Comparator.comparingInt(eduTrack::indexOfStudent));
+        displayedStudents.setSource(foundStudents);
+    }
+
+    @Override
+    public void updateFilteredStudentListBySimilarName(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> searchKeywords = new ArrayList<>(keywords);
+        // The similarities of the students found are kept for sorting; those of students added later are measured
+        // when they are first sorted
+        Map<Student, Double> similarities = new HashMap<>();
+        ToDoubleFunction<Student> similarityOf = student -> similarities.computeIfAbsent(student, s ->
+                eduTrack.getNameSimilarity(s, searchKeywords));
+        foundStudents.setQuery(() -> {
+            similarities.clear();
+            similarities.putAll(eduTrack.getSimilarStudents(searchKeywords));
+            return similarities.keySet();
+        }, student -> eduTrack.getNameSimilarity(student, searchKeywords) > 0,
+                Comparator.comparingDouble(similarityOf).reversed().thenComparingInt(eduTrack::indexOfStudent));
+        displayedStudents.setSource(foundStudents);
+    }
+
+    @Override
+    public void updateFilteredListsByMemo(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> searchKeywords = new ArrayList<>(keywords);
+        foundStudents.setQuery(() -> eduTrack.getStudentsByMemo(searchKeywords),
+                eduTrack.studentMemoContainsAll(searchKeywords), Comparator.comparingInt(eduTrack::indexOfStudent));
+        displayedStudents.setSource(foundStudents);
+        foundClasses.setQuery(() -> eduTrack.getClassesByMemo(searchKeywords),
+                eduTrack.classMemoContainsAll(searchKeywords), Comparator.comparingInt(this::indexOfClass));
+        displayedClasses.setSource(foundClasses);
+    }
+
+    @Override
+    public void updateFilteredStudentListToClass(Class studentClass) {
+        requireNonNull(studentClass);
+        displayedStudents.setSource(studentClass.getStudentList());
     }
 
     @Override
     public ObservableList<Class> getFilteredClassList() {
-        return filteredClasses;
+        return displayedClasses;
     }
 
     @Override
     public void updateFilteredClassList(Predicate<Class> predicate) {
         requireNonNull(predicate);
-        filteredClasses.setPredicate(predicate);
+        if (!predicate.equals(filteredClasses.getPredicate())) {
+            filteredClasses.setPredicate(predicate);
+        }
+        displayedClasses.setSource(filteredClasses);
+    }
+
+    @Override
+    public void updateFilteredClassListToRunningAt(LocalDateTime time) {
+        requireNonNull(time);
+        foundClasses.setQuery(() -> eduTrack.getClassesRunningAt(time.getDayOfWeek(),
+                Schedule.getMinuteOfDay(time.toLocalTime())),
+                c -> c.getClassSchedule() != null && c.getClassSchedule().isRunningAt(time),
+                Comparator.comparingInt(this::indexOfClass));
+        displayedClasses.setSource(foundClasses);
+    }
+
+    @Override
+    public List<Class> getClassesClashingWith(Class c) {
+        requireNonNull(c);
+        Schedule schedule = c.getClassSchedule();
+        if (schedule == null) {
+            return new ArrayList<>();
+        }
+        List<Class> clashingClasses = eduTrack.getClassesClashingWith(schedule);
+        clashingClasses.removeIf(c::isSameClass);
+        return clashingClasses;
+    }
+
+    /**
+     * The place of a student in a class, kept to put the student back after removing it from the class.
+     */
+    private class Membership {
+        private final Class studentClass;
+        private final int index;
+        private final long[] lessonsAttended;
+
+        private Membership(Student student, Class studentClass) {
+            this.studentClass = studentClass;
+            this.index = studentClass.getStudentList().indexOf(student);
+            this.lessonsAttended = studentClass.getAttendanceHistory().getLessonsAttended(student);
+        }
+
+        private void restore(Student student) {
+            addStudentToClass(student, studentClass, index, lessonsAttended);
+        }
     }
 
     @Override
@@ -253,7 +704,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return eduTrack.equals(otherModelManager.eduTrack)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredStudents.equals(otherModelManager.filteredStudents);
+                && displayedStudents.equals(otherModelManager.displayedStudents);
     }
 
 }
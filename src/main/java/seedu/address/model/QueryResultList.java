@@ -0,0 +1,96 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable {@code ObservableList} of the elements of the data that match a query, in a given order.
+ * The elements matching a query are looked up in an index rather than found by testing every element of the data.
+ * The list is then kept up to date by being told of each element added to or removed from the data, which is
+ * tested on its own. One list is reused for every query, and each new query is reported as a single change.
+ */
+class QueryResultList<E> extends ObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+    private Supplier<? extends Collection<? extends E>> lookup = Collections::emptyList;
+    private Predicate<? super E> query = element -> false;
+    private Comparator<? super E> order = (first, second) -> 0;
+
+    /**
+     * Presents the elements matching a new query, sorted by {@code order}.
+     *
+     * @param lookup looks up the elements of the data that {@code query} accepts, without testing the others.
+     * @param query tests whether an element added to the data matches the query.
+     * @param order sorts the elements, which it may compare by their place in the data.
+     */
+    void setQuery(Supplier<? extends Collection<? extends E>> lookup, Predicate<? super E> query,
+            Comparator<? super E> order) {
+        requireAllNonNull(lookup, query, order);
+        this.lookup = lookup;
+        this.query = query;
+        this.order = order;
+        refresh();
+    }
+
+    /**
+     * Looks up the elements matching the current query again, after the data was replaced as a whole.
+     */
+    void refresh() {
+        List<E> matches = new ArrayList<>(lookup.get());
+        matches.sort(order);
+        beginChange();
+        if (!elements.isEmpty()) {
+            nextRemove(0, new ArrayList<>(elements));
+        }
+        elements.clear();
+        elements.addAll(matches);
+        if (!elements.isEmpty()) {
+            nextAdd(0, elements.size());
+        }
+        endChange();
+    }
+
+    /**
+     * Updates the list after {@code removed} were removed from the data and {@code added} were added to it, as
+     * one change. The data must already hold every element of {@code added} and none of {@code removed}, so that
+     * elements can be compared by their place in it.
+     */
+    void update(Collection<? extends E> removed, Collection<? extends E> added) {
+        beginChange();
+        for (E element : removed) {
+            int index = elements.indexOf(element);
+            if (index >= 0) {
+                elements.remove(index);
+                nextRemove(index, element);
+            }
+        }
+        for (E element : added) {
+            if (query.test(element)) {
+                int index = Collections.binarySearch(elements, element, order);
+                int insertionPoint = index < 0 ? -index - 1 : index;
+                elements.add(insertionPoint, element);
+                nextAdd(insertionPoint, insertionPoint + 1);
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.module.Class;
+import seedu.address.model.student.Id;
+import seedu.address.model.student.Student;
+
+/**
+ * Indexes the students of an {@code EduTrack}, and the classes they are enrolled in, by {@code Id}.
+ * Several students may share an {@code Id} (e.g. students created with the default id), so an id maps to
+ * every matching student, and a class is kept against an id for as long as one of its members has that id.
+ */
+class StudentIdIndex {
+
+    private final Map<Id, Set<Student>> studentsById = new HashMap<>();
+    private final Map<Id, Map<Class, Integer>> classesById = new HashMap<>();
+
+    /**
+     * Replaces the indexed students with {@code students}.
+     */
+    void setStudents(Iterable<Student> students) {
+        studentsById.clear();
+        for (Student student : students) {
+            addStudent(student);
+        }
+    }
+
+    /**
+     * Replaces the indexed class memberships with those of {@code classes}.
+     */
+    void setClasses(Iterable<Class> classes) {
+        classesById.clear();
+        for (Class c : classes) {
+            addClass(c);
+        }
+    }
+
+    void addStudent(Student student) {
+        studentsById.computeIfAbsent(student.getId(), id -> new LinkedHashSet<>()).add(student);
+    }
+
+    void removeStudent(Student student) {
+        Set<Student> matches = studentsById.get(student.getId());
+        if (matches == null) {
+            return;
+        }
+        matches.remove(student);
+        if (matches.isEmpty()) {
+            studentsById.remove(student.getId());
+        }
+    }
+
+    void setStudent(Student target, Student editedStudent) {
+        removeStudent(target);
+        addStudent(editedStudent);
+    }
+
+    /**
+     * Records the memberships of every student currently in {@code c}.
+     */
+    void addClass(Class c) {
+        for (Student student : c.getStudentList()) {
+            addStudentToClass(student, c);
+        }
+    }
+
+    /**
+     * Forgets the memberships of every student currently in {@code c}.
+     */
+    void removeClass(Class c) {
+        for (Student student : c.getStudentList()) {
+            removeStudentFromClass(student, c);
+        }
+    }
+
+    void addStudentToClass(Student student, Class c) {
+        classesById.computeIfAbsent(student.getId(), id -> new LinkedHashMap<>()).merge(c, 1, Integer::sum);
+    }
+
+    void removeStudentFromClass(Student student, Class c) {
+        Map<Class, Integer> classes = classesById.get(student.getId());
+        if (classes == null) {
+            return;
+        }
+        classes.computeIfPresent(c, (key, count) -> count > 1 ? count - 1 : null);
+        if (classes.isEmpty()) {
+            classesById.remove(student.getId());
+        }
+    }
+
+    void setStudentInClass(Student target, Student editedStudent, Class c) {
+        if (target.getId().equals(editedStudent.getId())) {
+            return;
+        }
+        removeStudentFromClass(target, c);
+        addStudentToClass(editedStudent, c);
+    }
+
+    /**
+     * Returns the students with the given {@code id}, in the order they were indexed.
+     */
+    List<Student> getStudents(Id id) {
+        requireNonNull(id);
+        Set<Student> matches = studentsById.get(id);
+        return matches == null ? new ArrayList<>() : new ArrayList<>(matches);
+    }
+
+    /**
+     * Returns the classes containing a student with the given {@code id}.
+     */
+    List<Class> getClasses(Id id) {
+        requireNonNull(id);
+        Map<Class, Integer> classes = classesById.get(id);
+        return classes == null ? new ArrayList<>() : new ArrayList<>(classes.keySet());
+    }
+}
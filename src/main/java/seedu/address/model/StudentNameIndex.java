@@ -0,0 +1,253 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.student.Student;
+
+/**
+ * Indexes the students of an {@code EduTrack} by the lower-cased words their names contain and by the prefixes of
+ * those words, and the words by their trigrams (three-letter substrings) for similarity searches.
+ * Each word maps to the students whose name has it, so the students matching a search are found from the words
+ * of the search alone, without testing every student.
+ */
+class StudentNameIndex {
+
+    /** The least similarity, from 0 to 1, of a word to a keyword for the word to be considered a match */
+    static final double SIMILARITY_THRESHOLD = 0.3;
+
+    // Words are padded so that their first and last letters also start and end trigrams
+    private static final String WORD_START = "$$";
+    private static final String WORD_END = "$";
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private final Map<String, Map<Student, Integer>> studentsByWord = new HashMap<>();
+    private final PrefixTrie<Student> studentsByPrefix = new PrefixTrie<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Returns {@code word} in the form it is indexed under.
+     */
+    static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the distinct words of {@code name}, in the form they are indexed under.
+     */
+    static Set<String> wordsOf(Name name) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : name.fullName.split("\\s+")) {
+            words.add(normalize(word));
+        }
+        return words;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word}, which must be in the form it is indexed under.
+     */
+    static Set<String> trigramsOf(String word) {
+        String paddedWord = WORD_START + word + WORD_END;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Replaces the indexed names with those of {@code students}.
+     */
+    void setStudents(Iterable<Student> students) {
+        studentsByWord.clear();
+        studentsByPrefix.clear();
+        wordsByTrigram.clear();
+        for (Student student : students) {
+            addStudent(student);
+        }
+    }
+
+    /**
+     * Records {@code student} once more. A student is counted as many times as it was added, as a student and its
+     * replacement may be briefly indexed at the same time.
+     */
+    void addStudent(Student student) {
+        Name name = student.getName();
+        for (String word : wordsOf(name)) {
+            studentsByWord.computeIfAbsent(word, w -> {
+                for (String trigram : trigramsOf(w)) {
+                    wordsByTrigram.computeIfAbsent(trigram, t -> new HashSet<>()).add(w);
+                }
+                return new HashMap<>();
+            }).merge(student, 1, Integer::sum);
+        }
+        for (String word : name.fullName.split("\\s+")) {
+            studentsByPrefix.add(word, student);
+        }
+    }
+
+    /**
+     * Records {@code student} once fewer.
+     */
+    void removeStudent(Student student) {
+        Name name = student.getName();
+        for (String word : wordsOf(name)) {
+            Map<Student, Integer> students = studentsByWord.get(word);
+            if (students == null) {
+                continue;
+            }
+            students.computeIfPresent(student, (key, count) -> count > 1 ? count - 1 : null);
+            if (students.isEmpty()) {
+                studentsByWord.remove(word);
+                for (String trigram : trigramsOf(word)) {
+                    Set<String> words = wordsByTrigram.get(trigram);
+                    words.remove(word);
+                    if (words.isEmpty()) {
+                        wordsByTrigram.remove(trigram);
+                    }
+                }
+            }
+        }
+        for (String word : name.fullName.split("\\s+")) {
+            studentsByPrefix.remove(word, student);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} distinct words of the indexed names that start with {@code prefix}, ignoring
+     * case, in alphabetical order.
+     */
+    List<String> getWordsWithPrefix(String prefix, int limit) {
+        return studentsByPrefix.getKeysWithPrefix(prefix, limit);
+    }
+
+    /**
+     * Returns the longest prefix shared by every word of the indexed names that starts with {@code prefix}, ignoring
+     * case, or an empty {@code Optional} if no such word starts with {@code prefix}.
+     */
+    Optional<String> getWordsCommonPrefix(String prefix) {
+        return studentsByPrefix.getCommonPrefix(prefix);
+    }
+
+    /**
+     * Returns the indexed students with a word of their name similar to any of {@code keywords}, each mapped to the
+     * similarity of its most similar word.
+     * Similarity is the Dice coefficient of the trigrams of the two words, from 0 for no trigram in common to 1 for
+     * the same trigrams; only words with a similarity of at least {@link #SIMILARITY_THRESHOLD} are matches.
+     * Only words sharing a trigram with a keyword are compared with it.
+     */
+    Map<Student, Double> getSimilarStudents(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<Student, Double> similarities = new HashMap<>();
+        for (String keyword : keywords) {
+            Set<String> keywordTrigrams = trigramsOf(normalize(keyword));
+            Map<String, Integer> sharedTrigrams = new HashMap<>();
+            for (String trigram : keywordTrigrams) {
+                for (String word : wordsByTrigram.getOrDefault(trigram, Set.of())) {
+                    sharedTrigrams.merge(word, 1, Integer::sum);
+                }
+            }
+            for (Map.Entry<String, Integer> entry : sharedTrigrams.entrySet()) {
+                double similarity = 2.0 * entry.getValue()
+                        / (keywordTrigrams.size() + trigramsOf(entry.getKey()).size());
+                if (similarity < SIMILARITY_THRESHOLD) {
+                    continue;
+                }
+                for (Student student : studentsByWord.get(entry.getKey()).keySet()) {
+                    similarities.merge(student, similarity, Math::max);
+                }
+            }
+        }
+        return similarities;
+    }
+
+    /**
+     * Returns the similarity of the word of {@code name} most similar to any of {@code keywords}, as
+     * {@link #getSimilarStudents(Collection)} measures it, or 0 if no word is similar enough to be a match.
+     */
+    static double getSimilarity(Name name, Collection<String> keywords) {
+        requireNonNull(keywords);
+        double mostSimilar = 0;
+        for (String keyword : keywords) {
+            Set<String> keywordTrigrams = trigramsOf(normalize(keyword));
+            for (String word : wordsOf(name)) {
+                Set<String> wordTrigrams = trigramsOf(word);
+                long sharedTrigrams = wordTrigrams.stream().filter(keywordTrigrams::contains).count();
+                double similarity = 2.0 * sharedTrigrams / (keywordTrigrams.size() + wordTrigrams.size());
+                if (similarity >= SIMILARITY_THRESHOLD) {
+                    mostSimilar = Math.max(mostSimilar, similarity);
+                }
+            }
+        }
+        return mostSimilar;
+    }
+
+    /**
+     * Returns the students whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * A keyword ending with {@link NameContainsKeywordsPredicate#WILDCARD} matches any word starting with the rest
+     * of the keyword.
+     * The students are the union of those indexed under each keyword, and of those the prefix trie holds under
+     * each keyword that ends with the wildcard.
+     */
+    Set<Student> getStudentsWithNameContainingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Student> students = new HashSet<>();
+        for (String keyword : keywords) {
+            String word = normalize(keyword);
+            if (isPrefix(word)) {
+                students.addAll(studentsByPrefix.getValuesWithPrefix(toPrefix(word)));
+            } else {
+                students.addAll(studentsByWord.getOrDefault(word, Map.of()).keySet());
+            }
+        }
+        return students;
+    }
+
+    /**
+     * Returns a predicate that tests whether a student's name contains any of {@code keywords}, as
+     * {@link #getStudentsWithNameContainingAny(Collection)} finds, by reading the name of the student.
+     */
+    static Predicate<Student> nameContainsAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> words = new HashSet<>();
+        List<String> prefixes = new ArrayList<>();
+        for (String keyword : keywords) {
+            String word = normalize(keyword);
+            if (isPrefix(word)) {
+                prefixes.add(toPrefix(word));
+            } else {
+                words.add(word);
+            }
+        }
+        return student -> {
+            for (String word : wordsOf(student.getName())) {
+                if (words.contains(word) || prefixes.stream().anyMatch(word::startsWith)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private static boolean isPrefix(String keyword) {
+        return keyword.endsWith(NameContainsKeywordsPredicate.WILDCARD);
+    }
+
+    private static String toPrefix(String keyword) {
+        return keyword.substring(0, keyword.length() - NameContainsKeywordsPredicate.WILDCARD.length());
+    }
+}
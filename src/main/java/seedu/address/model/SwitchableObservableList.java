@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable {@code ObservableList} that presents the contents of another list, its source, which can be
+ * switched at any time.
+ * Changes to the current source are passed on to listeners of this list. Switching the source is reported as a
+ * single change and, unlike changing the predicate of a {@code FilteredList}, does not test any element.
+ */
+class SwitchableObservableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> sourceListener = this::onSourceChanged;
+    private ObservableList<? extends E> source;
+
+    SwitchableObservableList(ObservableList<? extends E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(sourceListener);
+    }
+
+    ObservableList<? extends E> getSource() {
+        return source;
+    }
+
+    /**
+     * Presents the contents of {@code newSource} in place of those of the current source.
+     */
+    void setSource(ObservableList<? extends E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+
+        ObservableList<? extends E> oldSource = source;
+        oldSource.removeListener(sourceListener);
+        source = newSource;
+        newSource.addListener(sourceListener);
+
+        beginChange();
+        if (!oldSource.isEmpty()) {
+            nextRemove(0, oldSource);
+        }
+        if (!newSource.isEmpty()) {
+            nextAdd(0, newSource.size());
+        }
+        endChange();
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
@@ -15,6 +15,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path eduTrackFilePath = Paths.get("data" , "edutrack.json");
+    // Null if the preferences file sets it to null, as the file is read straight into the fields; stands for JSON
+    private DataFileFormat eduTrackFileFormat = DataFileFormat.JSON;
+
+    /**
+     * How the data file is written. A data file in either format can be read whichever format is chosen, so
+     * changing the format converts the data file the next time it is saved.
+     */
+    public enum DataFileFormat {
+        /** Pretty-printed JSON that can be read and edited by hand. */
+        JSON,
+        /** A compact binary layout that is smaller and faster to read and write than JSON. */
+        BINARY
+    }
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +49,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setEduTrackFilePath(newUserPrefs.getEduTrackFilePath());
+        setEduTrackFileFormat(newUserPrefs.getEduTrackFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +70,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.eduTrackFilePath = eduTrackFilePath;
     }
 
+    public DataFileFormat getEduTrackFileFormat() {
+        return eduTrackFileFormat == null ? DataFileFormat.JSON : eduTrackFileFormat;
+    }
+
+    /**
+     * Sets the format the data file is written in. A null format stands for {@link DataFileFormat#JSON}.
+     */
+    public void setEduTrackFileFormat(DataFileFormat eduTrackFileFormat) {
+        this.eduTrackFileFormat = eduTrackFileFormat == null ? DataFileFormat.JSON : eduTrackFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +94,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && eduTrackFilePath.equals(otherUserPrefs.eduTrackFilePath);
+                && eduTrackFilePath.equals(otherUserPrefs.eduTrackFilePath)
+                && getEduTrackFileFormat() == otherUserPrefs.getEduTrackFileFormat();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, eduTrackFilePath);
+        return Objects.hash(guiSettings, eduTrackFilePath, getEduTrackFileFormat());
     }
 
     @Override
@@ -82,6 +108,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + eduTrackFilePath);
+        sb.append("\nLocal data file format : " + getEduTrackFileFormat());
         return sb.toString();
     }
 
@@ -3,6 +3,10 @@ package seedu.address.model.common;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a memo.
  * Guarantees: immutable; is valid as declared in {@link #isValidMemo(String)}
@@ -15,6 +19,9 @@ public class Memo {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^.*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final Interner<Memo> INTERNER = new Interner<>(Memo::new);
 
     public final String memo;
 
@@ -27,11 +34,23 @@ public class Memo {
         this.memo = memo;
     }
 
+    /**
+     * Returns the {@code Memo} for {@code memo}, shared with every other memo equal to it.
+     * A memo is only created and validated the first time it is seen.
+     *
+     * @param memo A valid memo.
+     * @throws IllegalArgumentException If the given memo is invalid.
+     */
+    public static Memo of(String memo) {
+        requireNonNull(memo);
+        return INTERNER.intern(memo);
+    }
+
     /**
      * Returns true if a given string is a valid memo.
      */
     public static boolean isValidMemo(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return INTERNER.contains(test) || VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
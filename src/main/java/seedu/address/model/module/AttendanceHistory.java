@@ -0,0 +1,268 @@
+package seedu.address.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.student.Student;
+
+/**
+ * Records which lessons of a class each of its students attended.
+ * Every student has a {@code BitSet} with one bit per lesson, set if the student attended that lesson,
+ * so range queries over lessons are answered a word at a time.
+ * Lessons are numbered from 0; the current lesson is the last one started.
+ * Running totals of the students present at each lesson, the lessons attended overall and the number of
+ * students by lessons attended are kept up to date on every change, so statistics about the class are answered,
+ * and the number of lessons held is changed, without looking at every student.
+ */
+public class AttendanceHistory {
+
+    public static final String MESSAGE_CONSTRAINTS = "Lessons should be numbered from 1 up to the number of "
+            + "lessons held, with the first lesson no later than the last.";
+
+    private final Map<Student, BitSet> lessonsAttended = new HashMap<>();
+    private final NavigableMap<Integer, Integer> studentsByLessonsAttended = new TreeMap<>();
+    private int[] presentCounts = new int[0];
+    private int lessonCount;
+    private int totalAttended;
+
+    /**
+     * Constructs an {@code AttendanceHistory} with no lessons.
+     */
+    public AttendanceHistory() {}
+
+    /**
+     * Constructs a copy of {@code toCopy} that can be changed independently of it.
+     */
+    public AttendanceHistory(AttendanceHistory toCopy) {
+        requireNonNull(toCopy);
+        presentCounts = toCopy.presentCounts.clone();
+        lessonCount = toCopy.lessonCount;
+        totalAttended = toCopy.totalAttended;
+        studentsByLessonsAttended.putAll(toCopy.studentsByLessonsAttended);
+        for (Map.Entry<Student, BitSet> entry : toCopy.lessonsAttended.entrySet()) {
+            lessonsAttended.put(entry.getKey(), (BitSet) entry.getValue().clone());
+        }
+    }
+
+    /**
+     * Returns true if lessons {@code from} to {@code to} (both inclusive, numbered from 1) are a valid range
+     * among {@code lessonCount} lessons.
+     */
+    public static boolean isValidLessonRange(int from, int to, int lessonCount) {
+        return 1 <= from && from <= to && to <= lessonCount;
+    }
+
+    public int getLessonCount() {
+        return lessonCount;
+    }
+
+    /**
+     * Starts a new lesson, which becomes the current lesson. Every student starts out absent from it.
+     */
+    public void startLesson() {
+        lessonCount++;
+    }
+
+    /**
+     * Records whether {@code student} attended the current lesson.
+     * If no lesson has been started yet, the first lesson is started.
+     */
+    public void setAttendance(Student student, boolean isPresent) {
+        requireNonNull(student);
+        if (lessonCount == 0) {
+            startLesson();
+        }
+        BitSet attended = lessonsAttended.computeIfAbsent(student, s -> new BitSet());
+        if (attended.get(lessonCount - 1) == isPresent) {
+            return;
+        }
+        int change = isPresent ? 1 : -1;
+        int countBefore = attended.cardinality();
+        attended.set(lessonCount - 1, isPresent);
+        if (attended.isEmpty()) {
+            lessonsAttended.remove(student);
+        }
+        addPresentCount(lessonCount - 1, change);
+        totalAttended += change;
+        moveStudent(countBefore, countBefore + change);
+    }
+
+    /**
+     * Returns the number of students who attended the current lesson.
+     */
+    public int getPresentCount() {
+        return lessonCount == 0 ? 0 : getPresentCount(lessonCount - 1);
+    }
+
+    /**
+     * Returns the number of lessons attended, summed over every student.
+     */
+    public int getTotalAttended() {
+        return totalAttended;
+    }
+
+    /**
+     * Returns the number of students who attended each number of lessons, in increasing number of lessons.
+     * Students who attended no lesson are left out.
+     */
+    public NavigableMap<Integer, Integer> getStudentsByLessonsAttended() {
+        return Collections.unmodifiableNavigableMap(studentsByLessonsAttended);
+    }
+
+    /**
+     * Returns true if {@code student} attended the given lesson.
+     */
+    public boolean hasAttended(Student student, int lesson) {
+        requireNonNull(student);
+        BitSet attended = lessonsAttended.get(student);
+        return attended != null && attended.get(lesson);
+    }
+
+    /**
+     * Returns the number of lessons from {@code from} (inclusive) to {@code to} (exclusive) that {@code student}
+     * attended.
+     */
+    public int countAttended(Student student, int from, int to) {
+        requireNonNull(student);
+        checkArgument(0 <= from && from <= to && to <= lessonCount);
+        BitSet attended = lessonsAttended.get(student);
+        return attended == null ? 0 : attended.get(from, to).cardinality();
+    }
+
+    /**
+     * Returns the number of lessons {@code student} attended.
+     */
+    public int countAttended(Student student) {
+        requireNonNull(student);
+        BitSet attended = lessonsAttended.get(student);
+        return attended == null ? 0 : attended.cardinality();
+    }
+
+    /**
+     * Returns the lessons {@code student} attended, packed 64 lessons to a {@code long}.
+     */
+    public long[] getLessonsAttended(Student student) {
+        requireNonNull(student);
+        BitSet attended = lessonsAttended.get(student);
+        return attended == null ? new long[0] : attended.toLongArray();
+    }
+
+    /**
+     * Replaces the lessons {@code student} attended with those packed in {@code words}, as returned by
+     * {@link #getLessonsAttended(Student)}.
+     * No lesson after the last lesson held may be set.
+     */
+    public void setLessonsAttended(Student student, long[] words) {
+        requireNonNull(student);
+        requireNonNull(words);
+        BitSet attended = BitSet.valueOf(words);
+        checkArgument(attended.length() <= lessonCount, MESSAGE_CONSTRAINTS);
+        removeStudent(student);
+        if (!attended.isEmpty()) {
+            lessonsAttended.put(student, attended);
+            addToTotals(attended, 1);
+        }
+    }
+
+    /**
+     * Sets the number of lessons held. No student may have attended a lesson after the last of them.
+     */
+    public void setLessonCount(int lessonCount) {
+        checkArgument(lessonCount >= 0, MESSAGE_CONSTRAINTS);
+        // Only the lessons no longer held are checked, by their number of students present
+        for (int lesson = lessonCount; lesson < this.lessonCount; lesson++) {
+            checkArgument(getPresentCount(lesson) == 0, MESSAGE_CONSTRAINTS);
+        }
+        this.lessonCount = lessonCount;
+    }
+
+    /**
+     * Moves the history of {@code target} over to {@code editedStudent}.
+     */
+    public void setStudent(Student target, Student editedStudent) {
+        requireNonNull(editedStudent);
+        BitSet attended = lessonsAttended.remove(target);
+        if (attended != null) {
+            lessonsAttended.put(editedStudent, attended);
+        }
+    }
+
+    /**
+     * Moves the history of every key of {@code replacements} over to the student it maps to.
+     */
+    public void replaceStudents(Map<Student, Student> replacements) {
+        requireNonNull(replacements);
+        Map<Student, BitSet> moved = new HashMap<>();
+        for (Map.Entry<Student, Student> replacement : replacements.entrySet()) {
+            BitSet attended = lessonsAttended.remove(replacement.getKey());
+            if (attended != null) {
+                moved.put(replacement.getValue(), attended);
+            }
+        }
+        lessonsAttended.putAll(moved);
+    }
+
+    /**
+     * Forgets the history of {@code student}.
+     */
+    public void removeStudent(Student student) {
+        BitSet attended = lessonsAttended.remove(student);
+        if (attended != null) {
+            addToTotals(attended, -1);
+        }
+    }
+
+    /**
+     * Adds the lessons in {@code attended} to the running totals {@code sign} times, which is 1 or -1.
+     */
+    private void addToTotals(BitSet attended, int sign) {
+        int count = attended.cardinality();
+        for (int lesson = attended.nextSetBit(0); lesson >= 0; lesson = attended.nextSetBit(lesson + 1)) {
+            addPresentCount(lesson, sign);
+        }
+        totalAttended += sign * count;
+        if (sign > 0) {
+            moveStudent(0, count);
+        } else {
+            moveStudent(count, 0);
+        }
+    }
+
+    /**
+     * Returns the number of students who attended {@code lesson}.
+     */
+    private int getPresentCount(int lesson) {
+        return lesson < presentCounts.length ? presentCounts[lesson] : 0;
+    }
+
+    /**
+     * Adds {@code change} to the number of students who attended {@code lesson}.
+     */
+    private void addPresentCount(int lesson, int change) {
+        if (lesson >= presentCounts.length) {
+            presentCounts = Arrays.copyOf(presentCounts, Math.max(lesson + 1, 2 * presentCounts.length));
+        }
+        presentCounts[lesson] += change;
+    }
+
+    /**
+     * Moves one student from those who attended {@code from} lessons to those who attended {@code to} lessons.
+     */
+    private void moveStudent(int from, int to) {
+        if (from > 0) {
+            studentsByLessonsAttended.computeIfPresent(from, (lessons, students) ->
+                    students == 1 ? null : students - 1);
+        }
+        if (to > 0) {
+            studentsByLessonsAttended.merge(to, 1, Integer::sum);
+        }
+    }
+}
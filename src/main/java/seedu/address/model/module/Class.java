@@ -2,23 +2,33 @@ package seedu.address.model.module;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.TreeMap;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.OrderStatisticTree;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.common.Memo;
+import seedu.address.model.student.AttendanceRanking;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.UniqueStudentList;
+import seedu.address.model.student.exceptions.StudentNotFoundException;
 
 /**
  * Represents a Class in EduTrack.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The students of the class are ranked by the number of lessons of this class they attended, kept in an
+ * order-statistic tree that every change to the students or their attendance goes through.
  */
-public class Class {
+public class Class implements AttendanceRanking {
     private final ClassName className;
     private final UniqueStudentList students;
 
@@ -26,6 +36,10 @@ public class Class {
 
     private final Schedule classSchedule;
 
+    private final AttendanceHistory attendanceHistory;
+
+    private final OrderStatisticTree<Student> byLessonsAttended;
+
     /**
      * Constructs a {@code Class} object.
      *
@@ -35,12 +49,27 @@ public class Class {
      * @param classSchedule An optional class schedule. Can be null.
      */
     public Class(ClassName className, UniqueStudentList students, Memo classMemo, Schedule classSchedule) {
+        this(className, students, classMemo, classSchedule, new AttendanceHistory());
+    }
+
+    /**
+     * Constructs a {@code Class} object with the given lesson attendance history.
+     *
+     * @param attendanceHistory The lessons attended by the students of the class. Must not be null.
+     */
+    public Class(ClassName className, UniqueStudentList students, Memo classMemo, Schedule classSchedule,
+                 AttendanceHistory attendanceHistory) {
         requireNonNull(className);
         requireNonNull(students);
+        requireNonNull(attendanceHistory);
         this.className = className;
         this.students = students;
         this.classMemo = classMemo;
         this.classSchedule = classSchedule;
+        this.attendanceHistory = attendanceHistory;
+        byLessonsAttended = new OrderStatisticTree<>(Comparator.<Student>comparingInt(this::getLessonsAttended)
+                .thenComparing(student -> student.getName().fullName));
+        rerank();
     }
 
 
@@ -56,6 +85,9 @@ public class Class {
     public UniqueStudentList getUniqueStudentList() {
         return students;
     }
+    public AttendanceHistory getAttendanceHistory() {
+        return attendanceHistory;
+    }
 
     /**
      * Checks if the given class is the same as this class.
@@ -72,12 +104,111 @@ public class Class {
                 && otherClass.getClassName().equals(getClassName());
     }
 
+    /**
+     * Creates a duplicate of this class with its own copy of the class list and attendance history.
+     * The students themselves are shared with this class.
+     *
+     * @return Class - Duplicate class whose students can be changed independently of this class
+     */
+    public Class duplicateClass() {
+        UniqueStudentList studentsCopy = new UniqueStudentList();
+        studentsCopy.setStudents(students);
+        return new Class(className, studentsCopy, classMemo, classSchedule,
+                new AttendanceHistory(attendanceHistory));
+    }
+
     public void addStudentToClass(Student toAdd) {
-        students.add(toAdd);
+        addStudentToClass(students.asUnmodifiableObservableList().size(), toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to this class at {@code index} of its class list.
+     * The student must not already exist in the class.
+     */
+    public void addStudentToClass(int index, Student toAdd) {
+        students.add(index, toAdd);
+        byLessonsAttended.add(toAdd);
+    }
+
+    /**
+     * Removes {@code s} from this class, along with the lessons of this class it attended.
+     */
     public void removeStudentFromClass(Student s) {
         students.remove(s);
+        byLessonsAttended.remove(s);
+        attendanceHistory.removeStudent(s);
+    }
+
+    /**
+     * Records whether {@code student} attended the current lesson of this class.
+     * The student must exist in the class.
+     */
+    public void recordAttendance(Student student, boolean isPresent) {
+        if (!students.contains(student)) {
+            throw new StudentNotFoundException();
+        }
+        byLessonsAttended.remove(student);
+        attendanceHistory.setAttendance(student, isPresent);
+        byLessonsAttended.add(student);
+    }
+
+    /**
+     * Replaces the lessons of this class that {@code student} attended with those packed in {@code words}, as
+     * {@link AttendanceHistory#setLessonsAttended(Student, long[])} does.
+     * The student must exist in the class.
+     */
+    public void setLessonsAttended(Student student, long[] words) {
+        if (!students.contains(student)) {
+            throw new StudentNotFoundException();
+        }
+        byLessonsAttended.remove(student);
+        attendanceHistory.setLessonsAttended(student, words);
+        byLessonsAttended.add(student);
+    }
+
+    /**
+     * Returns the number of lessons of this class that {@code student} attended.
+     */
+    @Override
+    public int getLessonsAttended(Student student) {
+        return attendanceHistory.countAttended(student);
+    }
+
+    /**
+     * Returns the number of students of this class who attended its current lesson.
+     */
+    public int getPresentCount() {
+        return attendanceHistory.getPresentCount();
+    }
+
+    /**
+     * Returns the number of students of this class who did not attend its current lesson.
+     */
+    public int getAbsentCount() {
+        return getStudentList().size() - getPresentCount();
+    }
+
+    /**
+     * Returns the average percentage of the lessons of this class that its students attended,
+     * or 0 if no lesson has been held or the class has no students.
+     */
+    public double getAverageAttendanceRate() {
+        long possibleAttendances = (long) attendanceHistory.getLessonCount() * getStudentList().size();
+        return possibleAttendances == 0 ? 0 : 100.0 * attendanceHistory.getTotalAttended() / possibleAttendances;
+    }
+
+    /**
+     * Returns the number of students of this class who attended each number of lessons, in increasing number of
+     * lessons. Only numbers of lessons attended by at least one student are included.
+     */
+    public NavigableMap<Integer, Integer> getAttendanceDistribution() {
+        NavigableMap<Integer, Integer> distribution = new TreeMap<>(attendanceHistory.getStudentsByLessonsAttended());
+        int studentsWithoutLessons = getStudentList().size()
+                - distribution.values().stream().mapToInt(Integer::intValue).sum();
+        if (studentsWithoutLessons > 0) {
+            distribution.put(0, studentsWithoutLessons);
+        }
+        return distribution;
     }
 
     /**
@@ -104,7 +235,41 @@ public class Class {
 
     public void setStudents(List<Student> students) {
         this.students.setStudents(students);
+        rerank();
     }
+
+    @Override
+    public List<Student> getFewestLessonsAttended(int limit) {
+        return byLessonsAttended.getFirst(limit);
+    }
+
+    @Override
+    public int getAttendanceRank(Student student) {
+        return countAttendedFewerLessons(student) + 1;
+    }
+
+    @Override
+    public double getAttendancePercentile(Student student) {
+        int size = byLessonsAttended.size();
+        return size == 0 ? 0 : 100.0 * countAttendedFewerLessons(student) / size;
+    }
+
+    private int countAttendedFewerLessons(Student student) {
+        requireNonNull(student);
+        int lessonsAttended = getLessonsAttended(student);
+        return byLessonsAttended.countBefore(other -> getLessonsAttended(other) < lessonsAttended);
+    }
+
+    /**
+     * Rebuilds the attendance ranking from the class list.
+     */
+    private void rerank() {
+        byLessonsAttended.clear();
+        for (Student student : students) {
+            byLessonsAttended.add(student);
+        }
+    }
+
     /**
      * Checks if this class is equal to another object.
      *
@@ -155,6 +320,27 @@ public class Class {
         requireNonNull(editedStudent);
 
         students.setStudent(target, editedStudent);
+        // The target is ranked by its own history, so it is removed before the history moves over
+        byLessonsAttended.remove(target);
+        attendanceHistory.setStudent(target, editedStudent);
+        byLessonsAttended.add(editedStudent);
+    }
+
+    /**
+     * Replaces every student of this class that is a key of {@code replacements} with the student it maps to,
+     * as a single change to the student list of this class.
+     */
+    public void replaceStudents(Map<Student, Student> replacements) {
+        List<Student> targets = new ArrayList<>();
+        for (Student target : replacements.keySet()) {
+            if (students.contains(target)) {
+                targets.add(target);
+            }
+        }
+        students.replaceStudents(replacements);
+        targets.forEach(byLessonsAttended::remove);
+        attendanceHistory.replaceStudents(replacements);
+        targets.forEach(target -> byLessonsAttended.add(replacements.get(target)));
     }
 
 
@@ -3,6 +3,10 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents the name of a class in EduTrack.
  * Guarantees: immutable; is valid as declared in {@link #isValidClassName(String)}
@@ -12,6 +16,9 @@ public class ClassName {
     public static final String MESSAGE_CONSTRAINTS = "Class name should not contain spaces.";
     public static final String MESSAGE_EMPTY_CLASS_NAME = "Class name not specified.";
     public static final String VALIDATION_REGEX = "^[^\\s]*$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Interner<ClassName> INTERNER = new Interner<>(ClassName::new);
+
     public final String className;
 
     /**
@@ -26,6 +33,18 @@ public class ClassName {
         this.className = className.toUpperCase();
     }
 
+    /**
+     * Returns the {@code ClassName} for {@code className}, shared with every other class name equal to it.
+     * A class name is only created and validated the first time it is seen.
+     *
+     * @param className A valid class name.
+     * @throws IllegalArgumentException If the given class name is invalid.
+     */
+    public static ClassName of(String className) {
+        requireNonNull(className);
+        return INTERNER.intern(className.toUpperCase());
+    }
+
     /**
      * Returns true if a given string is a valid class name.
      *
@@ -33,7 +52,7 @@ public class ClassName {
      * @return True if the string is a valid class name, false otherwise.
      */
     public static boolean isValidClassName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return INTERNER.contains(test) || VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -2,9 +2,19 @@ package seedu.address.model.module;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigits;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.Interner;
 
 /**
  * Represents a Class's schedule in EduTrack.
+ * A schedule is either blank, for a class that is not scheduled, or a weekday with a start and end time, which are
+ * parsed once when the schedule is created.
  * Guarantees: immutable; is valid as declared in {@link #isValidSchedule(String)}
  */
 public class Schedule {
@@ -13,14 +23,34 @@ public class Schedule {
             + "E.g: mon, 10:00-12:00";
 
     public static final String VALIDATION_REGEX = "^[\\w]+,\\s(\\d{2}:\\d{2}-\\d{2}:\\d{2})$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern DAY_PATTERN = Pattern.compile("mon|tue|wed|thu|fri");
+    private static final String[] DAYS = {"mon", "tue", "wed", "thu", "fri"};
+    // Characters matched by \s in VALIDATION_REGEX
+    private static final String SEPARATORS = " \t\n\u000B\f\r";
+    // Length of "ddd, hh:mm-hh:mm", the only shape that passes both the format and the day checks
+    private static final int SCHEDULE_LENGTH = 16;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int START_TIME_INDEX = 5;
+    private static final int END_TIME_INDEX = 11;
+
+    private static final Interner<Schedule> INTERNER = new Interner<>(Schedule::new);
 
     public final String value;
 
+    // The weekday and the minutes after midnight the class starts and ends, or null and -1 if not scheduled
+    private final DayOfWeek day;
+    private final int startMinute;
+    private final int endMinute;
+
     /**
      * Constructs a default empty {@code Schedule}.
      */
     public Schedule() {
         value = " ";
+        day = null;
+        startMinute = -1;
+        endMinute = -1;
     }
     /**
      * Constructs a {@code Schedule}.
@@ -31,17 +61,97 @@ public class Schedule {
         requireNonNull(schedule);
         checkArgument(isValidSchedule(schedule), MESSAGE_CONSTRAINTS);
         value = schedule;
+        if (schedule.trim().isEmpty()) {
+            day = null;
+            startMinute = -1;
+            endMinute = -1;
+        } else {
+            day = dayAt(schedule, 0);
+            startMinute = parseTimeAt(schedule, START_TIME_INDEX);
+            endMinute = parseTimeAt(schedule, END_TIME_INDEX);
+        }
+    }
+
+    /**
+     * Returns the {@code Schedule} for {@code schedule}, shared with every other schedule equal to it.
+     * A schedule is only created and validated the first time it is seen.
+     *
+     * @param schedule A valid schedule.
+     * @throws IllegalArgumentException If the given schedule is invalid.
+     */
+    public static Schedule of(String schedule) {
+        requireNonNull(schedule);
+        return INTERNER.intern(schedule);
     }
 
     /**
      * Returns true if a given string is a valid schedule.
      */
     public static boolean isValidSchedule(String test) {
-        if (test.trim().equals("")) {
+        if (INTERNER.contains(test) || test.trim().isEmpty()) {
             return true;
         }
-        String[] parts = test.trim().split(",");
-        return (isValidFormat(test) && isValidDay(parts[0]) && isValidTimeRange(parts[1]));
+        // Equivalent to isValidFormat, isValidDay and isValidTimeRange together, in a single pass over the string
+        if (test.length() != SCHEDULE_LENGTH || test.charAt(3) != ','
+                || SEPARATORS.indexOf(test.charAt(4)) < 0 || dayAt(test, 0) == null) {
+            return false;
+        }
+        int start = parseTimeAt(test, START_TIME_INDEX);
+        int end = parseTimeAt(test, END_TIME_INDEX);
+        return test.charAt(10) == '-' && start >= 0 && end >= 0 && start < end;
+    }
+
+    /**
+     * Returns the weekday of the three characters of {@code test} from {@code index}, if they are a day accepted
+     * by {@link #isValidDay(String)}, or null otherwise.
+     * Only ASCII letters are compared ignoring case, so letters such as the dotless i do not match.
+     */
+    private static DayOfWeek dayAt(String test, int index) {
+        for (int i = 0; i < DAYS.length; i++) {
+            String day = DAYS[i];
+            int matched = 0;
+            while (matched < day.length() && index + matched < test.length()
+                    && isAsciiLetterIgnoreCase(test.charAt(index + matched), day.charAt(matched))) {
+                matched++;
+            }
+            if (matched == day.length()) {
+                return DayOfWeek.MONDAY.plus(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if {@code c} is the ASCII letter {@code lowerCaseLetter} in either case.
+     */
+    private static boolean isAsciiLetterIgnoreCase(char c, char lowerCaseLetter) {
+        boolean isAsciiLetter = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+        return isAsciiLetter && (c | 0x20) == lowerCaseLetter;
+    }
+
+    /**
+     * Returns the number of minutes after midnight of the time "hh:mm" in {@code test} at {@code index},
+     * or -1 if it is not a valid time.
+     */
+    private static int parseTimeAt(String test, int index) {
+        if (!isAsciiDigits(test, index, index + 2) || test.charAt(index + 2) != ':'
+                || !isAsciiDigits(test, index + 3, index + 5)) {
+            return -1;
+        }
+        int hour = (test.charAt(index) - '0') * 10 + (test.charAt(index + 1) - '0');
+        int minute = (test.charAt(index + 3) - '0') * 10 + (test.charAt(index + 4) - '0');
+        if (hour > 23 || minute > 59) {
+            return -1;
+        }
+        return hour * MINUTES_PER_HOUR + minute;
+    }
+
+    /**
+     * Returns the number of minutes after midnight of {@code time}, as the start and end of a schedule are counted.
+     */
+    public static int getMinuteOfDay(LocalTime time) {
+        requireNonNull(time);
+        return time.getHour() * MINUTES_PER_HOUR + time.getMinute();
     }
 
     /**
@@ -51,7 +161,7 @@ public class Schedule {
      * @return True if the string matches the specified format, otherwise false.
      */
     public static boolean isValidFormat(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -61,7 +171,7 @@ public class Schedule {
      * @return True if the string is a valid day ("Mon," "Tue," "Wed," "Thu," or "Fri"), otherwise false.
      */
     public static boolean isValidDay(String test) {
-        return test.trim().toLowerCase().matches("mon|tue|wed|thu|fri");
+        return DAY_PATTERN.matcher(test.trim().toLowerCase()).matches();
     }
 
     /**
@@ -90,6 +200,61 @@ public class Schedule {
         return validHour && validMinute && validTimeRange;
     }
 
+    /**
+     * Returns true if this schedule has a day and time, and false if it is blank.
+     */
+    public boolean isScheduled() {
+        return day != null;
+    }
+
+    /**
+     * Returns the day of this schedule, or null if it is blank.
+     */
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    /**
+     * Returns the number of minutes after midnight the class starts, or -1 if this schedule is blank.
+     */
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    /**
+     * Returns the number of minutes after midnight the class ends, or -1 if this schedule is blank.
+     */
+    public int getEndMinute() {
+        return endMinute;
+    }
+
+    /**
+     * Returns true if this schedule and {@code other} are on the same day at overlapping times.
+     * A class ending at the time another starts does not clash with it, and blank schedules clash with nothing.
+     */
+    public boolean clashesWith(Schedule other) {
+        requireNonNull(other);
+        return isScheduled() && day == other.day
+                && startMinute < other.endMinute && other.startMinute < endMinute;
+    }
+
+    /**
+     * Returns true if the class runs on {@code day} at {@code minute} minutes after midnight, including the minute
+     * it starts but not the minute it ends.
+     */
+    public boolean isRunningAt(DayOfWeek day, int minute) {
+        requireNonNull(day);
+        return isScheduled() && this.day == day && startMinute <= minute && minute < endMinute;
+    }
+
+    /**
+     * Returns true if the class runs at {@code time}, as in {@link #isRunningAt(DayOfWeek, int)}.
+     */
+    public boolean isRunningAt(LocalDateTime time) {
+        requireNonNull(time);
+        return isRunningAt(time.getDayOfWeek(), getMinuteOfDay(time.toLocalTime()));
+    }
+
     @Override
     public String toString() {
         return value;
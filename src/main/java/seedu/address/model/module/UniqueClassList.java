@@ -3,12 +3,20 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.IntervalTree;
 import seedu.address.model.module.exceptions.ClassNotFoundException;
 import seedu.address.model.module.exceptions.DuplicateClassException;
 
@@ -18,7 +26,10 @@ import seedu.address.model.module.exceptions.DuplicateClassException;
  * classes uses Class#isSameClass(Class) for equality to ensure that the class being added or updated is
  * unique in terms of identity in the UniqueClassList. However, the removal of a class uses Class#equals(Object)
  * to ensure that the class with exactly the same fields will be removed.
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. The position of each class is also indexed by {@code ClassName}, which
+ * lets classes be resolved by name, and located in the list, without scanning the list. As class names are normalised
+ * to upper case, lookups by name are case-insensitive. Scheduled classes are also kept in an interval tree for each
+ * day, so the classes running at a given time, or clashing with a given schedule, are found without scanning the list.
  *
  * @see Class#isSameClass(Class)
  */
@@ -27,6 +38,8 @@ public class UniqueClassList implements Iterable<Class> {
     private final ObservableList<Class> internalList = FXCollections.observableArrayList();
     private final ObservableList<Class> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<ClassName, Integer> indexOf = new HashMap<>();
+    private final Map<DayOfWeek, IntervalTree<Class>> classesByTime = new EnumMap<>(DayOfWeek.class);
 
     /**
      * Returns true if the list contains an equivalent class as the given argument.
@@ -36,7 +49,31 @@ public class UniqueClassList implements Iterable<Class> {
      */
     public boolean contains(Class toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameClass);
+        return indexOf.containsKey(toCheck.getClassName());
+    }
+
+    /**
+     * Returns the position of {@code c} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Class c) {
+        requireNonNull(c);
+        return indexOf.getOrDefault(c.getClassName(), -1);
+    }
+
+    /**
+     * Returns the class with the given name.
+     *
+     * @param className The name of the class to retrieve.
+     * @return The class with the given name.
+     * @throws ClassNotFoundException If no class in the list has the given name.
+     */
+    public Class get(ClassName className) throws ClassNotFoundException {
+        requireNonNull(className);
+        Integer index = indexOf.get(className);
+        if (index == null) {
+            throw new ClassNotFoundException();
+        }
+        return internalList.get(index);
     }
 
     /**
@@ -47,11 +84,25 @@ public class UniqueClassList implements Iterable<Class> {
      * @throws DuplicateClassException If adding the class would result in duplicate classes.
      */
     public void add(Class toAdd) {
-        requireNonNull(toAdd);
+        add(Index.fromZeroBased(internalList.size()), toAdd);
+    }
+
+    /**
+     * Adds a class to the list at the specified index, moving the classes from that index onwards back by one.
+     * The class must not already exist in the list.
+     *
+     * @param index The index to add the class at.
+     * @param toAdd The class to add.
+     * @throws DuplicateClassException If adding the class would result in duplicate classes.
+     */
+    public void add(Index index, Class toAdd) {
+        requireAllNonNull(index, toAdd);
         if (contains(toAdd)) {
             throw new DuplicateClassException();
         }
-        internalList.add(toAdd);
+        internalList.add(index.getZeroBased(), toAdd);
+        reindexFrom(index.getZeroBased());
+        addSchedule(toAdd);
     }
 
     /**
@@ -63,10 +114,11 @@ public class UniqueClassList implements Iterable<Class> {
      */
     public void remove(Class toRemove) throws ClassNotFoundException {
         requireNonNull(toRemove);
-        if (!this.contains(toRemove)) {
+        Integer index = indexOf.get(toRemove.getClassName());
+        if (index == null) {
             throw new ClassNotFoundException();
         }
-        this.internalList.remove(toRemove);
+        remove(Index.fromZeroBased(index));
     }
 
     /**
@@ -78,12 +130,18 @@ public class UniqueClassList implements Iterable<Class> {
         if (index.getZeroBased() >= internalList.size()) {
             throw new IndexOutOfBoundsException();
         }
-        internalList.remove(index.getZeroBased());
+        Class removed = internalList.remove(index.getZeroBased());
+        indexOf.remove(removed.getClassName());
+        reindexFrom(index.getZeroBased());
+        removeSchedule(removed);
     }
 
     public void setClasses(UniqueClassList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        indexOf.clear();
+        indexOf.putAll(replacement.indexOf);
+        setSchedules();
     }
 
     /**
@@ -97,6 +155,9 @@ public class UniqueClassList implements Iterable<Class> {
         }
 
         internalList.setAll(classes);
+        indexOf.clear();
+        reindexFrom(0);
+        setSchedules();
     }
 
     /**
@@ -159,6 +220,7 @@ public class UniqueClassList implements Iterable<Class> {
      * Sets the class at the specified index in the list to the specified class.
      * @param index The index of the class to set.
      * @param classToSet The class to set.
+     * @throws DuplicateClassException If another class in the list already has the name of {@code classToSet}.
      */
 
     public void setClass(Index index, Class classToSet) {
@@ -166,17 +228,79 @@ public class UniqueClassList implements Iterable<Class> {
         if (index.getZeroBased() >= internalList.size()) {
             throw new IndexOutOfBoundsException();
         }
+        Class target = internalList.get(index.getZeroBased());
+        if (!target.isSameClass(classToSet) && contains(classToSet)) {
+            throw new DuplicateClassException();
+        }
+        indexOf.remove(target.getClassName());
+        indexOf.put(classToSet.getClassName(), index.getZeroBased());
+        removeSchedule(target);
+        addSchedule(classToSet);
         internalList.set(index.getZeroBased(), classToSet);
     }
+
+    /**
+     * Returns the classes running on {@code day} at {@code minute} minutes after midnight, in order of start time.
+     *
+     * @see Schedule#isRunningAt(DayOfWeek, int)
+     */
+    public List<Class> getClassesRunningAt(DayOfWeek day, int minute) {
+        requireNonNull(day);
+        IntervalTree<Class> classes = classesByTime.get(day);
+        return classes == null ? new ArrayList<>() : classes.getContaining(minute);
+    }
+
+    /**
+     * Returns the classes whose schedule clashes with {@code schedule}, in order of start time.
+     *
+     * @see Schedule#clashesWith(Schedule)
+     */
+    public List<Class> getClassesClashingWith(Schedule schedule) {
+        requireNonNull(schedule);
+        IntervalTree<Class> classes = schedule.isScheduled() ? classesByTime.get(schedule.getDay()) : null;
+        return classes == null
+                ? new ArrayList<>()
+                : classes.getOverlapping(schedule.getStartMinute(), schedule.getEndMinute());
+    }
+
+    private void addSchedule(Class c) {
+        Schedule schedule = c.getClassSchedule();
+        if (schedule != null && schedule.isScheduled()) {
+            classesByTime.computeIfAbsent(schedule.getDay(), day -> new IntervalTree<>())
+                    .add(schedule.getStartMinute(), schedule.getEndMinute(), c);
+        }
+    }
+
+    private void removeSchedule(Class c) {
+        Schedule schedule = c.getClassSchedule();
+        if (schedule != null && schedule.isScheduled()) {
+            classesByTime.get(schedule.getDay()).remove(schedule.getStartMinute(), schedule.getEndMinute(), c);
+        }
+    }
+
+    /**
+     * Updates the position index for the classes from {@code start} to the end of the list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            indexOf.put(internalList.get(i).getClassName(), i);
+        }
+    }
+
+    private void setSchedules() {
+        classesByTime.clear();
+        for (Class c : internalList) {
+            addSchedule(c);
+        }
+    }
     /**
      * Returns true if {@code classes} contains only unique classes.
      */
     public boolean classesAreUnique(List<Class> classes) {
-        for (int i = 0; i < classes.size() - 1; i++) {
-            for (int j = i + 1; j < classes.size(); j++) {
-                if (classes.get(i).isSameClass(classes.get(j))) {
-                    return false;
-                }
+        Set<ClassName> seen = new HashSet<>();
+        for (Class c : classes) {
+            if (!seen.add(c.getClassName())) {
+                return false;
             }
         }
         return true;
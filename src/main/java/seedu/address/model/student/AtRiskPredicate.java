@@ -0,0 +1,37 @@
+package seedu.address.model.student;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Student} is at risk: absent from the current lesson, having attended fewer than
+ * {@link #MIN_LESSONS_ATTENDED} lessons in all.
+ * The test only looks at the student, so a list filtered by it only needs to test the students that change.
+ */
+public class AtRiskPredicate implements Predicate<Student> {
+
+    /** The fewest lessons a student absent from the current lesson must have attended to not be at risk */
+    public static final int MIN_LESSONS_ATTENDED = 3;
+
+    @Override
+    public boolean test(Student student) {
+        return !student.getCurrentAttendance().getIsPresent()
+                && student.getLessonsAttended().getTotalLessons() < MIN_LESSONS_ATTENDED;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof AtRiskPredicate;
+    }
+
+    @Override
+    public int hashCode() {
+        return AtRiskPredicate.class.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("minLessonsAttended", MIN_LESSONS_ATTENDED).toString();
+    }
+}
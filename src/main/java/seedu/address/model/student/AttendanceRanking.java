@@ -0,0 +1,32 @@
+package seedu.address.model.student;
+
+import java.util.List;
+
+/**
+ * Ranks a group of students by the number of lessons they attended, from fewest to most.
+ */
+public interface AttendanceRanking {
+
+    /**
+     * Returns the number of lessons {@code student} attended, as counted by this ranking.
+     */
+    int getLessonsAttended(Student student);
+
+    /**
+     * Returns up to {@code limit} students who attended the fewest lessons, from fewest to most. Students who
+     * attended as many lessons are in alphabetical order of name.
+     */
+    List<Student> getFewestLessonsAttended(int limit);
+
+    /**
+     * Returns the rank of {@code student}, from 1 for the students who attended the fewest lessons. Students who
+     * attended as many lessons share a rank.
+     */
+    int getAttendanceRank(Student student);
+
+    /**
+     * Returns the percentage of the ranked students who attended fewer lessons than {@code student}.
+     * This is 0 for the students who attended the fewest lessons, and for an empty ranking.
+     */
+    double getAttendancePercentile(Student student);
+}
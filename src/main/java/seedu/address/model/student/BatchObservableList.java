@@ -0,0 +1,90 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * A modifiable {@code ObservableList} backed by an array list, whose elements can also be replaced in batches.
+ * A batch is reported to listeners as a single change holding one replacement for each index replaced, so they need
+ * not look at the elements that did not change.
+ */
+class BatchObservableList<E> extends ObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Replaces the element at each index that is a key of {@code replacements} with the element it maps to.
+     */
+    void setEach(Map<Integer, ? extends E> replacements) {
+        requireNonNull(replacements);
+        beginChange();
+        for (Map.Entry<Integer, ? extends E> replacement : new TreeMap<>(replacements).entrySet()) {
+            int index = replacement.getKey();
+            nextSet(index, elements.set(index, replacement.getValue()));
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E old = elements.set(index, element);
+        beginChange();
+        nextSet(index, old);
+        endChange();
+        return old;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        elements.add(index, element);
+        modCount++;
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = elements.remove(index);
+        modCount++;
+        beginChange();
+        nextRemove(index, removed);
+        endChange();
+        return removed;
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        requireNonNull(replacement);
+        List<E> removed = new ArrayList<>(elements);
+        elements.clear();
+        elements.addAll(replacement);
+        modCount++;
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!elements.isEmpty()) {
+            nextAdd(0, elements.size());
+        }
+        endChange();
+        return true;
+    }
+}
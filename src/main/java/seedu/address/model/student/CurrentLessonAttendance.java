@@ -8,12 +8,16 @@ import seedu.address.model.student.exceptions.StudentAlreadyMarkedPresent;
 /**
  * Represents a Student's current lesson's attendance in the EduTrack.
  * current lesson - Active lesson at the moment as the TA is marking attendance
+ * Guarantees: immutable, so students can share instances and marking does not need to copy them.
  */
 public class CurrentLessonAttendance {
 
     public static final String MESSAGE_CONSTRAINTS = "Attendance should be of the format of True or False";
 
-    private Boolean isPresent;
+    public static final CurrentLessonAttendance PRESENT = new CurrentLessonAttendance(true);
+    public static final CurrentLessonAttendance ABSENT = new CurrentLessonAttendance(false);
+
+    private final boolean isPresent;
 
     /**
      * Constructs a {@code CurrentLessonAttendance}.
@@ -26,30 +30,37 @@ public class CurrentLessonAttendance {
     }
 
     /**
-     * Sets the attendance of the current student to be present.
+     * Returns the shared {@code CurrentLessonAttendance} for {@code isPresent}.
+     */
+    public static CurrentLessonAttendance of(boolean isPresent) {
+        return isPresent ? PRESENT : ABSENT;
+    }
+
+    /**
+     * Returns the attendance of a student who was absent and is now present.
      *
      * @throws StudentAlreadyMarkedPresent - Student already marked present
      */
-    public void setPresent() throws StudentAlreadyMarkedPresent {
+    public CurrentLessonAttendance markPresent() throws StudentAlreadyMarkedPresent {
         if (this.isPresent) {
             throw new StudentAlreadyMarkedPresent();
         }
-        this.isPresent = true;
+        return PRESENT;
     }
 
     /**
-     * Sets the attendance of the current student to be absent.
+     * Returns the attendance of a student who was present and is now absent.
      *
      * @throws StudentAlreadyMarkedAbsent - Student already marked absent
      */
-    public void setAbsent() throws StudentAlreadyMarkedAbsent {
+    public CurrentLessonAttendance markAbsent() throws StudentAlreadyMarkedAbsent {
         if (!this.isPresent) {
             throw new StudentAlreadyMarkedAbsent();
         }
-        this.isPresent = false;
+        return ABSENT;
     }
 
-    public Boolean getIsPresent() {
+    public boolean getIsPresent() {
         return this.isPresent;
     }
 
@@ -60,7 +71,7 @@ public class CurrentLessonAttendance {
 
     @Override
     public int hashCode() {
-        return this.isPresent.hashCode();
+        return Boolean.hashCode(isPresent);
     }
 
     @Override
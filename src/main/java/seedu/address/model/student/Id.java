@@ -2,6 +2,9 @@ package seedu.address.model.student;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigits;
+
+import seedu.address.commons.util.Interner;
 
 /**
  * Represents a Student's Id in EduTrack.
@@ -12,6 +15,8 @@ public class Id {
     public static final String MESSAGE_CONSTRAINTS = "Student id "
             + "should only contain alphanumeric characters, and it should begin with A and end with A-Z.";
     public static final String VALIDATION_REGEX = "^A[0-9]+[A-Z]$";
+    private static final Interner<Id> INTERNER = new Interner<>(Id::new);
+
     public final String id;
 
     /**
@@ -25,11 +30,32 @@ public class Id {
         this.id = id;
     }
 
+    /**
+     * Returns the {@code Id} for {@code id}, shared with every other id equal to it.
+     * An id is only created and validated the first time it is seen.
+     *
+     * @param id A valid id.
+     * @throws IllegalArgumentException If the given id is invalid.
+     */
+    public static Id of(String id) {
+        requireNonNull(id);
+        return INTERNER.intern(id);
+    }
+
     /**
      * Returns true if a given string is a valid id.
+     * The format is simple enough to check character by character, which gives the same result as
+     * {@link #VALIDATION_REGEX} without running a regex.
      */
     public static boolean isValidId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (INTERNER.contains(test)) {
+            return true;
+        }
+        int last = test.length() - 1;
+        return last >= 2
+                && test.charAt(0) == 'A'
+                && isAsciiDigits(test, 1, last)
+                && test.charAt(last) >= 'A' && test.charAt(last) <= 'Z';
     }
 
     @Override
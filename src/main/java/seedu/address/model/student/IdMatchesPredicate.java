@@ -0,0 +1,47 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Student}'s {@code Id} matches the id given.
+ */
+public class IdMatchesPredicate implements Predicate<Student> {
+    private final Id id;
+
+    /**
+     * Creates a predicate that matches students whose id is {@code id}.
+     */
+    public IdMatchesPredicate(Id id) {
+        requireNonNull(id);
+        this.id = id;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return id.equals(student.getId());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IdMatchesPredicate)) {
+            return false;
+        }
+
+        IdMatchesPredicate otherIdMatchesPredicate = (IdMatchesPredicate) other;
+        return id.equals(otherIdMatchesPredicate.id);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("id", id).toString();
+    }
+}
@@ -4,10 +4,22 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * Represents the total number of lessons a Student has attended.
+ * Guarantees: immutable, so students can share instances and marking does not need to copy them.
  */
 public class LessonsAttended {
     public static final String MESSAGE_CONSTRAINTS = "LessonsAttended should be an int";
-    private Integer totalLessons;
+
+    /** Counts up to this value are shared rather than allocated each time they are reached. */
+    private static final int CACHE_SIZE = 256;
+    private static final LessonsAttended[] CACHE = new LessonsAttended[CACHE_SIZE];
+
+    static {
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            CACHE[i] = new LessonsAttended(i);
+        }
+    }
+
+    private final int totalLessons;
 
     /**
      * Constructs a {@code LessonsAttended}.
@@ -30,6 +42,18 @@ public class LessonsAttended {
         this.totalLessons = 0;
     }
 
+    /**
+     * Returns a {@code LessonsAttended} of {@code totalLessons}, shared with other students where possible.
+     *
+     * @throws IllegalArgumentException if {@code totalLessons} is not valid.
+     */
+    public static LessonsAttended of(int totalLessons) {
+        if (totalLessons >= 0 && totalLessons < CACHE_SIZE) {
+            return CACHE[totalLessons];
+        }
+        return new LessonsAttended(totalLessons);
+    }
+
     /**
      * Verifies if the lessonsAttended is valid.
      *
@@ -44,22 +68,22 @@ public class LessonsAttended {
         return true;
     }
 
-    public Integer getTotalLessons() {
+    public int getTotalLessons() {
         return this.totalLessons;
     }
 
     /**
-     * Increases the number of lessons the student attended by 1.
+     * Returns the number of lessons attended after attending one more.
      */
-    public void incrementLessons() {
-        this.totalLessons++;
+    public LessonsAttended increment() {
+        return of(totalLessons + 1);
     }
 
     /**
-     * Reduces the number of lessons the student attended by 1.
+     * Returns the number of lessons attended after one fewer, stopping at 0.
      */
-    public void decrementLessons() {
-        this.totalLessons--;
+    public LessonsAttended decrement() {
+        return of(Math.max(0, totalLessons - 1));
     }
 
     @Override
@@ -74,10 +98,16 @@ public class LessonsAttended {
         }
 
         LessonsAttended otherAttendance = (LessonsAttended) other;
-        return this.totalLessons.equals(otherAttendance.totalLessons);
+        return this.totalLessons == otherAttendance.totalLessons;
     }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(totalLessons);
+    }
+
     @Override
     public String toString() {
-        return this.totalLessons.toString();
+        return Integer.toString(this.totalLessons);
     }
 }
@@ -3,6 +3,10 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,6 +22,9 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final Interner<Name> INTERNER = new Interner<>(Name::new);
 
     public final String fullName;
 
@@ -32,11 +39,23 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Returns the {@code Name} for {@code name}, shared with every other name equal to it.
+     * A name is only created and validated the first time it is seen.
+     *
+     * @param name A valid name.
+     * @throws IllegalArgumentException If the given name is invalid.
+     */
+    public static Name of(String name) {
+        requireNonNull(name);
+        return INTERNER.intern(name);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return INTERNER.contains(test) || VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
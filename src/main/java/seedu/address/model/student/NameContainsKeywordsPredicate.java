@@ -1,5 +1,6 @@
 package seedu.address.model.student;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -9,18 +10,33 @@ import seedu.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Student}'s {@code Name} matches any of the keywords
  * given.
+ * A keyword ending with {@link #WILDCARD} matches any word of the name that starts with the rest of the keyword.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Student> {
+    public static final String WILDCARD = "*";
+
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Student student) {
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(student.getName().fullName, keyword));
+                .anyMatch(keyword -> keyword.endsWith(WILDCARD)
+                        ? containsWordStartingWith(student.getName().fullName,
+                                keyword.substring(0, keyword.length() - WILDCARD.length()))
+                        : StringUtil.containsWordIgnoreCase(student.getName().fullName, keyword));
+    }
+
+    private static boolean containsWordStartingWith(String sentence, String prefix) {
+        return Arrays.stream(sentence.split("\\s+"))
+                .anyMatch(word -> word.regionMatches(true, 0, prefix, 0, prefix.length()));
     }
 
     @Override
@@ -7,8 +7,6 @@ import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.common.Memo;
-import seedu.address.model.student.exceptions.StudentAlreadyMarkedAbsent;
-import seedu.address.model.student.exceptions.StudentAlreadyMarkedPresent;
 
 /**
  * Represents a Student in the address book.
@@ -17,8 +15,8 @@ import seedu.address.model.student.exceptions.StudentAlreadyMarkedPresent;
  */
 public class Student {
     // Default fields
-    private static final Id DEFAULT_ID = new Id("A0000000Z");
-    private static final Memo DEFAULT_MEMO = new Memo("");
+    private static final Id DEFAULT_ID = Id.of("A0000000Z");
+    private static final Memo DEFAULT_MEMO = Memo.of("");
 
     // Identity fields
     private final Name name;
@@ -28,9 +26,9 @@ public class Student {
     private final Memo memo;
 
     // The current lesson's attendance (Present/Absent)
-    private CurrentLessonAttendance currentLessonAttendance;
+    private final CurrentLessonAttendance currentLessonAttendance;
     // Cumulative number of lessons attended
-    private LessonsAttended lessonsAttended;
+    private final LessonsAttended lessonsAttended;
 
     /**
      * If only name is provided.
@@ -40,8 +38,8 @@ public class Student {
         this.name = name;
         this.id = DEFAULT_ID;
         this.memo = DEFAULT_MEMO;
-        this.currentLessonAttendance = new CurrentLessonAttendance(false);
-        this.lessonsAttended = new LessonsAttended();
+        this.currentLessonAttendance = CurrentLessonAttendance.ABSENT;
+        this.lessonsAttended = LessonsAttended.of(0);
     }
 
     /**
@@ -95,35 +93,12 @@ public class Student {
 
     /**
      * Creates a duplicate object of this student.
+     * The fields of a student are immutable, so the duplicate shares them with this student.
      *
      * @return Student - Duplicate student that lives on a different part of memory
      */
     public Student duplicateStudent() {
-        return new Student(new Name(this.name.fullName),
-                this.getId(),
-                this.getMemo(),
-                new CurrentLessonAttendance(this.currentLessonAttendance.getIsPresent()),
-                new LessonsAttended(this.lessonsAttended.getTotalLessons()));
-    }
-
-    /**
-     * Marks a student as present for the current lesson.
-     *
-     * @throws StudentAlreadyMarkedPresent If the Student has already been marked present
-     */
-    public void markStudentPresent() throws StudentAlreadyMarkedPresent {
-        this.currentLessonAttendance.setPresent();
-        this.lessonsAttended.incrementLessons();
-    }
-
-    /**
-     * Marks a student as absent for the current lesson.
-     *
-     * @throws StudentAlreadyMarkedAbsent If the Student has already been marked absent
-     */
-    public void markStudentAbsent() throws StudentAlreadyMarkedAbsent {
-        this.currentLessonAttendance.setAbsent();
-        this.lessonsAttended.decrementLessons();
+        return new Student(this.name, this.id, this.memo, this.currentLessonAttendance, this.lessonsAttended);
     }
 
     /**
@@ -3,11 +3,17 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.OrderStatisticTree;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
 
@@ -22,15 +28,25 @@ import seedu.address.model.student.exceptions.StudentNotFoundException;
  * a student uses Student#equals(Object) so
  * as to ensure that the student with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. The position of every student is
+ * kept in a hash index alongside the backing list, so membership checks,
+ * additions and replacements do not need to scan the list.
+ * The students are also kept in an order-statistic tree sorted by the number of
+ * lessons they attended, so they can be ranked by attendance without sorting.
  *
  * @see Student#isSameStudent(Student)
  */
-public class UniqueStudentList implements Iterable<Student> {
+public class UniqueStudentList implements Iterable<Student>, AttendanceRanking {
 
-    private final ObservableList<Student> internalList = FXCollections.observableArrayList();
+    private static final Comparator<Student> BY_LESSONS_ATTENDED = Comparator
+            .comparingInt(UniqueStudentList::lessonsAttendedBy)
+            .thenComparing(student -> student.getName().fullName);
+
+    private final BatchObservableList<Student> internalList = new BatchObservableList<>();
     private final ObservableList<Student> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(internalList);
+    private final Map<Student, Integer> indexOf = new HashMap<>();
+    private final OrderStatisticTree<Student> byLessonsAttended = new OrderStatisticTree<>(BY_LESSONS_ATTENDED);
 
     /**
      * Returns true if the list contains an equivalent student as the given
@@ -38,7 +54,15 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return indexOf.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the position of {@code student} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Student student) {
+        requireNonNull(student);
+        return indexOf.getOrDefault(student, -1);
     }
 
     /**
@@ -46,11 +70,23 @@ public class UniqueStudentList implements Iterable<Student> {
      * The student must not already exist in the list.
      */
     public void add(Student toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a student to the list at {@code index}, moving the students from {@code index} onwards back by one.
+     * The student must not already exist in the list.
+     */
+    public void add(int index, Student toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+        byLessonsAttended.add(toAdd);
+        for (int i = index; i < internalList.size(); i++) {
+            indexOf.put(internalList.get(i), i);
+        }
     }
 
     /**
@@ -62,8 +98,8 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = indexOf.get(target);
+        if (index == null) {
             throw new StudentNotFoundException();
         }
 
@@ -71,23 +107,75 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
+        indexOf.remove(target);
+        indexOf.put(editedStudent, index);
+        byLessonsAttended.remove(target);
+        byLessonsAttended.add(editedStudent);
         internalList.set(index, editedStudent);
     }
 
+    /**
+     * Replaces every student in the list that is a key of {@code replacements} with the student it maps to.
+     * Keys that are not in the list are ignored. The whole batch is applied as a single change to the list, made up
+     * of one replacement for each student replaced.
+     * The edited students must not be the same as each other, or as another student in the list that is not replaced.
+     */
+    public void replaceStudents(Map<Student, Student> replacements) {
+        requireNonNull(replacements);
+        Map<Integer, Student> editedStudents = new HashMap<>();
+        for (Map.Entry<Student, Student> replacement : replacements.entrySet()) {
+            Integer index = indexOf.get(replacement.getKey());
+            if (index != null) {
+                editedStudents.put(index, requireNonNull(replacement.getValue()));
+            }
+        }
+        if (editedStudents.isEmpty()) {
+            return;
+        }
+        // Only the edited students are checked, against the position index and each other
+        Set<Student> seen = new HashSet<>();
+        for (Student editedStudent : editedStudents.values()) {
+            Integer index = indexOf.get(editedStudent);
+            if ((index != null && !editedStudents.containsKey(index)) || !seen.add(editedStudent)) {
+                throw new DuplicateStudentException();
+            }
+        }
+
+        for (int index : editedStudents.keySet()) {
+            Student target = internalList.get(index);
+            indexOf.remove(target);
+            byLessonsAttended.remove(target);
+        }
+        for (Map.Entry<Integer, Student> editedStudent : editedStudents.entrySet()) {
+            indexOf.put(editedStudent.getValue(), editedStudent.getKey());
+            byLessonsAttended.add(editedStudent.getValue());
+        }
+        internalList.setEach(editedStudents);
+    }
+
     /**
      * Removes the equivalent student from the list.
      * The student must exist in the list.
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer index = indexOf.remove(toRemove);
+        if (index == null) {
             throw new StudentNotFoundException();
         }
+        byLessonsAttended.remove(internalList.get(index));
+        internalList.remove((int) index);
+        for (int i = index; i < internalList.size(); i++) {
+            indexOf.put(internalList.get(i), i);
+        }
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        indexOf.clear();
+        indexOf.putAll(replacement.indexOf);
+        rerank();
     }
 
     /**
@@ -101,6 +189,40 @@ public class UniqueStudentList implements Iterable<Student> {
         }
 
         internalList.setAll(students);
+        reindex();
+        rerank();
+    }
+
+    @Override
+    public int getLessonsAttended(Student student) {
+        requireNonNull(student);
+        return lessonsAttendedBy(student);
+    }
+
+    @Override
+    public List<Student> getFewestLessonsAttended(int limit) {
+        return byLessonsAttended.getFirst(limit);
+    }
+
+    @Override
+    public int getAttendanceRank(Student student) {
+        return countAttendedFewerLessons(student) + 1;
+    }
+
+    @Override
+    public double getAttendancePercentile(Student student) {
+        int size = byLessonsAttended.size();
+        return size == 0 ? 0 : 100.0 * countAttendedFewerLessons(student) / size;
+    }
+
+    private int countAttendedFewerLessons(Student student) {
+        requireNonNull(student);
+        int lessonsAttended = lessonsAttendedBy(student);
+        return byLessonsAttended.countBefore(other -> lessonsAttendedBy(other) < lessonsAttended);
+    }
+
+    private static int lessonsAttendedBy(Student student) {
+        return student.getLessonsAttended().getTotalLessons();
     }
 
     /**
@@ -140,15 +262,34 @@ public class UniqueStudentList implements Iterable<Student> {
         return internalList.toString();
     }
 
+    /**
+     * Rebuilds the position index from the backing list.
+     */
+    private void reindex() {
+        indexOf.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            indexOf.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Rebuilds the attendance ranking from the backing list.
+     */
+    private void rerank() {
+        byLessonsAttended.clear();
+        for (Student student : internalList) {
+            byLessonsAttended.add(student);
+        }
+    }
+
     /**
      * Returns true if {@code students} contains only unique students.
      */
     private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+        Set<Student> seen = new HashSet<>();
+        for (Student student : students) {
+            if (!seen.add(student)) {
+                return false;
             }
         }
         return true;
@@ -13,12 +13,12 @@ public class SampleDataUtil {
 
     public static Student[] getSamplePersons() {
         return new Student[] {
-            new Student(new Name("Alex Yeoh")),
-            new Student(new Name("Bernice Yu")),
-            new Student(new Name("Charlotte Oliveiro")),
-            new Student(new Name("David Li")),
-            new Student(new Name("Irfan Ibrahim")),
-            new Student(new Name("Roy Balakrishnan"))
+            new Student(Name.of("Alex Yeoh")),
+            new Student(Name.of("Bernice Yu")),
+            new Student(Name.of("Charlotte Oliveiro")),
+            new Student(Name.of("David Li")),
+            new Student(Name.of("Irfan Ibrahim")),
+            new Student(Name.of("Roy Balakrishnan"))
         };
     }
 
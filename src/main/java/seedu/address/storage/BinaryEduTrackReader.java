@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.EduTrack;
+import seedu.address.model.module.Class;
+import seedu.address.model.module.exceptions.DuplicateClassException;
+import seedu.address.model.student.Student;
+
+/**
+ * Reads a data file in the binary layout written by {@link BinaryEduTrackWriter}.
+ * Each student and class is checked and converted to the model through {@link JsonAdaptedStudent} and
+ * {@link JsonAdaptedClass}, so that the data read is the same as if it had been written as JSON.
+ */
+class BinaryEduTrackReader {
+
+    public static final String MESSAGE_NOT_BINARY = "File is not a binary EduTrack data file.";
+    public static final String MESSAGE_NEWER_VERSION = "File was written by a newer version of EduTrack.";
+    public static final String MESSAGE_CORRUPT_FILE = "Binary data file is corrupt.";
+
+    private final Path filePath;
+    private final List<String> strings = new ArrayList<>();
+    private long maxLength;
+    private long journalSequence;
+
+    /**
+     * Creates a reader of the data file at {@code filePath}.
+     */
+    BinaryEduTrackReader(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts as a binary data file does.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] header = in.readNBytes(Integer.BYTES);
+            return header.length == Integer.BYTES && ByteBuffer.wrap(header).getInt() == BinaryEduTrackWriter.MAGIC;
+        }
+    }
+
+    /**
+     * Reads the data file.
+     *
+     * @throws IOException if the file could not be read, or is not a binary data file of a version that can be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public EduTrack read() throws IOException, IllegalValueException {
+        // No count or length in the file can be more than the number of bytes in it
+        maxLength = Files.size(filePath);
+        List<Student> students = new ArrayList<>();
+        Map<Student, Student> studentLookup = new HashMap<>();
+        List<Class> classes = new ArrayList<>();
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (in.readInt() != BinaryEduTrackWriter.MAGIC) {
+                throw new IOException(MESSAGE_NOT_BINARY);
+            }
+            if (in.readInt() > BinaryEduTrackWriter.VERSION) {
+                throw new IOException(MESSAGE_NEWER_VERSION);
+            }
+            journalSequence = in.readLong();
+
+            int stringCount = readLength(in);
+            for (int i = 0; i < stringCount; i++) {
+                byte[] bytes = new byte[readLength(in)];
+                in.readFully(bytes);
+                strings.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+
+            int studentCount = readLength(in);
+            for (int i = 0; i < studentCount; i++) {
+                Student student = new JsonAdaptedStudent(readString(in), readString(in), readString(in),
+                        in.readBoolean(), in.readInt()).toModelType();
+                if (studentLookup.putIfAbsent(student, student) != null) {
+                    throw new IllegalValueException(JsonSerializableEduTrack.MESSAGE_DUPLICATE_PERSON);
+                }
+                students.add(student);
+            }
+
+            int classCount = readLength(in);
+            for (int i = 0; i < classCount; i++) {
+                classes.add(readClass(in).toModelType(students, studentLookup));
+            }
+        }
+
+        EduTrack eduTrack = new EduTrack();
+        try {
+            eduTrack.setClasses(classes);
+        } catch (DuplicateClassException e) {
+            throw new IllegalValueException(JsonSerializableEduTrack.MESSAGE_DUPLICATE_CLASS);
+        }
+        eduTrack.setStudents(students);
+        return eduTrack;
+    }
+
+    /**
+     * Returns the sequence number of the last record of the {@link EduTrackJournal} that the data read includes.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    private JsonAdaptedClass readClass(DataInputStream in) throws IOException {
+        String className = readString(in);
+        String classNote = readString(in);
+        String classSchedule = readString(in);
+        int lessons = in.readInt();
+        int studentCount = readLength(in);
+        List<Integer> studentPositions = new ArrayList<>();
+        List<long[]> attendance = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            studentPositions.add(in.readInt());
+            if (lessons > 0) {
+                long[] lessonsAttended = new long[readLength(in)];
+                for (int j = 0; j < lessonsAttended.length; j++) {
+                    lessonsAttended[j] = in.readLong();
+                }
+                attendance.add(lessonsAttended);
+            }
+        }
+        return new JsonAdaptedClass(className, studentPositions, new ArrayList<>(), classNote, classSchedule,
+                lessons, attendance);
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        int position = in.readInt();
+        if (position < 0 || position >= strings.size()) {
+            throw new IOException(MESSAGE_CORRUPT_FILE);
+        }
+        return strings.get(position);
+    }
+
+    private int readLength(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > maxLength) {
+            throw new IOException(MESSAGE_CORRUPT_FILE);
+        }
+        return length;
+    }
+
+}
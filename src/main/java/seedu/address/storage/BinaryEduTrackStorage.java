@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyEduTrack;
+
+/**
+ * A class to access EduTrack data stored as a binary file on the hard disk, in the layout described by
+ * {@link BinaryEduTrackWriter}, which is smaller and faster to read and write than JSON.
+ * The changes made since the file was written may be kept in an {@link EduTrackJournal} next to it, which is
+ * replayed on top of the data read from the file.
+ */
+public class BinaryEduTrackStorage implements EduTrackStorage {
+
+    private Path filePath;
+    private final EduTrackJournal journal;
+
+    /**
+     * Creates a {@code BinaryEduTrackStorage} for the data file at {@code filePath} and its journal.
+     */
+    public BinaryEduTrackStorage(Path filePath) {
+        this.filePath = filePath;
+        journal = new EduTrackJournal(filePath, BinaryEduTrackWriter::write);
+    }
+
+    public Path getEduTrackFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyEduTrack> readEduTrack() throws DataLoadingException {
+        return readEduTrack(filePath);
+    }
+
+    /**
+     * Similar to {@link #readEduTrack()}.
+     * The journal next to the file, if any, is replayed on top of the data read from the file.
+     * A JSON data file, as written by {@link JsonEduTrackStorage}, is also read, and is converted to the binary
+     * format when the data is next saved.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyEduTrack> readEduTrack(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        EduTrackJournal fileJournal = filePath.equals(this.filePath)
+                ? journal
+                : new EduTrackJournal(filePath, BinaryEduTrackWriter::write);
+        return EduTrackFileReader.read(filePath, fileJournal);
+    }
+
+    @Override
+    public void saveEduTrack(ReadOnlyEduTrack eduTrack) throws IOException {
+        saveEduTrack(eduTrack, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveEduTrack(ReadOnlyEduTrack)}.
+     * The data is taken to include every record of the journal, which must not be appended to while saving.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveEduTrack(ReadOnlyEduTrack eduTrack, Path filePath) throws IOException {
+        requireNonNull(eduTrack);
+        requireNonNull(filePath);
+
+        long journalSequence = filePath.equals(this.filePath) ? journal.getSequence() : 0;
+        BinaryEduTrackWriter.write(eduTrack, journalSequence, filePath);
+    }
+
+    @Override
+    public EduTrackJournal getEduTrackJournal() {
+        return journal;
+    }
+
+}
@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyEduTrack;
+import seedu.address.model.module.AttendanceHistory;
+import seedu.address.model.module.Class;
+import seedu.address.model.student.Student;
+
+/**
+ * Writes a data file in the compact binary layout read by {@link BinaryEduTrackReader}, which holds the same
+ * fields as {@link JsonSerializableEduTrack}. All numbers are big-endian.
+ * <pre>
+ * int      MAGIC, then VERSION
+ * long     journal sequence
+ * int      number of strings, then for each: int number of bytes, then the string in UTF-8
+ * int      number of students, then for each: int name, int id, int memo (positions in the string table),
+ *          boolean current lesson attendance, int lessons attended
+ * int      number of classes, then for each: int name, int note, int schedule (positions in the string table),
+ *          int lessons held, int number of students, then for each: int position in the student list and,
+ *          if any lessons were held, int number of words, then the words of the bitset of the lessons attended
+ * </pre>
+ * Each distinct string is written once in the string table, so memos and schedules shared by many students or
+ * classes take four bytes each.
+ */
+class BinaryEduTrackWriter {
+
+    /** The first four bytes of a binary data file, "EDUT". */
+    public static final int MAGIC = 0x45445554;
+    /** The version of the layout, to be raised whenever it changes. */
+    public static final int VERSION = 1;
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> stringPositions = new LinkedHashMap<>();
+
+    private BinaryEduTrackWriter(DataOutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes {@code eduTrack} to the file at {@code filePath}, overwriting it if it exists.
+     * The data is written to a temporary file that then replaces the file in one step, so that the file never
+     * holds part of the data even if writing fails.
+     *
+     * @param journalSequence the sequence number of the last record of the {@link EduTrackJournal} that
+     *     {@code eduTrack} includes.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public static void write(ReadOnlyEduTrack eduTrack, long journalSequence, Path filePath) throws IOException {
+        requireNonNull(eduTrack);
+        requireNonNull(filePath);
+
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporaryFilePath)))) {
+            new BinaryEduTrackWriter(out).writeData(eduTrack, journalSequence);
+        }
+        Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeData(ReadOnlyEduTrack eduTrack, long journalSequence) throws IOException {
+        // Students only found in classes are written after the others, as JsonSerializableEduTrack does
+        List<Student> students = new ArrayList<>(eduTrack.getStudentList());
+        Map<Student, Integer> studentPositions = new HashMap<>();
+        for (int i = 0; i < students.size(); i++) {
+            studentPositions.put(students.get(i), i);
+        }
+        for (Class c : eduTrack.getClassList()) {
+            for (Student student : c.getStudentList()) {
+                if (!studentPositions.containsKey(student)) {
+                    studentPositions.put(student, students.size());
+                    students.add(student);
+                }
+            }
+        }
+
+        for (Student student : students) {
+            addString(student.getName().fullName);
+            addString(student.getId().toString());
+            addString(student.getMemo().toString());
+        }
+        for (Class c : eduTrack.getClassList()) {
+            addString(c.getClassName().toString());
+            addString(c.getClassMemo().toString());
+            addString(c.getClassSchedule().toString());
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(journalSequence);
+        out.writeInt(stringPositions.size());
+        for (String string : stringPositions.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(students.size());
+        for (Student student : students) {
+            writeString(student.getName().fullName);
+            writeString(student.getId().toString());
+            writeString(student.getMemo().toString());
+            out.writeBoolean(student.getCurrentAttendance().getIsPresent());
+            out.writeInt(student.getLessonsAttended().getTotalLessons());
+        }
+
+        out.writeInt(eduTrack.getClassList().size());
+        for (Class c : eduTrack.getClassList()) {
+            writeClass(c, studentPositions);
+        }
+    }
+
+    private void writeClass(Class c, Map<Student, Integer> studentPositions) throws IOException {
+        writeString(c.getClassName().toString());
+        writeString(c.getClassMemo().toString());
+        writeString(c.getClassSchedule().toString());
+        AttendanceHistory history = c.getAttendanceHistory();
+        int lessons = history.getLessonCount();
+        out.writeInt(lessons);
+        out.writeInt(c.getStudentList().size());
+        for (Student student : c.getStudentList()) {
+            out.writeInt(studentPositions.get(student));
+            if (lessons > 0) {
+                long[] lessonsAttended = history.getLessonsAttended(student);
+                out.writeInt(lessonsAttended.length);
+                for (long word : lessonsAttended) {
+                    out.writeLong(word);
+                }
+            }
+        }
+    }
+
+    private void addString(String string) {
+        stringPositions.putIfAbsent(string, stringPositions.size());
+    }
+
+    private void writeString(String string) throws IOException {
+        out.writeInt(stringPositions.get(string));
+    }
+
+}
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.EduTrack;
+import seedu.address.model.ReadOnlyEduTrack;
+
+/**
+ * Reads a data file of EduTrack in either the JSON or the binary format, whichever it is in, so that changing the
+ * format of a storage converts its data file instead of losing it.
+ */
+class EduTrackFileReader {
+
+    private static final Logger logger = LogsCenter.getLogger(EduTrackFileReader.class);
+
+    /**
+     * Returns the data in the file at {@code filePath} with {@code journal} replayed on top of it, or
+     * {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if loading the data failed.
+     */
+    static Optional<ReadOnlyEduTrack> read(Path filePath, EduTrackJournal journal) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        EduTrack eduTrack;
+        long journalSequence;
+        try {
+            if (BinaryEduTrackReader.isBinaryFile(filePath)) {
+                logger.info("Binary data file " + filePath + " found.");
+                BinaryEduTrackReader reader = new BinaryEduTrackReader(filePath);
+                eduTrack = reader.read();
+                journalSequence = reader.getJournalSequence();
+            } else {
+                logger.info("JSON file " + filePath + " found.");
+                JsonEduTrackReader reader = new JsonEduTrackReader(filePath);
+                eduTrack = reader.read();
+                journalSequence = reader.getJournalSequence();
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        try {
+            journal.replay(eduTrack, journalSequence);
+            return Optional.of(eduTrack);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journal.getJournalFilePath() + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading journal " + journal.getJournalFilePath() + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+}
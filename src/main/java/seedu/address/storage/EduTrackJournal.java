@@ -0,0 +1,294 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EduTrack;
+import seedu.address.model.EduTrackChangeListener;
+import seedu.address.model.ReadOnlyEduTrack;
+import seedu.address.model.module.Class;
+import seedu.address.model.student.Student;
+
+/**
+ * A journal of the changes made to the data of EduTrack, kept in a file next to the data file.
+ * The changes told to the journal are written by {@link #append()} as one record on one line at the end of the
+ * file, so saving the changes made by a command costs a small write instead of writing all the data.
+ * Records are numbered one after another, and the data file notes the number of the last record it includes,
+ * so the latest data is the data file with the records after that one replayed on top of it.
+ * {@link #compact} keeps the journal short by writing the data file afresh and dropping the records it includes.
+ */
+public class EduTrackJournal implements EduTrackChangeListener {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(EduTrackJournal.class);
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final long UNKNOWN = -1;
+
+    private final Path eduTrackFilePath;
+    private final Path filePath;
+    private final SnapshotWriter snapshotWriter;
+    // Only used by the thread that changes the data
+    private final List<JsonAdaptedChange> pendingChanges = new ArrayList<>();
+    private ReadOnlyEduTrack eduTrack;
+
+    // Guarded by this
+    private long sequence = UNKNOWN;
+    private int recordCount;
+    private boolean hasSnapshot;
+
+    /**
+     * Creates the journal of the JSON data file at {@code eduTrackFilePath}.
+     */
+    public EduTrackJournal(Path eduTrackFilePath) {
+        this(eduTrackFilePath, JsonEduTrackWriter::write);
+    }
+
+    /**
+     * Creates the journal of the data file at {@code eduTrackFilePath}, which {@link #compact} writes with
+     * {@code snapshotWriter}.
+     */
+    EduTrackJournal(Path eduTrackFilePath, SnapshotWriter snapshotWriter) {
+        requireNonNull(eduTrackFilePath);
+        requireNonNull(snapshotWriter);
+        this.eduTrackFilePath = eduTrackFilePath;
+        this.snapshotWriter = snapshotWriter;
+        filePath = getJournalFilePath(eduTrackFilePath);
+    }
+
+    /**
+     * Returns the path of the journal of the data file at {@code eduTrackFilePath}.
+     */
+    public static Path getJournalFilePath(Path eduTrackFilePath) {
+        return eduTrackFilePath.resolveSibling(eduTrackFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Sets the data whose changes are told to this journal. Must be set before any class is added or replaced,
+     * as classes are written as referring to the positions of their students in its student list.
+     */
+    public void setEduTrack(ReadOnlyEduTrack eduTrack) {
+        requireNonNull(eduTrack);
+        this.eduTrack = eduTrack;
+    }
+
+    @Override
+    public void studentAdded(int index, Student student) {
+        pendingChanges.add(JsonAdaptedChange.studentAdded(index, student));
+    }
+
+    @Override
+    public void studentRemoved(int index) {
+        pendingChanges.add(JsonAdaptedChange.studentRemoved(index));
+    }
+
+    @Override
+    public void studentsReplaced(Map<Integer, Student> editedStudents) {
+        pendingChanges.add(JsonAdaptedChange.studentsReplaced(editedStudents));
+    }
+
+    @Override
+    public void classAdded(int index, Class addedClass) {
+        pendingChanges.add(JsonAdaptedChange.classAdded(index, addedClass, eduTrack));
+    }
+
+    @Override
+    public void classRemoved(int index) {
+        pendingChanges.add(JsonAdaptedChange.classRemoved(index));
+    }
+
+    @Override
+    public void classReplaced(int index, Class editedClass) {
+        pendingChanges.add(JsonAdaptedChange.classReplaced(index, editedClass, eduTrack));
+    }
+
+    @Override
+    public void studentAddedToClass(int classIndex, int position, int studentIndex, long[] lessonsAttended) {
+        pendingChanges.add(JsonAdaptedChange.studentAddedToClass(classIndex, position, studentIndex,
+                lessonsAttended));
+    }
+
+    @Override
+    public void studentRemovedFromClass(int classIndex, int position) {
+        pendingChanges.add(JsonAdaptedChange.studentRemovedFromClass(classIndex, position));
+    }
+
+    @Override
+    public void lessonCountChanged(int classIndex, int lessonCount) {
+        pendingChanges.add(JsonAdaptedChange.lessonCountChanged(classIndex, lessonCount));
+    }
+
+    @Override
+    public void attendanceRecorded(int classIndex, int position, boolean isPresent) {
+        pendingChanges.add(JsonAdaptedChange.attendanceRecorded(classIndex, position, isPresent));
+    }
+
+    @Override
+    public void dataReset(ReadOnlyEduTrack newData) {
+        pendingChanges.add(JsonAdaptedChange.dataReset(newData));
+    }
+
+    /**
+     * Appends the changes told to this journal since the last call as one record.
+     * Does nothing if there are none. If writing fails, the changes are kept for the next call to append.
+     * Must be called on the thread that changes the data.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public synchronized void append() throws IOException {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        long nextSequence = getSequence() + 1;
+        String record = JsonUtil.toCompactJsonString(new JsonSerializableJournalRecord(nextSequence,
+                pendingChanges)) + "\n";
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(filePath, record.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        sequence = nextSequence;
+        recordCount++;
+        pendingChanges.clear();
+    }
+
+    /**
+     * Returns the number of the last record appended, or 0 if there is none.
+     */
+    public synchronized long getSequence() throws IOException {
+        if (sequence == UNKNOWN) {
+            List<JsonSerializableJournalRecord> records = readRecords();
+            sequence = records.isEmpty() ? 0 : records.get(records.size() - 1).getSequence();
+            recordCount = records.size();
+        }
+        return sequence;
+    }
+
+    /**
+     * Returns the number of records in the journal.
+     */
+    public synchronized int getRecordCount() throws IOException {
+        getSequence();
+        return recordCount;
+    }
+
+    /**
+     * Returns true if the data file holds the data that the records of this journal were made on, that is, if the
+     * data was read with {@link #replay} or written with {@link #compact} since this journal was created.
+     */
+    public synchronized boolean hasSnapshot() {
+        return hasSnapshot;
+    }
+
+    /**
+     * Makes the changes of the records after the one numbered {@code snapshotSequence} to {@code eduTrack}, which
+     * holds the data read from the data file that notes that number. Records appended later are numbered on from
+     * the last record replayed.
+     * A last record that is cut short, as by stopping while it was being appended, is dropped from the journal.
+     *
+     * @throws IOException if the journal could not be read.
+     * @throws IllegalValueException if a record does not fit the data.
+     */
+    synchronized void replay(EduTrack eduTrack, long snapshotSequence) throws IOException, IllegalValueException {
+        List<JsonSerializableJournalRecord> records = readRecords();
+        long lastSequence = snapshotSequence;
+        int replayedCount = 0;
+        for (JsonSerializableJournalRecord record : records) {
+            if (record.getSequence() > snapshotSequence) {
+                record.applyTo(eduTrack);
+                replayedCount++;
+            }
+            lastSequence = Math.max(lastSequence, record.getSequence());
+        }
+        sequence = lastSequence;
+        recordCount = records.size();
+        hasSnapshot = true;
+        if (replayedCount > 0) {
+            logger.info("Replayed " + replayedCount + " records from journal " + filePath);
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} as the data file, noting that it includes the records up to the one numbered
+     * {@code snapshotSequence}, then drops those records from the journal.
+     * Records may be appended while the data file is being written.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    public void compact(ReadOnlyEduTrack snapshot, long snapshotSequence) throws IOException {
+        requireNonNull(snapshot);
+        // The data file is replaced in one step, so that it never holds part of a snapshot
+        snapshotWriter.write(snapshot, snapshotSequence, eduTrackFilePath);
+        discardUpTo(snapshotSequence);
+    }
+
+    private synchronized void discardUpTo(long snapshotSequence) throws IOException {
+        hasSnapshot = true;
+        List<String> lines = Files.exists(filePath)
+                ? Files.readAllLines(filePath, StandardCharsets.UTF_8)
+                : new ArrayList<>();
+        // Records are numbered one after another, so the records after the snapshot are the last ones
+        int keptCount = (int) Math.min(lines.size(), Math.max(0, getSequence() - snapshotSequence));
+        writeLines(lines.subList(lines.size() - keptCount, lines.size()));
+        recordCount = keptCount;
+    }
+
+    /**
+     * Represents a function that writes the data file in the format of the storage it belongs to.
+     */
+    @FunctionalInterface
+    interface SnapshotWriter {
+        /**
+         * Writes {@code snapshot} to the file at {@code filePath} in one step, noting that it includes the records
+         * up to the one numbered {@code snapshotSequence}.
+         */
+        void write(ReadOnlyEduTrack snapshot, long snapshotSequence, Path filePath) throws IOException;
+    }
+
+    private List<JsonSerializableJournalRecord> readRecords() throws IOException {
+        List<JsonSerializableJournalRecord> records = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return records;
+        }
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            try {
+                records.add(JsonUtil.fromJsonString(lines.get(i), JsonSerializableJournalRecord.class));
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    throw e;
+                }
+                // Only the last record can be cut short, by stopping while it was being appended
+                logger.warning("Dropping the incomplete last record of journal " + filePath);
+                writeLines(lines.subList(0, i));
+            }
+        }
+        return records;
+    }
+
+    private void writeLines(List<String> lines) throws IOException {
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        StringBuilder content = new StringBuilder();
+        lines.forEach(line -> content.append(line).append('\n'));
+        Files.write(temporaryFilePath, content.toString().getBytes(StandardCharsets.UTF_8));
+        Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+}
@@ -0,0 +1,265 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.Config.SavePolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyEduTrack;
+import seedu.address.model.common.Memo;
+import seedu.address.model.module.AttendanceHistory;
+import seedu.address.model.module.Class;
+import seedu.address.model.module.ClassName;
+import seedu.address.model.module.Schedule;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.UniqueStudentList;
+
+/**
+ * Saves EduTrack on a background thread, so that commands do not wait for the data to be written.
+ * Each request to save takes a snapshot of the data, which later changes do not affect, and the snapshot is
+ * written when the {@link SavePolicy} says so. A snapshot replaces any earlier one not yet written, so a burst of
+ * requests is written once.
+ * With {@link SavePolicy#JOURNAL}, each request instead appends the changes told to the {@link EduTrackJournal} of
+ * the storage, and a snapshot is only taken, to compact the journal, once the journal grows long.
+ */
+public class EduTrackSaver {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(EduTrackSaver.class);
+
+    private final EduTrackStorage storage;
+    private final EduTrackJournal journal;
+    private final int compactionThreshold;
+    private final SavePolicy savePolicy;
+    private final long saveDelayMillis;
+    private final Consumer<IOException> errorHandler;
+    private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "EduTrack saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this
+    private ReadOnlyEduTrack pendingSnapshot;
+    private long pendingSnapshotSequence;
+    private ScheduledFuture<?> scheduledSave;
+    private long lastSaveRequestNanos;
+
+    /**
+     * Creates a saver writing to {@code storage} as {@code savePolicy} says, which tells {@code errorHandler} of
+     * every error in writing. The handler may be called on the background thread.
+     *
+     * @param saveDelayMillis The delay used by {@link SavePolicy#INTERVAL} and {@link SavePolicy#ON_IDLE}.
+     */
+    public EduTrackSaver(EduTrackStorage storage, SavePolicy savePolicy, long saveDelayMillis,
+                         Consumer<IOException> errorHandler) {
+        this(storage, savePolicy, saveDelayMillis, errorHandler, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a saver as in {@link #EduTrackSaver(EduTrackStorage, SavePolicy, long, Consumer)}.
+     *
+     * @param compactionThreshold The number of records in the journal at which {@link SavePolicy#JOURNAL}
+     *     compacts it.
+     */
+    public EduTrackSaver(EduTrackStorage storage, SavePolicy savePolicy, long saveDelayMillis,
+                         Consumer<IOException> errorHandler, int compactionThreshold) {
+        requireAllNonNull(storage, savePolicy, errorHandler);
+        checkArgument(saveDelayMillis >= 0, "Save delay must not be negative");
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive");
+        this.storage = storage;
+        this.savePolicy = savePolicy;
+        this.saveDelayMillis = saveDelayMillis;
+        this.errorHandler = errorHandler;
+        this.compactionThreshold = compactionThreshold;
+        journal = savePolicy == SavePolicy.JOURNAL ? storage.getEduTrackJournal() : null;
+        // The snapshot left when shutting down is written by the thread shutting down
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Takes a snapshot of {@code eduTrack} and schedules it to be written, or with {@link SavePolicy#JOURNAL},
+     * appends the changes made to {@code eduTrack} to the journal.
+     * Must be called on the thread that changes {@code eduTrack}, and not after {@link #shutdown()}.
+     */
+    public synchronized void save(ReadOnlyEduTrack eduTrack) {
+        requireNonNull(eduTrack);
+        if (journal != null) {
+            appendToJournal(eduTrack);
+            return;
+        }
+        pendingSnapshot = new Snapshot(eduTrack);
+        lastSaveRequestNanos = System.nanoTime();
+        if (scheduledSave == null) {
+            scheduledSave = executor.schedule(this::saveWhenDue,
+                    savePolicy == SavePolicy.EVERY_COMMAND ? 0 : saveDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Appends the changes made to {@code eduTrack} to the journal, and schedules a snapshot of it to compact the
+     * journal if the journal has grown long or does not follow on from the data file.
+     */
+    private void appendToJournal(ReadOnlyEduTrack eduTrack) {
+        try {
+            journal.append();
+            boolean isCompacting = scheduledSave != null && !scheduledSave.isDone();
+            if (!isCompacting && (!journal.hasSnapshot() || journal.getRecordCount() >= compactionThreshold)) {
+                pendingSnapshot = new Snapshot(eduTrack);
+                pendingSnapshotSequence = journal.getSequence();
+                scheduledSave = executor.schedule(this::writePendingSnapshot, 0, TimeUnit.MILLISECONDS);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to append to journal: " + e.getMessage());
+            errorHandler.accept(e);
+        }
+    }
+
+    /**
+     * Writes the snapshot not yet written, if any, and stops the background thread.
+     * Waits for a save already writing to finish first.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            executor.shutdown();
+        }
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writePendingSnapshot();
+    }
+
+    /**
+     * Writes the pending snapshot, unless saving on idle and a request came too recently, in which case the save
+     * is put off until the delay has passed since that request.
+     */
+    private void saveWhenDue() {
+        synchronized (this) {
+            scheduledSave = null;
+            long idleMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastSaveRequestNanos);
+            if (savePolicy == SavePolicy.ON_IDLE && idleMillis < saveDelayMillis && !executor.isShutdown()) {
+                scheduledSave = executor.schedule(this::saveWhenDue, saveDelayMillis - idleMillis,
+                        TimeUnit.MILLISECONDS);
+                return;
+            }
+        }
+        writePendingSnapshot();
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyEduTrack snapshot;
+        long snapshotSequence;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            snapshotSequence = pendingSnapshotSequence;
+            pendingSnapshot = null;
+        }
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            if (journal != null) {
+                journal.compact(snapshot, snapshotSequence);
+            } else {
+                storage.saveEduTrack(snapshot);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save EduTrack: " + e.getMessage());
+            errorHandler.accept(e);
+        }
+    }
+
+    /**
+     * A copy of the data of EduTrack as it was when the copy was made.
+     * Students are never changed once in EduTrack, so the copy holds the students themselves. Classes are changed
+     * in place, so only what they hold is copied, into plain arrays, on the thread that changes the data. The
+     * classes are built from the arrays on the thread that writes the snapshot, the first time they are needed.
+     */
+    private static class Snapshot implements ReadOnlyEduTrack {
+        private final ObservableList<Student> students;
+        private final ClassContents[] classContents;
+        private ObservableList<Class> classes;
+
+        private Snapshot(ReadOnlyEduTrack eduTrack) {
+            students = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(Arrays.asList(eduTrack.getStudentList().toArray(new Student[0]))));
+            List<Class> classList = eduTrack.getClassList();
+            classContents = new ClassContents[classList.size()];
+            for (int i = 0; i < classContents.length; i++) {
+                classContents[i] = new ClassContents(classList.get(i));
+            }
+        }
+
+        @Override
+        public ObservableList<Student> getStudentList() {
+            return students;
+        }
+
+        @Override
+        public ObservableList<Class> getClassList() {
+            if (classes == null) {
+                List<Class> classCopies = new ArrayList<>(classContents.length);
+                for (ClassContents contents : classContents) {
+                    classCopies.add(contents.toClass());
+                }
+                classes = FXCollections.unmodifiableObservableList(FXCollections.observableList(classCopies));
+            }
+            return classes;
+        }
+    }
+
+    /**
+     * The contents of a class: its details, which are immutable, its students in order, and the words of the
+     * lessons each of them attended.
+     */
+    private static class ClassContents {
+        private final ClassName className;
+        private final Memo memo;
+        private final Schedule schedule;
+        private final int lessonCount;
+        private final Student[] students;
+        private final long[][] lessonsAttended;
+
+        private ClassContents(Class c) {
+            className = c.getClassName();
+            memo = c.getClassMemo();
+            schedule = c.getClassSchedule();
+            AttendanceHistory history = c.getAttendanceHistory();
+            lessonCount = history.getLessonCount();
+            students = c.getStudentList().toArray(new Student[0]);
+            lessonsAttended = new long[students.length][];
+            for (int i = 0; i < students.length; i++) {
+                lessonsAttended[i] = history.getLessonsAttended(students[i]);
+            }
+        }
+
+        private Class toClass() {
+            UniqueStudentList studentList = new UniqueStudentList();
+            studentList.setStudents(Arrays.asList(students));
+            AttendanceHistory history = new AttendanceHistory();
+            history.setLessonCount(lessonCount);
+            for (int i = 0; i < students.length; i++) {
+                if (lessonsAttended[i].length > 0) {
+                    history.setLessonsAttended(students[i], lessonsAttended[i]);
+                }
+            }
+            return new Class(className, studentList, memo, schedule, history);
+        }
+    }
+}
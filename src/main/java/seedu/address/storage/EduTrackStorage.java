@@ -43,4 +43,9 @@ public interface EduTrackStorage {
      */
     void saveEduTrack(ReadOnlyEduTrack eduTrack, Path filePath) throws IOException;
 
+    /**
+     * Returns the journal kept next to the data file, which {@link #readEduTrack()} replays on top of the data.
+     */
+    EduTrackJournal getEduTrackJournal();
+
 }
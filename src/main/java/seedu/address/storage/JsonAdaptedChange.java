@@ -0,0 +1,257 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.EduTrack;
+import seedu.address.model.EduTrackChangeListener;
+import seedu.address.model.ReadOnlyEduTrack;
+import seedu.address.model.module.Class;
+import seedu.address.model.student.Student;
+
+/**
+ * Jackson-friendly version of one change to the data of EduTrack, as told to an {@link EduTrackChangeListener}.
+ * Only the fields used by the {@link Type} of change are written. {@code index} is the position in the student
+ * list, the class list or a class, whichever the change is to.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String MESSAGE_INVALID_CHANGE = "Change %s does not fit the data it is made to.";
+
+    /**
+     * The kinds of change, one for each method of {@link EduTrackChangeListener}.
+     */
+    enum Type {
+        ADD_STUDENT, REMOVE_STUDENT, REPLACE_STUDENTS, ADD_CLASS, REMOVE_CLASS, REPLACE_CLASS, ADD_STUDENT_TO_CLASS,
+        REMOVE_STUDENT_FROM_CLASS, SET_LESSON_COUNT, RECORD_ATTENDANCE, RESET
+    }
+
+    private final Type type;
+    private final Integer index;
+    private final Integer classIndex;
+    private final Integer studentIndex;
+    private final List<Integer> indices;
+    private final JsonAdaptedStudent student;
+    private final List<JsonAdaptedStudent> students;
+    private final JsonAdaptedClass studentClass;
+    private final long[] lessonsAttended;
+    private final Integer lessonCount;
+    private final Boolean isPresent;
+    private final JsonSerializableEduTrack data;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("type") Type type, @JsonProperty("index") Integer index,
+                             @JsonProperty("classIndex") Integer classIndex,
+                             @JsonProperty("studentIndex") Integer studentIndex,
+                             @JsonProperty("indices") List<Integer> indices,
+                             @JsonProperty("student") JsonAdaptedStudent student,
+                             @JsonProperty("students") List<JsonAdaptedStudent> students,
+                             @JsonProperty("studentClass") JsonAdaptedClass studentClass,
+                             @JsonProperty("lessonsAttended") long[] lessonsAttended,
+                             @JsonProperty("lessonCount") Integer lessonCount,
+                             @JsonProperty("isPresent") Boolean isPresent,
+                             @JsonProperty("data") JsonSerializableEduTrack data) {
+        this.type = type;
+        this.index = index;
+        this.classIndex = classIndex;
+        this.studentIndex = studentIndex;
+        this.indices = indices;
+        this.student = student;
+        this.students = students;
+        this.studentClass = studentClass;
+        this.lessonsAttended = lessonsAttended;
+        this.lessonCount = lessonCount;
+        this.isPresent = isPresent;
+        this.data = data;
+    }
+
+    private JsonAdaptedChange(Type type, Integer index, Integer classIndex) {
+        this(type, index, classIndex, null, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * @see EduTrackChangeListener#studentAdded(int, Student)
+     */
+    static JsonAdaptedChange studentAdded(int index, Student student) {
+        return new JsonAdaptedChange(Type.ADD_STUDENT, index, null, null, null, new JsonAdaptedStudent(student),
+                null, null, null, null, null, null);
+    }
+
+    /**
+     * @see EduTrackChangeListener#studentRemoved(int)
+     */
+    static JsonAdaptedChange studentRemoved(int index) {
+        return new JsonAdaptedChange(Type.REMOVE_STUDENT, index, null);
+    }
+
+    /**
+     * @see EduTrackChangeListener#studentsReplaced(Map)
+     */
+    static JsonAdaptedChange studentsReplaced(Map<Integer, Student> editedStudents) {
+        List<Integer> indices = new ArrayList<>(editedStudents.keySet());
+        List<JsonAdaptedStudent> students = new ArrayList<>(editedStudents.size());
+        editedStudents.values().forEach(editedStudent -> students.add(new JsonAdaptedStudent(editedStudent)));
+        return new JsonAdaptedChange(Type.REPLACE_STUDENTS, null, null, null, indices, null, students, null, null,
+                null, null, null);
+    }
+
+    /**
+     * @see EduTrackChangeListener#classAdded(int, Class)
+     * @param eduTrack the data the class is in, whose student list the class refers to.
+     */
+    static JsonAdaptedChange classAdded(int index, Class addedClass, ReadOnlyEduTrack eduTrack) {
+        return new JsonAdaptedChange(Type.ADD_CLASS, index, null, null, null, null, null,
+                adaptClass(addedClass, eduTrack), null, null, null, null);
+    }
+
+    /**
+     * @see EduTrackChangeListener#classRemoved(int)
+     */
+    static JsonAdaptedChange classRemoved(int index) {
+        return new JsonAdaptedChange(Type.REMOVE_CLASS, index, null);
+    }
+
+    /**
+     * @see EduTrackChangeListener#classReplaced(int, Class)
+     * @param eduTrack the data the class is in, whose student list the class refers to.
+     */
+    static JsonAdaptedChange classReplaced(int index, Class editedClass, ReadOnlyEduTrack eduTrack) {
+        return new JsonAdaptedChange(Type.REPLACE_CLASS, index, null, null, null, null, null,
+                adaptClass(editedClass, eduTrack), null, null, null, null);
+    }
+
+    /**
+     * @see EduTrackChangeListener#studentAddedToClass(int, int, int, long[])
+     */
+    static JsonAdaptedChange studentAddedToClass(int classIndex, int position, int studentIndex,
+                                                 long[] lessonsAttended) {
+        return new JsonAdaptedChange(Type.ADD_STUDENT_TO_CLASS, position, classIndex, studentIndex, null, null,
+                null, null, lessonsAttended.length > 0 ? lessonsAttended : null, null, null, null);
+    }
+
+    /**
+     * @see EduTrackChangeListener#studentRemovedFromClass(int, int)
+     */
+    static JsonAdaptedChange studentRemovedFromClass(int classIndex, int position) {
+        return new JsonAdaptedChange(Type.REMOVE_STUDENT_FROM_CLASS, position, classIndex);
+    }
+
+    /**
+     * @see EduTrackChangeListener#lessonCountChanged(int, int)
+     */
+    static JsonAdaptedChange lessonCountChanged(int classIndex, int lessonCount) {
+        return new JsonAdaptedChange(Type.SET_LESSON_COUNT, null, classIndex, null, null, null, null, null, null,
+                lessonCount, null, null);
+    }
+
+    /**
+     * @see EduTrackChangeListener#attendanceRecorded(int, int, boolean)
+     */
+    static JsonAdaptedChange attendanceRecorded(int classIndex, int position, boolean isPresent) {
+        return new JsonAdaptedChange(Type.RECORD_ATTENDANCE, position, classIndex, null, null, null, null, null,
+                null, null, isPresent, null);
+    }
+
+    /**
+     * @see EduTrackChangeListener#dataReset(ReadOnlyEduTrack)
+     */
+    static JsonAdaptedChange dataReset(ReadOnlyEduTrack newData) {
+        return new JsonAdaptedChange(Type.RESET, null, null, null, null, null, null, null, null, null, null,
+                new JsonSerializableEduTrack(newData));
+    }
+
+    private static JsonAdaptedClass adaptClass(Class c, ReadOnlyEduTrack eduTrack) {
+        Map<Student, Integer> studentPositions = new HashMap<>();
+        List<Student> studentList = eduTrack.getStudentList();
+        for (int i = 0; i < studentList.size(); i++) {
+            if (c.hasStudentInClass(studentList.get(i))) {
+                studentPositions.put(studentList.get(i), i);
+            }
+        }
+        return new JsonAdaptedClass(c, studentPositions);
+    }
+
+    /**
+     * Makes this change to {@code eduTrack}.
+     *
+     * @throws IllegalValueException if this change is missing a field it needs, or does not fit
+     *     {@code eduTrack}, such as by referring to a student or class that does not exist.
+     */
+    public void applyTo(EduTrack eduTrack) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        try {
+            switch (type) {
+            case ADD_STUDENT:
+                eduTrack.addStudent(index, student.toModelType());
+                break;
+            case REMOVE_STUDENT:
+                eduTrack.removeStudent(eduTrack.getStudentList().get(index));
+                break;
+            case REPLACE_STUDENTS:
+                Map<Student, Student> replacements = new LinkedHashMap<>();
+                for (int i = 0; i < indices.size(); i++) {
+                    replacements.put(eduTrack.getStudentList().get(indices.get(i)), students.get(i).toModelType());
+                }
+                eduTrack.replaceStudents(replacements);
+                break;
+            case ADD_CLASS:
+                eduTrack.addClass(Index.fromZeroBased(index),
+                        studentClass.toModelType(eduTrack.getStudentList(), new HashMap<>()));
+                break;
+            case REMOVE_CLASS:
+                eduTrack.removeClass(eduTrack.getClassByIndex(Index.fromZeroBased(index)));
+                break;
+            case REPLACE_CLASS:
+                eduTrack.setClass(Index.fromZeroBased(index),
+                        studentClass.toModelType(eduTrack.getStudentList(), new HashMap<>()));
+                break;
+            case ADD_STUDENT_TO_CLASS:
+                Class c = classAt(eduTrack);
+                Student addedStudent = eduTrack.getStudentList().get(studentIndex);
+                eduTrack.addStudentToClass(addedStudent, c, index);
+                if (lessonsAttended != null) {
+                    c.setLessonsAttended(addedStudent, lessonsAttended);
+                }
+                break;
+            case REMOVE_STUDENT_FROM_CLASS:
+                eduTrack.removeStudentFromClass(classAt(eduTrack).getStudentList().get(index), classAt(eduTrack));
+                break;
+            case SET_LESSON_COUNT:
+                classAt(eduTrack).getAttendanceHistory().setLessonCount(lessonCount);
+                break;
+            case RECORD_ATTENDANCE:
+                classAt(eduTrack).recordAttendance(classAt(eduTrack).getStudentList().get(index), isPresent);
+                break;
+            case RESET:
+                eduTrack.resetData(data.toModelType());
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, type));
+            }
+        } catch (RuntimeException e) {
+            // A missing field, or a position, student or class that is not in the data
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, type), e);
+        }
+    }
+
+    private Class classAt(EduTrack eduTrack) {
+        return eduTrack.getClassByIndex(Index.fromZeroBased(classIndex));
+    }
+
+}
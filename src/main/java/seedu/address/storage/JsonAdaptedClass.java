@@ -1,69 +1,128 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.common.Memo;
+import seedu.address.model.module.AttendanceHistory;
 import seedu.address.model.module.Class;
 import seedu.address.model.module.ClassName;
 import seedu.address.model.module.Schedule;
+import seedu.address.model.student.Student;
 import seedu.address.model.student.UniqueStudentList;
+import seedu.address.model.student.exceptions.DuplicateStudentException;
 
 /**
  * Jackson-friendly version of {@link Class}.
+ * Students are stored as positions in the top-level student list of {@link JsonSerializableEduTrack}.
+ * Older files that embed a full copy of each student in {@code studentList} can still be read.
+ * The lesson history is stored as the number of {@code lessons} held and, for each student, the lessons they
+ * attended as the words of a bitset.
  */
 class JsonAdaptedClass {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Class's %s field is missing!";
+    public static final String MESSAGE_INVALID_STUDENT_REFERENCE = "Class %s refers to a student that does not exist.";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "Class %s contains duplicate students.";
+    public static final String MESSAGE_INVALID_ATTENDANCE = "Class %s has attendance that does not match its "
+            + "students or lessons.";
 
     private final String className;
     private final String classNote;
     private final String classSchedule;
+    private final List<Integer> students = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedStudent> studentList = new ArrayList<>();
+    private final int lessons;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<long[]> attendance = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedClass} with the given class details.
      */
     @JsonCreator
     public JsonAdaptedClass(@JsonProperty("className") String className,
+                            @JsonProperty("students") List<Integer> students,
                             @JsonProperty("studentList") List<JsonAdaptedStudent> studentList,
                             @JsonProperty("classNote") String classNote,
-                            @JsonProperty("classSchedule") String classSchedule) {
+                            @JsonProperty("classSchedule") String classSchedule,
+                            @JsonProperty("lessons") int lessons,
+                            @JsonProperty("attendance") List<long[]> attendance) {
         this.className = className;
         this.classNote = classNote;
         this.classSchedule = classSchedule;
+        this.lessons = lessons;
+        if (students != null) {
+            this.students.addAll(students);
+        }
         if (studentList != null) {
             this.studentList.addAll(studentList);
         }
+        if (attendance != null) {
+            this.attendance.addAll(attendance);
+        }
     }
 
     /**
      * Converts a given {@code Class} into this class for Jackson use.
+     * The lessons attended by each student are stored as packed bits, in the same order as the students.
+     *
+     * @param studentPositions the position of every student of {@code source} in the top-level student list.
      */
-    public JsonAdaptedClass(Class source) {
+    public JsonAdaptedClass(Class source, Map<Student, Integer> studentPositions) {
         className = source.getClassName().toString();
         classNote = source.getClassMemo().toString();
         classSchedule = source.getClassSchedule().toString();
 
-        studentList.addAll(source.getStudentList().stream()
-                .map(JsonAdaptedStudent::new)
-                .collect(Collectors.toList()));
+        AttendanceHistory history = source.getAttendanceHistory();
+        lessons = history.getLessonCount();
+        for (Student student : source.getStudentList()) {
+            students.add(studentPositions.get(student));
+            if (lessons > 0) {
+                attendance.add(history.getLessonsAttended(student));
+            }
+        }
     }
 
     /**
-     * Converts this Jackson-friendly adapted person object into the model's {@code Class} object.
+     * Converts this Jackson-friendly adapted class object into the model's {@code Class} object.
+     * The class refers to the students in {@code canonicalStudents} rather than to copies of them.
+     * Students embedded by older files are matched against {@code studentLookup}, and any that are not found
+     * are appended to both {@code canonicalStudents} and {@code studentLookup}.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     * @param canonicalStudents the top-level student list.
+     * @param studentLookup every student of {@code canonicalStudents}, mapped to itself.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted class.
      */
-    public Class toModelType() throws IllegalValueException {
-        final UniqueStudentList students = new UniqueStudentList();
-        for (JsonAdaptedStudent student : studentList) {
-            students.add(student.toModelType());
+    public Class toModelType(List<Student> canonicalStudents, Map<Student, Student> studentLookup)
+            throws IllegalValueException {
+        final UniqueStudentList modelStudents = new UniqueStudentList();
+        try {
+            for (Integer position : students) {
+                if (position == null || position < 0 || position >= canonicalStudents.size()) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_STUDENT_REFERENCE, className));
+                }
+                modelStudents.add(canonicalStudents.get(position));
+            }
+            for (JsonAdaptedStudent student : studentList) {
+                Student modelStudent = student.toModelType();
+                Student canonicalStudent = studentLookup.get(modelStudent);
+                if (canonicalStudent == null) {
+                    canonicalStudent = modelStudent;
+                    canonicalStudents.add(canonicalStudent);
+                    studentLookup.put(canonicalStudent, canonicalStudent);
+                }
+                modelStudents.add(canonicalStudent);
+            }
+        } catch (DuplicateStudentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_STUDENT, className));
         }
 
         if (className == null) {
@@ -73,26 +132,41 @@ class JsonAdaptedClass {
         if (!ClassName.isValidClassName(className)) {
             throw new IllegalValueException(ClassName.MESSAGE_CONSTRAINTS);
         }
-        final ClassName modelClassName = new ClassName(className);
+        final ClassName modelClassName = ClassName.of(className);
 
         final Memo modelClassMemo;
         if (classNote == null) {
-            modelClassMemo = new Memo(" ");
+            modelClassMemo = Memo.of(" ");
         } else {
-            modelClassMemo = new Memo(classNote);
+            modelClassMemo = Memo.of(classNote);
         }
 
         final Schedule modelClassSchedule;
 
         if (classSchedule == null) {
-            modelClassSchedule = new Schedule(" ");
+            modelClassSchedule = Schedule.of(" ");
         } else if (!Schedule.isValidSchedule(classSchedule)) {
             throw new IllegalValueException(Schedule.MESSAGE_CONSTRAINTS);
         } else {
-            modelClassSchedule = new Schedule(classSchedule);
+            modelClassSchedule = Schedule.of(classSchedule);
+        }
+
+        final AttendanceHistory modelAttendanceHistory = new AttendanceHistory();
+        final List<Student> classStudents = modelStudents.asUnmodifiableObservableList();
+        if (lessons < 0 || (!attendance.isEmpty() && attendance.size() != classStudents.size())) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ATTENDANCE, className));
+        }
+        modelAttendanceHistory.setLessonCount(lessons);
+        for (int i = 0; i < attendance.size(); i++) {
+            long[] lessonsAttended = attendance.get(i);
+            if (lessonsAttended == null || BitSet.valueOf(lessonsAttended).length() > lessons) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ATTENDANCE, className));
+            }
+            modelAttendanceHistory.setLessonsAttended(classStudents.get(i), lessonsAttended);
         }
 
-        return new Class(modelClassName, students, modelClassMemo, modelClassSchedule);
+        return new Class(modelClassName, modelStudents, modelClassMemo, modelClassSchedule,
+                modelAttendanceHistory);
     }
 
 }
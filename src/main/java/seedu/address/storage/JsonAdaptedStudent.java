@@ -85,12 +85,12 @@ class JsonAdaptedStudent {
                     LessonsAttended.class.getSimpleName()));
         }
 
-        final Name modelName = new Name(name);
-        final Id modelId = new Id(id);
-        final Memo modelMemo = new Memo(memo);
-        final CurrentLessonAttendance modelCurrentLessonAttendance = new CurrentLessonAttendance(
+        final Name modelName = Name.of(name);
+        final Id modelId = Id.of(id);
+        final Memo modelMemo = Memo.of(memo);
+        final CurrentLessonAttendance modelCurrentLessonAttendance = CurrentLessonAttendance.of(
                 currentLessonAttendance);
-        final LessonsAttended modelLessonsAttended = new LessonsAttended(
+        final LessonsAttended modelLessonsAttended = LessonsAttended.of(
                 lessonsAttended);
 
         return new Student(modelName, modelId, modelMemo, modelCurrentLessonAttendance, modelLessonsAttended);
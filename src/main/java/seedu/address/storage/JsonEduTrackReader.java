@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EduTrack;
+import seedu.address.model.module.Class;
+import seedu.address.model.module.exceptions.DuplicateClassException;
+import seedu.address.model.student.Student;
+
+/**
+ * Reads a data file in the format of {@link JsonSerializableEduTrack} as a stream, converting each student and
+ * class to the model as soon as it is parsed. Only the model and the entry being parsed are held in memory,
+ * rather than the text of the file and a copy of all its entries.
+ */
+class JsonEduTrackReader {
+
+    public static final String MESSAGE_NOT_EDUTRACK = "File does not hold EduTrack data.";
+    public static final String MESSAGE_MISSING_ENTRY = "%s list contains an empty entry.";
+
+    private final Path filePath;
+    private final List<Student> students = new ArrayList<>();
+    private final Map<Student, Student> studentLookup = new HashMap<>();
+    private final List<Class> classes = new ArrayList<>();
+    // Classes refer to students by position, so classes that come before the students wait until they are read
+    private final List<JsonAdaptedClass> unresolvedClasses = new ArrayList<>();
+    private boolean hasReadStudents;
+    private boolean hasReadClasses;
+    private long journalSequence;
+
+    /**
+     * Creates a reader of the data file at {@code filePath}.
+     */
+    JsonEduTrackReader(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Reads the data file.
+     *
+     * @throws IOException if the file could not be read, or is not JSON data with lists of students and classes.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public EduTrack read() throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_EDUTRACK);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "students":
+                    readStudents(parser);
+                    break;
+                case "classes":
+                    readClasses(parser);
+                    break;
+                case "journalSequence":
+                    journalSequence = parser.getValueAsLong();
+                    break;
+                default:
+                    // Unknown fields are ignored, as when reading any other JSON file
+                    parser.skipChildren();
+                }
+            }
+            if (!hasReadStudents || !hasReadClasses) {
+                throw new JsonParseException(parser, MESSAGE_NOT_EDUTRACK);
+            }
+        }
+
+        for (JsonAdaptedClass jsonAdaptedClass : unresolvedClasses) {
+            classes.add(jsonAdaptedClass.toModelType(students, studentLookup));
+        }
+
+        EduTrack eduTrack = new EduTrack();
+        try {
+            eduTrack.setClasses(classes);
+        } catch (DuplicateClassException e) {
+            throw new IllegalValueException(JsonSerializableEduTrack.MESSAGE_DUPLICATE_CLASS);
+        }
+        eduTrack.setStudents(students);
+        return eduTrack;
+    }
+
+    /**
+     * Returns the sequence number of the last record of the {@link EduTrackJournal} that the data read includes.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    private void readStudents(JsonParser parser) throws IOException, IllegalValueException {
+        startArray(parser);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            Student student = readEntry(parser, JsonAdaptedStudent.class, "Students").toModelType();
+            if (studentLookup.putIfAbsent(student, student) != null) {
+                throw new IllegalValueException(JsonSerializableEduTrack.MESSAGE_DUPLICATE_PERSON);
+            }
+            students.add(student);
+        }
+        hasReadStudents = true;
+    }
+
+    private void readClasses(JsonParser parser) throws IOException, IllegalValueException {
+        startArray(parser);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedClass jsonAdaptedClass = readEntry(parser, JsonAdaptedClass.class, "Classes");
+            if (hasReadStudents) {
+                classes.add(jsonAdaptedClass.toModelType(students, studentLookup));
+            } else {
+                unresolvedClasses.add(jsonAdaptedClass);
+            }
+        }
+        hasReadClasses = true;
+    }
+
+    private static void startArray(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, MESSAGE_NOT_EDUTRACK);
+        }
+    }
+
+    private static <T> T readEntry(JsonParser parser, java.lang.Class<T> entryClass, String listName)
+            throws IOException, IllegalValueException {
+        T entry = parser.readValueAs(entryClass);
+        if (entry == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_ENTRY, listName));
+        }
+        return entry;
+    }
+
+}
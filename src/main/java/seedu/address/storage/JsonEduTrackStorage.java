@@ -5,26 +5,27 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyEduTrack;
 
 /**
  * A class to access EduTrack data stored as a json file on the hard disk.
+ * The file is read and written as a stream, so that the data is not held in memory more than once.
+ * The changes made since the file was written may be kept in an {@link EduTrackJournal} next to it, which is
+ * replayed on top of the data read from the file.
  */
 public class JsonEduTrackStorage implements EduTrackStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonEduTrackStorage.class);
-
     private Path filePath;
+    private final EduTrackJournal journal;
 
+    /**
+     * Creates a {@code JsonEduTrackStorage} for the data file at {@code filePath} and its journal.
+     */
     public JsonEduTrackStorage(Path filePath) {
         this.filePath = filePath;
+        journal = new EduTrackJournal(filePath);
     }
 
     public Path getEduTrackFilePath() {
@@ -38,6 +39,9 @@ public class JsonEduTrackStorage implements EduTrackStorage {
 
     /**
      * Similar to {@link #readEduTrack()}.
+     * The journal next to the file, if any, is replayed on top of the data read from the file.
+     * A binary data file, as written by {@link BinaryEduTrackStorage}, is also read, and is converted to JSON when
+     * the data is next saved.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,18 +49,8 @@ public class JsonEduTrackStorage implements EduTrackStorage {
     public Optional<ReadOnlyEduTrack> readEduTrack(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableEduTrack> jsonEduTrack = JsonUtil.readJsonFile(
-                filePath, JsonSerializableEduTrack.class);
-        if (!jsonEduTrack.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonEduTrack.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        }
+        EduTrackJournal fileJournal = filePath.equals(this.filePath) ? journal : new EduTrackJournal(filePath);
+        return EduTrackFileReader.read(filePath, fileJournal);
     }
 
     @Override
@@ -66,6 +60,7 @@ public class JsonEduTrackStorage implements EduTrackStorage {
 
     /**
      * Similar to {@link #saveEduTrack(ReadOnlyEduTrack)}.
+     * The data is taken to include every record of the journal, which must not be appended to while saving.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +68,13 @@ public class JsonEduTrackStorage implements EduTrackStorage {
         requireNonNull(eduTrack);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableEduTrack(eduTrack), filePath);
+        long journalSequence = filePath.equals(this.filePath) ? journal.getSequence() : 0;
+        JsonEduTrackWriter.write(eduTrack, journalSequence, filePath);
+    }
+
+    @Override
+    public EduTrackJournal getEduTrackJournal() {
+        return journal;
     }
 
 }
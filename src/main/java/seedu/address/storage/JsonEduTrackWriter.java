@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyEduTrack;
+import seedu.address.model.module.Class;
+import seedu.address.model.student.Student;
+
+/**
+ * Writes a data file in the format of {@link JsonSerializableEduTrack} as a stream, converting each student and
+ * class as it is written rather than building a copy of all the data and its text in memory first.
+ */
+class JsonEduTrackWriter {
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes {@code eduTrack} to the file at {@code filePath}, overwriting it if it exists.
+     * The data is written to a temporary file that then replaces the file in one step, so that the file never
+     * holds part of the data even if writing fails.
+     *
+     * @param journalSequence the sequence number of the last record of the {@link EduTrackJournal} that
+     *     {@code eduTrack} includes.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public static void write(ReadOnlyEduTrack eduTrack, long journalSequence, Path filePath) throws IOException {
+        requireNonNull(eduTrack);
+        requireNonNull(filePath);
+
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (JsonGenerator generator = JsonUtil.createGenerator(temporaryFilePath)) {
+            writeData(generator, eduTrack, journalSequence);
+        }
+        Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes the fields in the order of {@link JsonSerializableEduTrack}, so that the file is the same as one
+     * written from it.
+     */
+    private static void writeData(JsonGenerator generator, ReadOnlyEduTrack eduTrack, long journalSequence)
+            throws IOException {
+        Map<Student, Integer> studentPositions = new HashMap<>();
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("students");
+        for (Student student : eduTrack.getStudentList()) {
+            writeStudent(generator, student, studentPositions);
+        }
+        // Classes refer to students by position, so students only found in classes are written after the others
+        for (Class c : eduTrack.getClassList()) {
+            for (Student student : c.getStudentList()) {
+                if (!studentPositions.containsKey(student)) {
+                    writeStudent(generator, student, studentPositions);
+                }
+            }
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("classes");
+        for (Class c : eduTrack.getClassList()) {
+            generator.writeObject(new JsonAdaptedClass(c, studentPositions));
+        }
+        generator.writeEndArray();
+
+        if (journalSequence != 0) {
+            generator.writeNumberField("journalSequence", journalSequence);
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeStudent(JsonGenerator generator, Student student, Map<Student, Integer> studentPositions)
+            throws IOException {
+        studentPositions.put(student, studentPositions.size());
+        generator.writeObject(new JsonAdaptedStudent(student));
+    }
+
+}
@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -12,6 +14,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.EduTrack;
 import seedu.address.model.ReadOnlyEduTrack;
 import seedu.address.model.module.Class;
+import seedu.address.model.module.exceptions.DuplicateClassException;
 import seedu.address.model.student.Student;
 
 /**
@@ -28,14 +31,19 @@ class JsonSerializableEduTrack {
 
     private final List<JsonAdaptedClass> classes = new ArrayList<>();
 
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final long journalSequence;
+
     /**
      * Constructs a {@code JsonSerializableEduTrack} with the given students.
      */
     @JsonCreator
     public JsonSerializableEduTrack(@JsonProperty("students") List<JsonAdaptedStudent> students,
-                                    @JsonProperty("classes") List<JsonAdaptedClass> classes) {
+                                    @JsonProperty("classes") List<JsonAdaptedClass> classes,
+                                    @JsonProperty("journalSequence") long journalSequence) {
         this.students.addAll(students);
         this.classes.addAll(classes);
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -44,31 +52,74 @@ class JsonSerializableEduTrack {
      * @param source future changes to this will not affect the created {@code JsonSerializableEduTrack}.
      */
     public JsonSerializableEduTrack(ReadOnlyEduTrack source) {
-        students.addAll(source.getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()));
-        classes.addAll(source.getClassList().stream().map(JsonAdaptedClass::new).collect(Collectors.toList()));
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyEduTrack} into this class for Jackson use.
+     * Each student is written once; classes refer to students by their position in the student list.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableEduTrack}.
+     * @param journalSequence the sequence number of the last record of the {@link EduTrackJournal} that
+     *     {@code source} includes.
+     */
+    public JsonSerializableEduTrack(ReadOnlyEduTrack source, long journalSequence) {
+        this.journalSequence = journalSequence;
+        Map<Student, Integer> studentPositions = new HashMap<>();
+        for (Student student : source.getStudentList()) {
+            addStudent(student, studentPositions);
+        }
+        for (Class c : source.getClassList()) {
+            for (Student student : c.getStudentList()) {
+                if (!studentPositions.containsKey(student)) {
+                    addStudent(student, studentPositions);
+                }
+            }
+            classes.add(new JsonAdaptedClass(c, studentPositions));
+        }
+    }
+
+    /**
+     * Returns the sequence number of the last record of the {@link EduTrackJournal} that this data includes.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    private void addStudent(Student student, Map<Student, Integer> studentPositions) {
+        studentPositions.put(student, students.size());
+        students.add(new JsonAdaptedStudent(student));
     }
 
     /**
      * Converts this address book into the model's {@code EduTrack} object.
+     * Each list is validated for duplicates and loaded in a single bulk operation.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public EduTrack toModelType() throws IllegalValueException {
         EduTrack eduTrack = new EduTrack();
-        for (JsonAdaptedClass jsonAdaptedClass : classes) {
-            Class c = jsonAdaptedClass.toModelType();
-            if (eduTrack.hasClass(c)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CLASS);
-            }
-            eduTrack.addClass(c);
-        }
+        List<Student> modelStudents = new ArrayList<>(students.size());
+        Map<Student, Student> studentLookup = new HashMap<>();
         for (JsonAdaptedStudent jsonAdaptedStudent : students) {
             Student student = jsonAdaptedStudent.toModelType();
-            if (eduTrack.hasStudent(student)) {
+            if (studentLookup.putIfAbsent(student, student) != null) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            eduTrack.addStudent(student);
+            modelStudents.add(student);
+        }
+
+        List<Class> modelClasses = new ArrayList<>(classes.size());
+        for (JsonAdaptedClass jsonAdaptedClass : classes) {
+            modelClasses.add(jsonAdaptedClass.toModelType(modelStudents, studentLookup));
+        }
+        try {
+            eduTrack.setClasses(modelClasses);
+        } catch (DuplicateClassException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CLASS);
         }
+
+        eduTrack.setStudents(modelStudents);
         return eduTrack;
     }
 
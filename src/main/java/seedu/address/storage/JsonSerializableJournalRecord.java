@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.EduTrack;
+
+/**
+ * One record of an {@link EduTrackJournal}, holding the changes made to the data by one command.
+ * Records are numbered one after another, from 1.
+ */
+class JsonSerializableJournalRecord {
+
+    private final long sequence;
+    private final List<JsonAdaptedChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableJournalRecord} numbered {@code sequence} with the given changes.
+     */
+    @JsonCreator
+    public JsonSerializableJournalRecord(@JsonProperty("sequence") long sequence,
+                                         @JsonProperty("changes") List<JsonAdaptedChange> changes) {
+        this.sequence = sequence;
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Makes the changes of this record to {@code eduTrack}, in the order they were made.
+     *
+     * @throws IllegalValueException if a change does not fit {@code eduTrack}.
+     */
+    public void applyTo(EduTrack eduTrack) throws IllegalValueException {
+        for (JsonAdaptedChange change : changes) {
+            change.applyTo(eduTrack);
+        }
+    }
+
+}
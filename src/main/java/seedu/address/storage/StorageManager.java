@@ -75,4 +75,9 @@ public class StorageManager implements Storage {
         eduTrackStorage.saveEduTrack(eduTrack, filePath);
     }
 
+    @Override
+    public EduTrackJournal getEduTrackJournal() {
+        return eduTrackStorage.getEduTrackJournal();
+    }
+
 }
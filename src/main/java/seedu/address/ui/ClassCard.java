@@ -12,6 +12,7 @@ import seedu.address.model.module.Class;
 public class ClassCard extends UiPart<Region> {
 
     private static final String FXML = "ClassListCard.fxml";
+    private static final String STATS_FORMAT = "Lessons: %1$d | Present: %2$d/%3$d | Average attendance: %4$.1f%%";
     /**
      * Memo: Certain keywords such as "location" and "resources" are reserved
      * keywords in JavaFX.
@@ -30,6 +31,8 @@ public class ClassCard extends UiPart<Region> {
     private Label name;
     @FXML
     private Label id;
+    @FXML
+    private Label stats;
 
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to
@@ -40,5 +43,7 @@ public class ClassCard extends UiPart<Region> {
         this.c = c;
         id.setText(displayedIndex + ". ");
         name.setText(c.getClassName().toString());
+        stats.setText(String.format(STATS_FORMAT, c.getAttendanceHistory().getLessonCount(), c.getPresentCount(),
+                c.getStudentList().size(), c.getAverageAttendanceRate()));
     }
 }
@@ -3,6 +3,8 @@ package seedu.address.ui;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,18 +19,27 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // a filter, as the text field would otherwise use the Tab key to move the focus
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                handleTabPressed();
+                event.consume();
+            }
+        });
     }
 
     /**
@@ -49,6 +60,29 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Handles the Tab button pressed event by completing the word before the caret as far as all of its
+     * completions agree. A word with a single completion is completed in full.
+     */
+    private void handleTabPressed() {
+        String commandText = commandTextField.getText();
+        int caretPosition = commandTextField.getCaretPosition();
+        int wordStart = caretPosition;
+        while (wordStart > 0 && !Character.isWhitespace(commandText.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        String word = commandText.substring(wordStart, caretPosition);
+        if (word.isEmpty()) {
+            return;
+        }
+
+        String completion = commandCompleter.complete(word);
+        if (completion.length() < word.length()) {
+            return;
+        }
+        commandTextField.replaceText(wordStart, caretPosition, completion);
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -69,6 +103,19 @@ public class CommandBox extends UiPart<Region> {
         styleClass.add(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Represents a function that can suggest completions of a word of a command.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns {@code prefix} completed as far as its possible completions agree.
+         *
+         * @see seedu.address.logic.Logic#completeWord(String)
+         */
+        String complete(String prefix);
+    }
+
     /**
      * Represents a function that can execute commands.
      */
@@ -1,6 +1,7 @@
 package seedu.address.commons.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -12,7 +13,9 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", savePolicy=" + config.getSavePolicy()
+                + ", saveDelayMillis=" + config.getSaveDelayMillis() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -21,6 +24,17 @@ public class ConfigTest {
         Config defaultConfig = new Config();
         assertNotNull(defaultConfig);
         assertTrue(defaultConfig.equals(defaultConfig));
+
+        Config idleConfig = new Config();
+        idleConfig.setSavePolicy(Config.SavePolicy.ON_IDLE);
+        assertFalse(defaultConfig.equals(idleConfig));
+    }
+
+    @Test
+    public void isValidSaveDelayMillis() {
+        assertTrue(Config.isValidSaveDelayMillis(0L));
+        assertTrue(Config.isValidSaveDelayMillis(Config.DEFAULT_SAVE_DELAY_MILLIS));
+        assertFalse(Config.isValidSaveDelayMillis(-1L));
     }
 
 
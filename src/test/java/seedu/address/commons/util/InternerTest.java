@@ -0,0 +1,53 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final Interner<StringBuilder> interner = new Interner<>(key -> {
+        AppUtil.checkArgument(!key.isEmpty());
+        created.incrementAndGet();
+        return new StringBuilder(key);
+    });
+
+    @Test
+    public void constructor_nullFactory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<>(null));
+    }
+
+    @Test
+    public void intern_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalKeys_createsOneInstance() {
+        StringBuilder first = interner.intern("abc");
+        assertSame(first, interner.intern(new String("abc")));
+        assertNotSame(first, interner.intern("abd"));
+        assertEquals(2, created.get());
+    }
+
+    @Test
+    public void intern_factoryRejectsKey_remembersNothing() {
+        assertThrows(IllegalArgumentException.class, () -> interner.intern(""));
+        assertFalse(interner.contains(""));
+    }
+
+    @Test
+    public void contains() {
+        assertFalse(interner.contains("abc"));
+        interner.intern("abc");
+        assertTrue(interner.contains("abc"));
+    }
+}
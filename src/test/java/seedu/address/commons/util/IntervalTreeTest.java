@@ -0,0 +1,83 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IntervalTreeTest {
+
+    private final IntervalTree<String> tree = new IntervalTree<>();
+
+    @Test
+    public void add_emptyInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> tree.add(5, 5, "a"));
+        assertThrows(NullPointerException.class, () -> tree.add(1, 5, null));
+    }
+
+    @Test
+    public void getOverlapping_intervalsAdded_returnsOverlappingInOrderOfStart() {
+        tree.add(10, 20, "b");
+        tree.add(0, 5, "a");
+        tree.add(15, 30, "c");
+        tree.add(30, 40, "d");
+        assertEquals(Arrays.asList("b", "c"), tree.getOverlapping(12, 16));
+        assertEquals(Arrays.asList("c"), tree.getOverlapping(20, 30));
+        assertEquals(Collections.emptyList(), tree.getOverlapping(5, 10));
+        assertEquals(Arrays.asList("d"), tree.getContaining(30));
+        assertEquals(Arrays.asList("a", "b", "c", "d"), tree.getOverlapping(0, 100));
+    }
+
+    @Test
+    public void remove() {
+        tree.add(10, 20, "a");
+        tree.add(10, 20, "b");
+        assertFalse(tree.remove(10, 21, "a"));
+        assertTrue(tree.remove(10, 20, "a"));
+        assertFalse(tree.remove(10, 20, "a"));
+        assertEquals(Arrays.asList("b"), tree.getContaining(15));
+        assertEquals(1, tree.size());
+
+        tree.clear();
+        assertEquals(0, tree.size());
+        assertEquals(Collections.emptyList(), tree.getContaining(15));
+    }
+
+    @Test
+    public void getOverlapping_randomIntervals_matchesScan() {
+        Random random = new Random(2103);
+        List<int[]> intervals = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int start = random.nextInt(1000);
+            int[] interval = {start, start + 1 + random.nextInt(100), i};
+            intervals.add(interval);
+            tree.add(interval[0], interval[1], Integer.toString(i));
+        }
+        for (int i = 0; i < 200; i++) {
+            int[] removed = intervals.remove(random.nextInt(intervals.size()));
+            assertTrue(tree.remove(removed[0], removed[1], Integer.toString(removed[2])));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            int start = random.nextInt(1100);
+            int end = start + 1 + random.nextInt(50);
+            List<String> expected = new ArrayList<>();
+            for (int[] interval : intervals) {
+                if (interval[0] < end && start < interval[1]) {
+                    expected.add(Integer.toString(interval[2]));
+                }
+            }
+            assertEquals(new HashSet<>(expected), new HashSet<>(tree.getOverlapping(start, end)));
+        }
+        assertEquals(intervals.size(), tree.size());
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class OrderStatisticTreeTest {
+
+    // Orders strings by length only, so strings of the same length compare equal
+    private final OrderStatisticTree<String> tree = new OrderStatisticTree<>(Comparator.comparingInt(String::length));
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tree.add(null));
+    }
+
+    @Test
+    public void getFirst_elementsAdded_returnsInOrderKeepingTiesInOrderAdded() {
+        tree.add("ccc");
+        tree.add("a");
+        tree.add("bb");
+        tree.add("b");
+        assertEquals(Arrays.asList("a", "b", "bb"), tree.getFirst(3));
+        assertEquals(Arrays.asList("a", "b", "bb", "ccc"), tree.getFirst(10));
+        assertEquals(Collections.emptyList(), tree.getFirst(0));
+        assertThrows(IllegalArgumentException.class, () -> tree.getFirst(-1));
+    }
+
+    @Test
+    public void get_indexInRange_returnsElementAtIndex() {
+        tree.add("ccc");
+        tree.add("a");
+        tree.add("bb");
+        assertEquals("a", tree.get(0));
+        assertEquals("ccc", tree.get(2));
+        assertThrows(IllegalArgumentException.class, () -> tree.get(3));
+    }
+
+    @Test
+    public void countBefore() {
+        tree.add("ccc");
+        tree.add("a");
+        tree.add("b");
+        tree.add("bb");
+        assertEquals(2, tree.countBefore(s -> s.length() < 2));
+        assertEquals(0, tree.countBefore(s -> false));
+        assertEquals(4, tree.countBefore(s -> true));
+    }
+
+    @Test
+    public void remove_equalElement_removesOnlyThatElement() {
+        tree.add("a");
+        tree.add("b");
+        tree.add("c");
+        assertTrue(tree.remove("b"));
+        assertFalse(tree.remove("b"));
+        assertFalse(tree.remove("d"));
+        assertEquals(Arrays.asList("a", "c"), tree.getFirst(10));
+
+        tree.clear();
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    public void operations_randomElements_matchSortedList() {
+        OrderStatisticTree<Integer> numbers = new OrderStatisticTree<>(Comparator.naturalOrder());
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(2103);
+        for (int i = 0; i < 1000; i++) {
+            int n = random.nextInt(200);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(Integer.valueOf(n)), numbers.remove(n));
+            } else {
+                expected.add(n);
+                numbers.add(n);
+            }
+        }
+        Collections.sort(expected);
+        assertEquals(expected.size(), numbers.size());
+        assertEquals(expected, numbers.getFirst(expected.size()));
+        for (int i = 0; i < expected.size(); i += 7) {
+            assertEquals(expected.get(i), numbers.get(i));
+            int bound = expected.get(i);
+            assertEquals(expected.indexOf(bound), numbers.countBefore(n -> n < bound));
+        }
+    }
+}
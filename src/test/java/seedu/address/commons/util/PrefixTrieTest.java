@@ -0,0 +1,100 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie<Integer> trie = new PrefixTrie<>();
+
+    @Test
+    public void add_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.add(null, 1));
+    }
+
+    @Test
+    public void getValuesWithPrefix_keysAdded_returnsValuesOfMatchingKeys() {
+        trie.add("Alice", 1);
+        trie.add("alex", 2);
+        trie.add("Bob", 3);
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), trie.getValuesWithPrefix("AL"));
+        assertEquals(Collections.singleton(1), trie.getValuesWithPrefix("alice"));
+        assertEquals(Collections.emptySet(), trie.getValuesWithPrefix("alices"));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 3)), trie.getValuesWithPrefix(""));
+    }
+
+    @Test
+    public void hasValueWithPrefix() {
+        trie.add("Alice", 1);
+        assertTrue(trie.hasValueWithPrefix("ali", 1));
+        assertFalse(trie.hasValueWithPrefix("ali", 2));
+        assertFalse(trie.hasValueWithPrefix("lic", 1));
+    }
+
+    @Test
+    public void getKeysWithPrefix_keysAdded_returnsKeysInOrderUpToLimit() {
+        trie.add("carl", 1);
+        trie.add("Carla", 2);
+        trie.add("Cara", 3);
+        trie.add("dan", 4);
+        assertEquals(Arrays.asList("Cara", "carl", "Carla"), trie.getKeysWithPrefix("car", 10));
+        assertEquals(Arrays.asList("Cara", "carl"), trie.getKeysWithPrefix("CAR", 2));
+        assertEquals(Collections.emptyList(), trie.getKeysWithPrefix("car", 0));
+        assertThrows(IllegalArgumentException.class, () -> trie.getKeysWithPrefix("car", -1));
+    }
+
+    @Test
+    public void getCommonPrefix_keysAdded_returnsPrefixSharedByMatchingKeys() {
+        trie.add("Carla", 1);
+        trie.add("carl", 2);
+        trie.add("Caroline", 3);
+        trie.add("dan", 4);
+        assertEquals(Optional.of("car"), trie.getCommonPrefix("CA"));
+        assertEquals(Optional.of("Caroline"), trie.getCommonPrefix("caro"));
+        assertEquals(Optional.of(""), trie.getCommonPrefix(""));
+        assertEquals(Optional.empty(), trie.getCommonPrefix("x"));
+
+        trie.add("Carlos", 5);
+        assertEquals(Optional.of("carl"), trie.getCommonPrefix("carl"));
+    }
+
+    @Test
+    public void remove_keyAddedTwice_keptUntilRemovedTwice() {
+        trie.add("Alice", 1);
+        trie.add("alice", 1);
+        trie.add("Alicia", 2);
+
+        trie.remove("alice", 1);
+        assertEquals(Arrays.asList("Alice", "Alicia"), trie.getKeysWithPrefix("ali", 10));
+        assertTrue(trie.hasValueWithPrefix("alice", 1));
+
+        trie.remove("Alice", 1);
+        assertEquals(Arrays.asList("Alicia"), trie.getKeysWithPrefix("ali", 10));
+        assertEquals(Collections.singleton(2), trie.getValuesWithPrefix("ali"));
+    }
+
+    @Test
+    public void remove_keyNotInTrie_throwsIllegalArgumentException() {
+        trie.add("Alice", 1);
+        assertThrows(IllegalArgumentException.class, () -> trie.remove("Alic", 1));
+        assertThrows(IllegalArgumentException.class, () -> trie.remove("Bob", 1));
+    }
+
+    @Test
+    public void clear() {
+        trie.add("Alice", 1);
+        trie.clear();
+        assertEquals(Collections.emptySet(), trie.getValuesWithPrefix(""));
+        assertEquals(Collections.emptyList(), trie.getKeysWithPrefix("", 10));
+        assertEquals(Optional.empty(), trie.getCommonPrefix(""));
+    }
+}
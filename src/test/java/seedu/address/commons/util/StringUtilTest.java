@@ -1,15 +1,48 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 public class StringUtilTest {
 
+    //---------------- Tests for getCommonPrefixIgnoreCase --------------------------------------
+
+    @Test
+    public void getCommonPrefixIgnoreCase() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getCommonPrefixIgnoreCase(null));
+        assertEquals("", StringUtil.getCommonPrefixIgnoreCase(Collections.emptyList()));
+        assertEquals("", StringUtil.getCommonPrefixIgnoreCase(Arrays.asList("abc", "xyz")));
+        assertEquals("Alice", StringUtil.getCommonPrefixIgnoreCase(Arrays.asList("Alice")));
+        assertEquals("CS21", StringUtil.getCommonPrefixIgnoreCase(Arrays.asList("CS2100", "cs2109", "CS21")));
+    }
+
+    //---------------- Tests for isAsciiDigits --------------------------------------
+
+    @Test
+    public void isAsciiDigits() {
+        // invalid range
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.isAsciiDigits("123", 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.isAsciiDigits("123", 0, 4));
+
+        // EP: empty range
+        assertTrue(StringUtil.isAsciiDigits("abc", 1, 1));
+
+        // EP: non-digits in range
+        assertFalse(StringUtil.isAsciiDigits("1a3", 0, 3));
+        assertFalse(StringUtil.isAsciiDigits("1\u0663", 0, 2)); // non-ASCII digit
+
+        // EP: only digits in range
+        assertTrue(StringUtil.isAsciiDigits("a0123456789b", 1, 11));
+    }
+
     //---------------- Tests for isNonZeroUnsignedInteger --------------------------------------
 
     @Test
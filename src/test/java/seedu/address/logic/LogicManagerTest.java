@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -11,15 +13,22 @@ import static seedu.address.testutil.TypicalStudents.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.Config.SavePolicy;
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -27,9 +36,11 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyEduTrack;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.student.Student;
+import seedu.address.storage.EduTrackJournal;
 import seedu.address.storage.JsonEduTrackStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.ClassBuilder;
 import seedu.address.testutil.StudentBuilder;
 
 public class LogicManagerTest {
@@ -52,6 +63,66 @@ public class LogicManagerTest {
         logic = new LogicManager(model, storage);
     }
 
+    @AfterEach
+    public void tearDown() {
+        logic.shutdown();
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.shutdown();
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void shutdown_afterCommand_savesData() throws Exception {
+        logic.execute("add /c CS2103");
+        logic.shutdown();
+        ReadOnlyEduTrack saved = new JsonEduTrackStorage(temporaryFolder.resolve("addressBook.json"))
+                .readEduTrack().get();
+        assertEquals(model.getEduTrack().getClassList(), saved.getClassList());
+    }
+
+    @Test
+    public void execute_commandChangesDataThenFails_discardsChangesAndSaves() throws Exception {
+        Path dataFilePath = temporaryFolder.resolve("failed.json");
+        StorageManager storage = new StorageManager(new JsonEduTrackStorage(dataFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Model failingModel = new ModelManager() {
+            @Override
+            public seedu.address.model.module.Class retrieveClass(Index targetClassIndex) throws CommandException {
+                addClass(new ClassBuilder().withClassName("CS2103").build());
+                throw new CommandException("Failed after changing the data");
+            }
+        };
+        Logic failingLogic = new LogicManager(failingModel, storage);
+        assertThrows(CommandException.class, () -> failingLogic.execute(RankCommand.CLASS_COMMAND_WORD + " 1"));
+        failingLogic.shutdown();
+
+        assertTrue(failingModel.getEduTrack().getClassList().isEmpty());
+        assertFalse(failingModel.canUndo());
+        assertTrue(Files.exists(dataFilePath));
+        assertTrue(new JsonEduTrackStorage(dataFilePath).readEduTrack().get().getClassList().isEmpty());
+    }
+
+    @Test
+    public void execute_journal_appendsChangesToJournal() throws Exception {
+        Path dataFilePath = temporaryFolder.resolve("journaled.json");
+        StorageManager storage = new StorageManager(new JsonEduTrackStorage(dataFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Model journaledModel = new ModelManager();
+        Logic journaledLogic = new LogicManager(journaledModel, storage, SavePolicy.JOURNAL, 0);
+        journaledLogic.execute("add /c CS2103");
+        journaledLogic.execute("add /c CS2101");
+        journaledLogic.execute(UndoCommand.COMMAND_WORD);
+        journaledLogic.shutdown();
+
+        assertTrue(Files.exists(EduTrackJournal.getJournalFilePath(dataFilePath)));
+        ReadOnlyEduTrack saved = new JsonEduTrackStorage(dataFilePath).readEduTrack().get();
+        assertEquals(journaledModel.getEduTrack().getClassList(), saved.getClassList());
+    }
+
     @Test
     public void execute_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "uicfhmowqewca";
@@ -82,6 +153,18 @@ public class LogicManagerTest {
     //                LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     //    }
 
+    @Test
+    public void execute_undoRedo_undoesAndRedoesLastChange() throws Exception {
+        logic.execute("add /c CS2103");
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, model.getEduTrack().getClassList().size());
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertEquals(1, model.getEduTrack().getClassList().size());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -8,8 +8,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,14 +22,15 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.EduTrack;
+import seedu.address.model.EduTrackChangeListener;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyEduTrack;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.module.Class;
 import seedu.address.model.module.ClassName;
+import seedu.address.model.student.AttendanceRanking;
+import seedu.address.model.student.Id;
 import seedu.address.model.student.Student;
-import seedu.address.model.student.exceptions.StudentAlreadyMarkedAbsent;
-import seedu.address.model.student.exceptions.StudentAlreadyMarkedPresent;
 import seedu.address.testutil.StudentBuilder;
 
 public class AddCommandTest {
@@ -164,7 +167,42 @@ public class AddCommandTest {
         }
 
         @Override
-        public void setStudentInClass(Student target, Student editedStudent, Class targetClass) {
+        public long getModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setEduTrackChangeListener(EduTrackChangeListener changeListener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -178,22 +216,85 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public String completeWord(String prefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredStudentListBySimilarName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredListsByMemo(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredStudentListByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredStudentListById(Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredStudentListToClass(Class studentClass) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredStudentListToAtRisk() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AttendanceRanking getAttendanceRanking() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AttendanceRanking getAttendanceRanking(Class studentClass) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredClassListToRunningAt(LocalDateTime time) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Class> getClassesClashingWith(Class c) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasClass(Class c) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void markStudentPresent(Student student, Class studentClass, Student editedStudent)
-                throws StudentAlreadyMarkedPresent {
+        public int markStudentsAttendance(Class studentClass, List<Student> students, boolean isPresent) {
             throw new AssertionError("This method should not be called.");
-        };
+        }
+
+        @Override
+        public void startLesson(Class studentClass) {
+            throw new AssertionError("This method should not be called.");
+        }
 
         @Override
-        public void markStudentAbsent(Student student, Class studentClass, Student editedStudent)
-                throws StudentAlreadyMarkedAbsent {
+        public List<Student> getStudentsById(Id id) {
             throw new AssertionError("This method should not be called.");
-        };
+        }
+
+        @Override
+        public List<Class> getClassesById(Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
 
         @Override
         public Class getClass(ClassName className) {
@@ -235,7 +336,7 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called");
         }
         @Override
-        public void setClass(Index classListIndex, Class c) {
+        public void setClass(Class target, Class editedClass) {
             throw new AssertionError("This method should not be called");
         }
     }
@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.module.Class;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.ClassBuilder;
+
+public class AttendanceCommandTest {
+
+    private static final Index FIRST_CLASS = Index.fromOneBased(1);
+
+    private Model model;
+    private Class studentClass;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        studentClass = new ClassBuilder().withClassName("CS2103").build();
+        model.addStudent(ALICE);
+        model.addStudent(BENSON);
+        model.addClass(studentClass);
+        model.addStudentToClass(ALICE, studentClass);
+        model.addStudentToClass(BENSON, studentClass);
+    }
+
+    /**
+     * Holds {@code attendance.length} lessons of the class, where Alice attends the lessons marked true in
+     * {@code attendance} and Benson attends every lesson.
+     */
+    private void holdLessons(boolean... attendance) {
+        for (boolean isAlicePresent : attendance) {
+            model.startLesson(studentClass);
+            List<Student> students = studentClass.getStudentList();
+            model.markStudentsAttendance(studentClass, List.of(students.get(1)), true);
+            model.markStudentsAttendance(studentClass, List.of(students.get(0)), isAlicePresent);
+        }
+    }
+
+    @Test
+    public void execute_lessonRange_reportsRateAndAbsentees() throws Exception {
+        holdLessons(true, true, false, false, true);
+        CommandResult result = new AttendanceCommand(FIRST_CLASS, 3, 5).execute(model);
+        String expectedMessage = String.format(AttendanceCommand.MESSAGE_ATTENDANCE_SUCCESS, "CS2103", 3, 5,
+                400.0 / 6, String.format(AttendanceCommand.MESSAGE_ABSENTEE, ALICE.getName(), 2));
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_recentLessons_reportsLastLessonsOnly() throws Exception {
+        holdLessons(false, false, true, true);
+        CommandResult result = new AttendanceCommand(FIRST_CLASS, 2).execute(model);
+        String expectedMessage = String.format(AttendanceCommand.MESSAGE_ATTENDANCE_SUCCESS, "CS2103", 3, 4,
+                100.0, AttendanceCommand.MESSAGE_NO_ABSENTEES);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noLessons_throwsCommandException() {
+        assertCommandFailure(new AttendanceCommand(FIRST_CLASS, null, null), model,
+                String.format(AttendanceCommand.MESSAGE_NO_LESSONS, "CS2103"));
+    }
+
+    @Test
+    public void execute_rangeAfterLastLesson_throwsCommandException() {
+        holdLessons(true, true);
+        assertCommandFailure(new AttendanceCommand(FIRST_CLASS, 2, 3), model,
+                String.format(AttendanceCommand.MESSAGE_INVALID_LESSON_RANGE, 2));
+    }
+
+    @Test
+    public void execute_invalidClassIndex_throwsCommandException() {
+        AttendanceCommand command = new AttendanceCommand(Index.fromOneBased(2), null, null);
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        AttendanceCommand rangeCommand = new AttendanceCommand(FIRST_CLASS, 3, 5);
+        AttendanceCommand recentCommand = new AttendanceCommand(FIRST_CLASS, 3);
+
+        // same object -> returns true
+        assertTrue(rangeCommand.equals(rangeCommand));
+
+        // same values -> returns true
+        assertTrue(rangeCommand.equals(new AttendanceCommand(FIRST_CLASS, 3, 5)));
+
+        // different values -> returns false
+        assertFalse(rangeCommand.equals(new AttendanceCommand(FIRST_CLASS, 3, null)));
+        assertFalse(rangeCommand.equals(recentCommand));
+
+        // null -> returns false
+        assertFalse(rangeCommand.equals(null));
+    }
+}
@@ -145,7 +145,7 @@ public class CommandTestUtil {
         assertTrue(targetIndex.getZeroBased() < model.getClassListSize());
 
         Class classToView = model.getClassByIndex(targetIndex);
-        model.updateFilteredStudentList(student -> classToView.getStudentList().contains(student));
+        model.updateFilteredStudentListToClass(classToView);
 
         assertEquals(classToView.getStudentList().size(), model.getFilteredStudentList().size());
     }
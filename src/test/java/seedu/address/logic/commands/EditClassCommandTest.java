@@ -8,6 +8,11 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CLASS;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_CLASS;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -17,6 +22,7 @@ import seedu.address.model.EduTrack;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.common.Memo;
 import seedu.address.model.module.Class;
 import seedu.address.testutil.ClassBuilder;
 import seedu.address.testutil.EditClassDescriptorBuilder;
@@ -35,7 +41,7 @@ public class EditClassCommandTest {
                 Messages.formatClass(editedClass), editedClass.getClassSchedule(), editedClass.getClassMemo());
 
         Model expectedModel = new ModelManager(new EduTrack(model.getEduTrack()), new UserPrefs());
-        expectedModel.setClass(INDEX_FIRST_CLASS, editedClass);
+        expectedModel.setClass(expectedModel.getClassByIndex(INDEX_FIRST_CLASS), editedClass);
 
         assertCommandSuccess(editClassCommand, model, expectedMessage, expectedModel);
     }
@@ -50,11 +56,49 @@ public class EditClassCommandTest {
                 Messages.formatClass(editedClass), editedClass.getClassSchedule(), editedClass.getClassMemo());
 
         Model expectedModel = new ModelManager(new EduTrack(model.getEduTrack()), new UserPrefs());
-        expectedModel.setClass(INDEX_FIRST_CLASS, editedClass);
+        expectedModel.setClass(expectedModel.getClassByIndex(INDEX_FIRST_CLASS), editedClass);
 
         assertCommandSuccess(editClassCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_clashingSchedule_successWithWarning() {
+        Class otherClass = model.getFilteredClassList().get(INDEX_SECOND_CLASS.getZeroBased());
+        model.setClass(otherClass, new ClassBuilder(otherClass).withSchedule("thu, 14:30-15:30").build());
+        Class secondClass = model.getFilteredClassList().get(INDEX_SECOND_CLASS.getZeroBased());
+
+        Class editedClass = new ClassBuilder().build();
+        EditClassDescriptor descriptor = new EditClassDescriptorBuilder(editedClass).build();
+        EditClassCommand editClassCommand = new EditClassCommand(INDEX_FIRST_CLASS, descriptor);
+
+        String expectedMessage = String.format(EditClassCommand.MESSAGE_EDIT_CLASS_SUCCESS,
+                Messages.formatClass(editedClass), editedClass.getClassSchedule(), editedClass.getClassMemo())
+                + String.format(Messages.MESSAGE_SCHEDULE_CLASH, Messages.formatClass(secondClass));
+
+        Model expectedModel = new ModelManager(new EduTrack(model.getEduTrack()), new UserPrefs());
+        expectedModel.setClass(expectedModel.getClassByIndex(INDEX_FIRST_CLASS), editedClass);
+
+        assertCommandSuccess(editClassCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_afterNow_editsShownClass() throws Exception {
+        Model scheduledModel = new ModelManager();
+        Class otherDay = new ClassBuilder().withClassName("cs2101").withSchedule("wed, 15:00-16:00").build();
+        Class running = new ClassBuilder().withClassName("cs2103t").withSchedule("thu, 15:00-16:00").build();
+        scheduledModel.addClass(otherDay);
+        scheduledModel.addClass(running);
+        // A Thursday, at 15:30
+        new NowCommand(Clock.fixed(Instant.parse("2023-11-02T15:30:00Z"), ZoneOffset.UTC)).execute(scheduledModel);
+
+        new EditClassCommand(INDEX_FIRST_CLASS, new EditClassDescriptorBuilder().withMemo("Moved").build())
+                .execute(scheduledModel);
+        List<Class> classes = scheduledModel.getEduTrack().getClassList();
+        assertEquals(otherDay.getClassMemo(), classes.get(0).getClassMemo());
+        assertEquals(running.getClassName(), classes.get(1).getClassName());
+        assertEquals(Memo.of("Moved"), classes.get(1).getClassMemo());
+    }
+
     @Test
     public void execute_duplicateClassUnfilteredList_failure() {
         Class firstClass = model.getFilteredClassList().get(INDEX_FIRST_CLASS.getZeroBased());
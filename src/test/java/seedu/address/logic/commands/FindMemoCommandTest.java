@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CLASS;
+import static seedu.address.testutil.TypicalStudents.IDA;
+import static seedu.address.testutil.TypicalStudents.getTypicalEduTrack;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.common.Memo;
+import seedu.address.model.module.Class;
+import seedu.address.testutil.ClassBuilder;
+import seedu.address.testutil.EditClassDescriptorBuilder;
+
+public class FindMemoCommandTest {
+    private Model model = new ModelManager(getTypicalEduTrack(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalEduTrack(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindMemoCommand findFirstCommand = new FindMemoCommand(Collections.singletonList("first"));
+        FindMemoCommand findSecondCommand = new FindMemoCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindMemoCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_keywordsInMemos_studentsAndClassesFound() {
+        model.addStudent(IDA);
+        expectedModel.addStudent(IDA);
+
+        List<String> keywords = Arrays.asList("help", "Algorithms");
+        String expectedMessage = String.format(FindMemoCommand.MESSAGE_SUCCESS, 1, 0, "help Algorithms");
+        expectedModel.updateFilteredListsByMemo(keywords);
+        assertCommandSuccess(new FindMemoCommand(keywords), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(IDA), model.getFilteredStudentList());
+        assertTrue(model.getFilteredClassList().isEmpty());
+    }
+
+    @Test
+    public void execute_thenEditClass_editsFoundClass() throws Exception {
+        Class tutorial = new ClassBuilder().withClassName("CS2101").withMemo("Tutorial").build();
+        Class lab = new ClassBuilder().withClassName("CS2103").withMemo("Lab in COM1").build();
+        model.addClass(tutorial);
+        model.addClass(lab);
+        new FindMemoCommand(Arrays.asList("lab")).execute(model);
+
+        new EditClassCommand(INDEX_FIRST_CLASS, new EditClassDescriptorBuilder().withMemo("Lab in COM2").build())
+                .execute(model);
+        List<Class> classes = model.getEduTrack().getClassList();
+        assertEquals(Memo.of("Tutorial"), classes.get(0).getClassMemo());
+        assertEquals(lab.getClassName(), classes.get(1).getClassName());
+        assertEquals(Memo.of("Lab in COM2"), classes.get(1).getClassMemo());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = Arrays.asList("keyword");
+        FindMemoCommand command = new FindMemoCommand(keywords);
+        String expected = FindMemoCommand.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+import static seedu.address.testutil.TypicalStudents.ELLE;
+import static seedu.address.testutil.TypicalStudents.getTypicalEduTrack;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class FindSimilarNameCommandTest {
+    private Model model = new ModelManager(getTypicalEduTrack(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalEduTrack(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindSimilarNameCommand findFirstCommand = new FindSimilarNameCommand(Collections.singletonList("first"));
+        FindSimilarNameCommand findSecondCommand = new FindSimilarNameCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindSimilarNameCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_misspeltKeyword_similarPersonsFoundMostSimilarFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        List<String> keywords = Arrays.asList("Meyer");
+        FindSimilarNameCommand command = new FindSimilarNameCommand(keywords);
+        expectedModel.updateFilteredStudentListBySimilarName(keywords);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = Arrays.asList("keyword");
+        FindSimilarNameCommand command = new FindSimilarNameCommand(keywords);
+        String expected = FindSimilarNameCommand.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.EduTrack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.common.Memo;
+import seedu.address.model.module.Class;
+import seedu.address.model.module.ClassName;
+import seedu.address.model.module.Schedule;
+import seedu.address.model.student.Id;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.UniqueStudentList;
+import seedu.address.testutil.StudentBuilder;
+
+public class FindStudentByIdCommandTest {
+    private static final String VALID_ID = "A0251234Z";
+
+    @Test
+    public void execute_studentInClasses_listsStudentAndClasses() {
+        Model model = new ModelManager();
+        Student amy = new StudentBuilder().withName("Amy Bee").withId(VALID_ID).build();
+        Student bob = new StudentBuilder().withName("Bob Choo").withId("A0000001B").build();
+        model.addStudent(amy);
+        model.addStudent(bob);
+        for (String className : new String[] {"cs2109", "cs2110"}) {
+            Class c = new Class(new ClassName(className), new UniqueStudentList(), new Memo(" "), new Schedule());
+            model.addClass(c);
+            model.addStudentToClass(amy, c);
+        }
+
+        Model expectedModel = new ModelManager(new EduTrack(model.getEduTrack()), new UserPrefs());
+        expectedModel.updateFilteredStudentListById(new Id(VALID_ID));
+        String expectedMessage = String.format(FindStudentByIdCommand.MESSAGE_SUCCESS, VALID_ID, 1,
+                "CS2109, CS2110");
+
+        assertCommandSuccess(new FindStudentByIdCommand(new Id(VALID_ID)), model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(amy), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_unknownId_noStudentFound() {
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+        expectedModel.updateFilteredStudentListById(new Id(VALID_ID));
+        String expectedMessage = String.format(FindStudentByIdCommand.MESSAGE_SUCCESS, VALID_ID, 0, "");
+
+        assertCommandSuccess(new FindStudentByIdCommand(new Id(VALID_ID)), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FindStudentByIdCommand findFirstCommand = new FindStudentByIdCommand(new Id(VALID_ID));
+        FindStudentByIdCommand findSecondCommand = new FindStudentByIdCommand(new Id("A0000001B"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindStudentByIdCommand(new Id(VALID_ID))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different id -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+}
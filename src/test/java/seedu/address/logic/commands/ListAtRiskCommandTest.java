@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class ListAtRiskCommandTest {
+
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void equals() {
+        ListAtRiskCommand command = new ListAtRiskCommand();
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ListAtRiskCommand()));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new ListCommand()));
+    }
+
+    @Test
+    public void execute_studentsAtRisk_listsThem() {
+        Student absent = new StudentBuilder().withCurrentLessonAttendance(false).withLessonsAttended(0).build();
+        Student present = new StudentBuilder().withName("Bob Choo").withCurrentLessonAttendance(true).build();
+        for (Model m : new Model[] {model, expectedModel}) {
+            m.addStudent(absent);
+            m.addStudent(present);
+        }
+        expectedModel.updateFilteredStudentListToAtRisk();
+        assertCommandSuccess(new ListAtRiskCommand(), model,
+                String.format(ListAtRiskCommand.MESSAGE_SUCCESS, 1), expectedModel);
+    }
+}
@@ -57,7 +57,7 @@ public class MarkAllStudentPresentCommandTest {
         Student editedStudent1 = new StudentBuilder().withName("Amy Bee")
                 .withCurrentLessonAttendance(true).withLessonsAttended(5).build();
         Student editedStudent2 = new StudentBuilder().withName("John")
-                .withCurrentLessonAttendance(true).withLessonsAttended(2).build();
+                .withCurrentLessonAttendance(true).withLessonsAttended(3).build();
         MarkAllStudentPresentCommand command = new MarkAllStudentPresentCommand(Index.fromOneBased(4));
         Model expectedModel = new ModelManager(new EduTrack(model.getEduTrack()), new UserPrefs());
         expectedModel.setStudent(model.getFilteredStudentList().get(0), editedStudent1);
@@ -0,0 +1,153 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.EduTrack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.common.Memo;
+import seedu.address.model.module.Class;
+import seedu.address.model.module.ClassName;
+import seedu.address.model.module.Schedule;
+import seedu.address.model.student.Id;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.UniqueStudentList;
+import seedu.address.testutil.ClassBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class MarkStudentPresentByIdCommandTest {
+    private static final String VALID_ID = "A0251234Z";
+    // A Thursday
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 11, 2, 15, 30);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private Model model = new ModelManager();
+
+    private Class addClassWithStudent(String className, String schedule, Student student) {
+        Class c = new ClassBuilder().withClassName(className).withSchedule(schedule).build();
+        model.addClass(c);
+        model.addStudentToClass(student, c);
+        return c;
+    }
+
+    private Class addClassWithStudent(String className, Student student) {
+        Class c = new Class(new ClassName(className), new UniqueStudentList(), new Memo(" "), new Schedule());
+        model.addClass(c);
+        model.addStudentToClass(student, c);
+        return c;
+    }
+
+    @Test
+    public void execute_studentInOneClass_marksStudentInClass() {
+        Student student = new StudentBuilder().withName("Amy Bee").withId(VALID_ID)
+                .withCurrentLessonAttendance(false).withLessonsAttended(4).build();
+        model.addStudent(student);
+        Class cs2109 = addClassWithStudent("cs2109", student);
+
+        Student markedStudent = new StudentBuilder().withName("Amy Bee").withId(VALID_ID)
+                .withCurrentLessonAttendance(true).withLessonsAttended(5).build();
+        Model expectedModel = new ModelManager(new EduTrack(model.getEduTrack()), new UserPrefs());
+        expectedModel.setStudent(student, markedStudent);
+        expectedModel.updateFilteredStudentListById(new Id(VALID_ID));
+
+        String expectedMessage = String.format(MarkStudentPresentByIdCommand.MESSAGE_MARK_STUDENT_ATTENDANCE_SUCCESS,
+                "Amy Bee");
+        assertCommandSuccess(new MarkStudentPresentByIdCommand(new Id(VALID_ID), CLOCK), model, expectedMessage,
+                expectedModel);
+        assertEquals(1, cs2109.getLessonsAttended(markedStudent));
+    }
+
+    @Test
+    public void execute_studentInClassRunningNow_marksStudentInThatClassOnly() throws Exception {
+        Student student = new StudentBuilder().withName("Amy Bee").withId(VALID_ID)
+                .withCurrentLessonAttendance(false).withLessonsAttended(4).build();
+        model.addStudent(student);
+        Class running = addClassWithStudent("cs2109", "thu, 15:00-16:00", student);
+        Class otherDay = addClassWithStudent("cs2110", "wed, 15:00-16:00", student);
+
+        new MarkStudentPresentByIdCommand(new Id(VALID_ID), CLOCK).execute(model);
+        Student markedStudent = model.getEduTrack().getStudentList().get(0);
+        assertEquals(5, markedStudent.getLessonsAttended().getTotalLessons());
+        assertEquals(1, running.getLessonsAttended(markedStudent));
+        assertEquals(0, otherDay.getAttendanceHistory().getLessonCount());
+    }
+
+    @Test
+    public void execute_noClassOrSeveralClassesRunningNow_throwsCommandException() {
+        Student student = new StudentBuilder().withName("Amy Bee").withId(VALID_ID).build();
+        model.addStudent(student);
+        String expectedMessage = String.format(MarkStudentPresentByIdCommand.MESSAGE_NOT_IN_CLASS, "Amy Bee");
+        assertCommandFailure(new MarkStudentPresentByIdCommand(new Id(VALID_ID), CLOCK), model, expectedMessage);
+
+        addClassWithStudent("cs2109", student);
+        addClassWithStudent("cs2110", student);
+        expectedMessage = String.format(MarkStudentPresentByIdCommand.MESSAGE_AMBIGUOUS_CLASS, "Amy Bee", 2);
+        assertCommandFailure(new MarkStudentPresentByIdCommand(new Id(VALID_ID), CLOCK), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_studentIsMarked_throwsCommandException() {
+        Student student = new StudentBuilder().withName("Amy Bee").withId(VALID_ID)
+                .withCurrentLessonAttendance(false).build();
+        model.addStudent(student);
+        Class cs2109 = addClassWithStudent("cs2109", student);
+        model.markStudentsAttendance(cs2109, List.of(student), true);
+
+        String expectedMessage = String.format(MarkStudentPresentByIdCommand.MESSAGE_STUDENT_ALREADY_MARKED,
+                "Amy Bee");
+        assertCommandFailure(new MarkStudentPresentByIdCommand(new Id(VALID_ID), CLOCK), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_unknownId_throwsCommandException() {
+        String expectedMessage = String.format(MarkStudentPresentByIdCommand.MESSAGE_STUDENT_NOT_FOUND, VALID_ID);
+        assertCommandFailure(new MarkStudentPresentByIdCommand(new Id(VALID_ID)), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_sharedId_throwsCommandException() {
+        model.addStudent(new StudentBuilder().withName("Amy Bee").withId(VALID_ID).build());
+        model.addStudent(new StudentBuilder().withName("Bob Choo").withId(VALID_ID).build());
+
+        String expectedMessage = String.format(MarkStudentPresentByIdCommand.MESSAGE_AMBIGUOUS_ID, 2, VALID_ID);
+        assertCommandFailure(new MarkStudentPresentByIdCommand(new Id(VALID_ID)), model, expectedMessage);
+    }
+
+    @Test
+    public void equalsMethod() {
+        MarkStudentPresentByIdCommand command1 = new MarkStudentPresentByIdCommand(new Id(VALID_ID), CLOCK);
+        MarkStudentPresentByIdCommand command2 = new MarkStudentPresentByIdCommand(new Id("A0000001B"), CLOCK);
+
+        // same instance
+        assertTrue(command1.equals(command1));
+        // null -> false
+        assertFalse(command1.equals(null));
+        // different values
+        assertFalse(command1.equals(command2));
+        assertFalse(command1.equals(new MarkStudentPresentByIdCommand(new Id(VALID_ID),
+                Clock.offset(CLOCK, Duration.ofHours(1)))));
+        // different instance but same values
+        assertTrue(command1.equals(new MarkStudentPresentByIdCommand(new Id(VALID_ID), CLOCK)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        MarkStudentPresentByIdCommand command = new MarkStudentPresentByIdCommand(new Id(VALID_ID), CLOCK);
+        String expected = MarkStudentPresentByIdCommand.class.getCanonicalName() + "{id=" + VALID_ID
+                + ", clock=" + CLOCK + "}";
+        assertEquals(expected, command.toString());
+    }
+}
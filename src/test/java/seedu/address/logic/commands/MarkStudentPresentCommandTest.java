@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -30,10 +32,11 @@ public class MarkStudentPresentCommandTest {
         Class CS2109 = new Class(new ClassName("cs2109"), new UniqueStudentList(),
                 new Memo(" "), new Schedule());
         Student studentToRemove = new StudentBuilder().withName("Amy Bee")
-                .withCurrentLessonAttendance(true).withLessonsAttended(4).build();
+                .withCurrentLessonAttendance(false).withLessonsAttended(4).build();
         model.addStudent(studentToRemove);
         model.addClass(CS2109);
         model.addStudentToClass(studentToRemove, CS2109);
+        model.markStudentsAttendance(CS2109, List.of(studentToRemove), true);
 
         ClassName className = new ClassName("CS2109");
         // Actual test
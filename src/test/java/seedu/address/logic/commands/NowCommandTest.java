@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.module.Class;
+import seedu.address.testutil.ClassBuilder;
+
+public class NowCommandTest {
+
+    // A Thursday
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 11, 2, 15, 30);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void equals() {
+        NowCommand command = new NowCommand(CLOCK);
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new NowCommand(CLOCK)));
+        assertFalse(command.equals(new NowCommand(Clock.offset(CLOCK, Duration.ofHours(1)))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new ListCommand()));
+    }
+
+    @Test
+    public void execute_classesScheduled_listsRunningClasses() {
+        Class running = new ClassBuilder().withClassName("cs2103t").withSchedule("thu, 15:00-16:00").build();
+        Class ended = new ClassBuilder().withClassName("cs2101").withSchedule("thu, 14:00-15:30").build();
+        Class otherDay = new ClassBuilder().withClassName("cs2100").withSchedule("wed, 15:00-16:00").build();
+        for (Model m : new Model[] {model, expectedModel}) {
+            m.addClass(running);
+            m.addClass(ended);
+            m.addClass(otherDay);
+        }
+        expectedModel.updateFilteredClassListToRunningAt(NOW);
+
+        assertCommandSuccess(new NowCommand(CLOCK), model, String.format(NowCommand.MESSAGE_SUCCESS, 1),
+                expectedModel);
+        assertEquals(Arrays.asList(running), model.getFilteredClassList());
+    }
+}
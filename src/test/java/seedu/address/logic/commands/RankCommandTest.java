@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CLASS;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.module.Class;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.ClassBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class RankCommandTest {
+
+    private final Student amy = new StudentBuilder().withName("Amy Bee").withLessonsAttended(4).build();
+    private final Student bob = new StudentBuilder().withName("Bob Choo").withLessonsAttended(1).build();
+    private final Student carl = new StudentBuilder().withName("Carl Kurz").withLessonsAttended(4).build();
+
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_allStudents_listsFewestLessonsAttended() {
+        for (Model m : new Model[] {model, expectedModel}) {
+            m.addStudent(amy);
+            m.addStudent(bob);
+            m.addStudent(carl);
+        }
+        String expectedMessage = String.format(RankCommand.MESSAGE_SUCCESS, "",
+                String.format(RankCommand.MESSAGE_STUDENT, 1, "Bob Choo", 1, 0.0) + "\n"
+                + String.format(RankCommand.MESSAGE_STUDENT, 2, "Amy Bee", 4, 100.0 / 3));
+        assertCommandSuccess(new RankCommand(2), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_class_listsFewestLessonsAttendedInClass() {
+        Class studentClass = new ClassBuilder().withClassName("CS1231").build();
+        for (Model m : new Model[] {model, expectedModel}) {
+            m.addStudent(amy);
+            m.addStudent(bob);
+            m.addClass(studentClass.duplicateClass());
+            Class c = m.getClassByIndex(INDEX_FIRST_CLASS);
+            m.addStudentToClass(amy, c);
+            m.addStudentToClass(bob, c);
+            m.startLesson(c);
+            m.markStudentsAttendance(c, List.of(bob), true);
+        }
+        // Ranked by the lessons of the class attended, not by the lessons attended overall
+        String expectedMessage = String.format(RankCommand.MESSAGE_SUCCESS,
+                String.format(RankCommand.MESSAGE_IN_CLASS, "CS1231"),
+                String.format(RankCommand.MESSAGE_STUDENT, 1, "Amy Bee", 0, 0.0) + "\n"
+                + String.format(RankCommand.MESSAGE_STUDENT, 2, "Bob Choo", 1, 50.0));
+        assertCommandSuccess(new RankCommand(INDEX_FIRST_CLASS, 5), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noStudents_showsNoStudents() {
+        assertCommandSuccess(new RankCommand(5), model, RankCommand.MESSAGE_NO_STUDENTS, expectedModel);
+        assertCommandFailure(new RankCommand(INDEX_FIRST_CLASS, 5), model, Messages.MESSAGE_EMPTY_CLASS_LIST);
+    }
+
+    @Test
+    public void equals() {
+        RankCommand command = new RankCommand(INDEX_FIRST_CLASS, 5);
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new RankCommand(INDEX_FIRST_CLASS, 5)));
+        assertFalse(command.equals(new RankCommand(5)));
+        assertFalse(command.equals(new RankCommand(INDEX_FIRST_CLASS, 3)));
+        assertFalse(command.equals(null));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RankCommand command = new RankCommand(3);
+        String expected = RankCommand.class.getCanonicalName() + "{classIndex=null, limit=3}";
+        assertEquals(expected, command.toString());
+    }
+}
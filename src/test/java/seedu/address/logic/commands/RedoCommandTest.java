@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_nothingToRedo_throwsCommandException() {
+        Model model = new ModelManager();
+        model.addStudent(ALICE);
+        model.commitChanges();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_stepUndone_redoesIt() {
+        Model model = new ModelManager();
+        model.addStudent(ALICE);
+        model.commitChanges();
+        model.undo();
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addStudent(ALICE);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertFalse(model.canRedo());
+    }
+
+    @Test
+    public void equals() {
+        RedoCommand redoCommand = new RedoCommand();
+
+        // same object -> returns true
+        assertTrue(redoCommand.equals(redoCommand));
+
+        // same type -> returns true
+        assertTrue(redoCommand.equals(new RedoCommand()));
+
+        // different types -> returns false
+        assertFalse(redoCommand.equals(new UndoCommand()));
+
+        // null -> returns false
+        assertFalse(redoCommand.equals(null));
+    }
+}
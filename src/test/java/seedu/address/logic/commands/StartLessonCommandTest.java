@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.EduTrack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.Class;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.ClassBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class StartLessonCommandTest {
+
+    @Test
+    public void constructor_nullClass_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StartLessonCommand(null));
+    }
+
+    @Test
+    public void execute_studentsPresent_marksThemAbsentForNewLesson() {
+        Model model = new ModelManager();
+        Class studentClass = new ClassBuilder().withClassName("CS2103").build();
+        model.addStudent(ALICE);
+        model.addStudent(BENSON);
+        model.addClass(studentClass);
+        model.addStudentToClass(ALICE, studentClass);
+        model.addStudentToClass(BENSON, studentClass);
+
+        Student newLessonAlice = new StudentBuilder(ALICE).withCurrentLessonAttendance(false).build();
+        Model expectedModel = new ModelManager(new EduTrack(model.getEduTrack()), new UserPrefs());
+        expectedModel.setStudent(ALICE, newLessonAlice);
+
+        String expectedMessage = String.format(StartLessonCommand.MESSAGE_START_LESSON_SUCCESS, 1, "CS2103");
+        assertCommandSuccess(new StartLessonCommand(Index.fromOneBased(1)), model, expectedMessage, expectedModel);
+        assertEquals(1, studentClass.getAttendanceHistory().getLessonCount());
+    }
+
+    @Test
+    public void equals() {
+        StartLessonCommand firstCommand = new StartLessonCommand(Index.fromOneBased(1));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new StartLessonCommand(Index.fromOneBased(1))));
+
+        // different values -> returns false
+        assertFalse(firstCommand.equals(new StartLessonCommand(Index.fromOneBased(2))));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.EduTrack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.Class;
+import seedu.address.testutil.ClassBuilder;
+
+public class StatsCommandTest {
+
+    @Test
+    public void constructor_nullClass_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StatsCommand(null));
+    }
+
+    @Test
+    public void execute_classWithAttendance_showsStatistics() {
+        Model model = new ModelManager();
+        Class studentClass = new ClassBuilder().withClassName("CS2103").build();
+        model.addStudent(ALICE);
+        model.addStudent(BENSON);
+        model.addClass(studentClass);
+        model.addStudentToClass(ALICE, studentClass);
+        model.addStudentToClass(BENSON, studentClass);
+        studentClass.recordAttendance(ALICE, true);
+        studentClass.getAttendanceHistory().setLessonCount(2);
+        studentClass.recordAttendance(ALICE, true);
+
+        Model expectedModel = new ModelManager(new EduTrack(model.getEduTrack()), new UserPrefs());
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, "CS2103", 2, 1, 1, 50.0,
+                "0 lessons: 1, 2 lessons: 1");
+        assertCommandSuccess(new StatsCommand(Index.fromOneBased(1)), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidClassIndex_throwsCommandException() {
+        Model model = new ModelManager();
+        model.addClass(new ClassBuilder().withClassName("CS2103").build());
+        assertCommandFailure(new StatsCommand(Index.fromOneBased(2)), model,
+                Messages.MESSAGE_INDEX_INPUT_TOO_LARGE);
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand firstCommand = new StatsCommand(Index.fromOneBased(1));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new StatsCommand(Index.fromOneBased(1))));
+
+        // different values -> returns false
+        assertFalse(firstCommand.equals(new StatsCommand(Index.fromOneBased(2))));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+    }
+}
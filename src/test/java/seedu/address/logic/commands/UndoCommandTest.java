@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class UndoCommandTest {
+
+    @Test
+    public void execute_nothingToUndo_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), new ModelManager(), UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_changesMade_undoesLastStep() {
+        Model model = new ModelManager();
+        model.addStudent(ALICE);
+        model.commitChanges();
+        model.addStudent(BENSON);
+        model.commitChanges();
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addStudent(ALICE);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertTrue(model.canRedo());
+    }
+
+    @Test
+    public void equals() {
+        UndoCommand undoCommand = new UndoCommand();
+
+        // same object -> returns true
+        assertTrue(undoCommand.equals(undoCommand));
+
+        // same type -> returns true
+        assertTrue(undoCommand.equals(new UndoCommand()));
+
+        // different types -> returns false
+        assertFalse(undoCommand.equals(new RedoCommand()));
+
+        // null -> returns false
+        assertFalse(undoCommand.equals(null));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.AttendanceCommand;
+
+public class AttendanceCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceCommand.MESSAGE_USAGE);
+
+    private AttendanceCommandParser parser = new AttendanceCommandParser();
+
+    @Test
+    public void parse_classOnly_returnsAttendanceCommandOverAllLessons() {
+        assertParseSuccess(parser, " /c 1", new AttendanceCommand(Index.fromOneBased(1), null, null));
+    }
+
+    @Test
+    public void parse_lessonRange_returnsAttendanceCommand() {
+        assertParseSuccess(parser, " /c 2 /from 3 /to 5", new AttendanceCommand(Index.fromOneBased(2), 3, 5));
+        assertParseSuccess(parser, " /c 2 /to 5", new AttendanceCommand(Index.fromOneBased(2), null, 5));
+    }
+
+    @Test
+    public void parse_recentLessons_returnsAttendanceCommand() {
+        assertParseSuccess(parser, " /c 1 /last 4", new AttendanceCommand(Index.fromOneBased(1), 4));
+    }
+
+    @Test
+    public void parse_recentLessonsWithRange_throwsParseException() {
+        assertParseFailure(parser, " /c 1 /last 4 /from 2", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_missingClass_throwsParseException() {
+        assertParseFailure(parser, " /from 1 /to 2", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidLesson_throwsParseException() {
+        assertParseFailure(parser, " /c 1 /from 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " /c 1 /last two", MESSAGE_INVALID_FORMAT);
+    }
+}
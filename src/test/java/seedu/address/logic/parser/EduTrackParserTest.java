@@ -6,21 +6,36 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddClassCommand;
+import seedu.address.logic.commands.AttendanceCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindMemoCommand;
+import seedu.address.logic.commands.FindSimilarNameCommand;
+import seedu.address.logic.commands.FindStudentByIdCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListAtRiskCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MarkStudentPresentByIdCommand;
+import seedu.address.logic.commands.NowCommand;
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemoveClassCommand;
+import seedu.address.logic.commands.StartLessonCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.common.Memo;
 import seedu.address.model.module.Class;
 import seedu.address.model.module.ClassName;
 import seedu.address.model.module.Schedule;
+import seedu.address.model.student.Id;
 import seedu.address.model.student.UniqueStudentList;
 
 public class EduTrackParserTest {
@@ -57,6 +72,49 @@ public class EduTrackParserTest {
     //        assertEquals(new EditCommand(INDEX_FIRST_PERSON, descriptor), command);
     //    }
 
+    @Test
+    public void parseCommand_markById() throws Exception {
+        MarkStudentPresentByIdCommand command =
+                (MarkStudentPresentByIdCommand) parser.parseCommand("mark /id A0251234Z");
+        assertEquals(new MarkStudentPresentByIdCommand(new Id("A0251234Z")), command);
+    }
+
+    @Test
+    public void parseCommand_startLesson() throws Exception {
+        StartLessonCommand command = (StartLessonCommand) parser.parseCommand("lesson /c 1");
+        assertEquals(new StartLessonCommand(Index.fromOneBased(1)), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        StatsCommand command = (StatsCommand) parser.parseCommand("stats /c 1");
+        assertEquals(new StatsCommand(Index.fromOneBased(1)), command);
+    }
+
+    @Test
+    public void parseCommand_attendance() throws Exception {
+        AttendanceCommand command = (AttendanceCommand) parser.parseCommand("attendance /c 1 /from 3 /to 5");
+        assertEquals(new AttendanceCommand(Index.fromOneBased(1), 3, 5), command);
+    }
+
+    @Test
+    public void parseCommand_findById() throws Exception {
+        FindStudentByIdCommand command = (FindStudentByIdCommand) parser.parseCommand("find /id A0251234Z");
+        assertEquals(new FindStudentByIdCommand(new Id("A0251234Z")), command);
+    }
+
+    @Test
+    public void parseCommand_findMemo() throws Exception {
+        FindMemoCommand command = (FindMemoCommand) parser.parseCommand("find /m extra help");
+        assertEquals(new FindMemoCommand(Arrays.asList("extra", "help")), command);
+    }
+
+    @Test
+    public void parseCommand_findSimilarName() throws Exception {
+        FindSimilarNameCommand command = (FindSimilarNameCommand) parser.parseCommand("find ~alise bensen");
+        assertEquals(new FindSimilarNameCommand(Arrays.asList("alise", "bensen")), command);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -83,6 +141,29 @@ public class EduTrackParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_listAtRisk() throws Exception {
+        assertTrue(parser.parseCommand(ListAtRiskCommand.COMMAND_WORD) instanceof ListAtRiskCommand);
+    }
+
+    @Test
+    public void parseCommand_rank() throws Exception {
+        assertEquals(new RankCommand(3), parser.parseCommand(RankCommand.COMMAND_WORD + " /top 3"));
+        assertEquals(new RankCommand(Index.fromOneBased(2), RankCommand.DEFAULT_LIMIT),
+                parser.parseCommand(RankCommand.CLASS_COMMAND_WORD + " 2"));
+    }
+
+    @Test
+    public void parseCommand_now() throws Exception {
+        assertTrue(parser.parseCommand(NowCommand.COMMAND_WORD) instanceof NowCommand);
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_removeClass() throws Exception {
         RemoveClassCommand command = (RemoveClassCommand) parser.parseCommand("remove /c 1");
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindMemoCommand;
+
+public class FindMemoCommandParserTest {
+
+    private FindMemoCommandParser parser = new FindMemoCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindMemoCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " extra help", expectedMessage);
+        assertParseFailure(parser, " /m  ", expectedMessage);
+        assertParseFailure(parser, " preamble /m extra", expectedMessage);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindMemoCommand() {
+        FindMemoCommand expectedCommand = new FindMemoCommand(Arrays.asList("extra", "help"));
+        assertParseSuccess(parser, " /m extra help", expectedCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " /m \n extra \t help  ", expectedCommand);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindSimilarNameCommand;
+
+public class FindSimilarNameCommandParserTest {
+
+    private FindSimilarNameCommandParser parser = new FindSimilarNameCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSimilarNameCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " ~ ", expectedMessage);
+        assertParseFailure(parser, "Alice ~Bob", expectedMessage);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindSimilarNameCommand() {
+        FindSimilarNameCommand expectedCommand = new FindSimilarNameCommand(Arrays.asList("Alise", "Bobb"));
+        assertParseSuccess(parser, "~Alise Bobb", expectedCommand);
+
+        // marked keywords, repeated keywords and multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n ~Alise \n \t ~Bobb  Alise \t", expectedCommand);
+    }
+
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindStudentByIdCommand;
+import seedu.address.model.student.Id;
+
+public class FindStudentByIdCommandParserTest {
+    private FindStudentByIdCommandParser parser = new FindStudentByIdCommandParser();
+
+    @Test
+    public void parse_validArgs_returnFindStudentByIdCommand() {
+        FindStudentByIdCommand expectedCommand = new FindStudentByIdCommand(new Id("A0251234Z"));
+        assertParseSuccess(parser, " /id A0251234Z", expectedCommand);
+    }
+
+    @Test
+    public void parse_missingPrefix_throwsParseException() {
+        assertParseFailure(parser, "A0251234Z",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindStudentByIdCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidId_throwsParseException() {
+        assertParseFailure(parser, " /id 0251234", Id.MESSAGE_CONSTRAINTS);
+    }
+}
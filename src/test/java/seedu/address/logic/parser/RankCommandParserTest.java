@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CLASS;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RankCommand;
+
+public class RankCommandParserTest {
+
+    private RankCommandParser parser = new RankCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRankCommand() {
+        assertParseSuccess(parser, " /s ", new RankCommand(RankCommand.DEFAULT_LIMIT));
+        assertParseSuccess(parser, " /s /top 5", new RankCommand(5));
+        assertParseSuccess(parser, " /c 1", new RankCommand(INDEX_FIRST_CLASS, RankCommand.DEFAULT_LIMIT));
+        assertParseSuccess(parser, " /c 1 /top 3", new RankCommand(INDEX_FIRST_CLASS, 3));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RankCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " /top 3", expectedMessage);
+        assertParseFailure(parser, " /s 1", expectedMessage);
+        assertParseFailure(parser, " /s /c 1", expectedMessage);
+        assertParseFailure(parser, " /c a", expectedMessage);
+        assertParseFailure(parser, " /c 1 /top 0", expectedMessage);
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.StartLessonCommand;
+
+public class StartLessonCommandParserTest {
+    private StartLessonCommandParser parser = new StartLessonCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsStartLessonCommand() {
+        assertParseSuccess(parser, " /c 1", new StartLessonCommand(Index.fromOneBased(1)));
+    }
+
+    @Test
+    public void parse_nonIndexArg_throwsParseException() {
+        assertParseFailure(parser, " /c cs2102",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StartLessonCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_wrongIdentifier_throwsParseException() {
+        assertParseFailure(parser, " /s 1",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StartLessonCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.StatsCommand;
+
+public class StatsCommandParserTest {
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsStatsCommand() {
+        assertParseSuccess(parser, " /c 1", new StatsCommand(Index.fromOneBased(1)));
+    }
+
+    @Test
+    public void parse_nonIndexArg_throwsParseException() {
+        assertParseFailure(parser, " /c cs2102",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_wrongIdentifier_throwsParseException() {
+        assertParseFailure(parser, " /s 1",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
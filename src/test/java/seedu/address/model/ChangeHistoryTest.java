@@ -0,0 +1,119 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ChangeHistoryTest {
+
+    private final ChangeHistory history = new ChangeHistory();
+    private final List<String> log = new ArrayList<>();
+
+    @Test
+    public void undo_noChanges_throwsIllegalStateException() {
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, history::undo);
+    }
+
+    @Test
+    public void redo_noUndoneStep_throwsIllegalStateException() {
+        record("a");
+        history.commit();
+        assertFalse(history.canRedo());
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    @Test
+    public void undoRedo_step_undoesInReverseAndRedoesInOrder() {
+        record("a");
+        record("b");
+        history.commit();
+        record("c");
+        history.commit();
+
+        history.undo();
+        history.undo();
+        assertEquals(List.of("undo c", "undo b", "undo a"), log);
+        assertFalse(history.canUndo());
+
+        log.clear();
+        history.redo();
+        assertEquals(List.of("redo a", "redo b"), log);
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void undo_pendingChanges_undoesThemAsOneStep() {
+        record("a");
+        record("b");
+        assertTrue(history.canUndo());
+        history.undo();
+        assertEquals(List.of("undo b", "undo a"), log);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_noChanges_keepsStepsToRedo() {
+        record("a");
+        history.commit();
+        history.undo();
+        history.commit();
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void commit_newChanges_forgetsStepsToRedo() {
+        record("a");
+        history.commit();
+        history.undo();
+        record("b");
+        assertFalse(history.canRedo());
+        history.commit();
+        assertFalse(history.canRedo());
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    @Test
+    public void discard_pendingChanges_undoesAndForgetsThem() {
+        record("a");
+        history.commit();
+        record("b");
+        record("c");
+        assertTrue(history.discard());
+        assertEquals(List.of("undo c", "undo b"), log);
+        assertFalse(history.discard());
+
+        log.clear();
+        history.undo();
+        assertEquals(List.of("undo a"), log);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_tooManySteps_forgetsOldestStep() {
+        ChangeHistory shortHistory = new ChangeHistory(2);
+        for (String change : List.of("a", "b", "c")) {
+            shortHistory.record(() -> log.add("undo " + change), () -> log.add("redo " + change));
+            shortHistory.commit();
+        }
+        shortHistory.undo();
+        shortHistory.undo();
+        assertFalse(shortHistory.canUndo());
+        assertEquals(List.of("undo c", "undo b"), log);
+    }
+
+    @Test
+    public void constructor_nonPositiveMaxSteps_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeHistory(0));
+    }
+
+    private void record(String change) {
+        history.record(() -> log.add("undo " + change), () -> log.add("redo " + change));
+    }
+}
@@ -2,25 +2,35 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BOB;
 import static seedu.address.testutil.TypicalStudents.getTypicalEduTrack;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.common.Memo;
 import seedu.address.model.module.Class;
 import seedu.address.model.module.ClassName;
+import seedu.address.model.module.Schedule;
 import seedu.address.model.module.exceptions.ClassNotFoundException;
+import seedu.address.model.student.Id;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.UniqueStudentList;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.testutil.StudentBuilder;
 
@@ -128,6 +138,170 @@ public class EduTrackTest {
         assertThrows(ClassNotFoundException.class, () -> eduTrack.getClass(classNameStub));
     }
 
+    @Test
+    public void getStudentsById_studentEdited_followsEdit() {
+        Student amy = new StudentBuilder().withName("Amy Bee").withId("A0251234Z").build();
+        Student editedAmy = new StudentBuilder(amy).withId("A0251235Z").build();
+        eduTrack.addStudent(amy);
+        eduTrack.setStudent(amy, editedAmy);
+        assertEquals(Collections.emptyList(), eduTrack.getStudentsById(new Id("A0251234Z")));
+        assertEquals(Collections.singletonList(editedAmy), eduTrack.getStudentsById(new Id("A0251235Z")));
+    }
+
+    @Test
+    public void getClassesById_classMembershipChanges_followsMembership() {
+        Student amy = new StudentBuilder().withName("Amy Bee").withId("A0251234Z").build();
+        Class c = new Class(new ClassName("cs2109"), new UniqueStudentList(), new Memo(" "), new Schedule());
+        eduTrack.addStudent(amy);
+        eduTrack.addClass(c);
+        eduTrack.addStudentToClass(amy, c);
+        assertEquals(Collections.singletonList(c), eduTrack.getClassesById(new Id("A0251234Z")));
+
+        eduTrack.removeClass(c);
+        assertEquals(Collections.emptyList(), eduTrack.getClassesById(new Id("A0251234Z")));
+    }
+
+    @Test
+    public void getStudentsByName_studentsChanged_followsChanges() {
+        Student amy = new StudentBuilder().withName("Amy Bee").withId("A0251234Z").build();
+        Student amyTan = new StudentBuilder().withName("Amy Tan").withId("A0251235Z").build();
+        Student renamedAmy = new StudentBuilder(amy).withName("Bee Lim").build();
+        List<String> keywords = Arrays.asList("AMY", "lim");
+
+        eduTrack.addStudent(amy);
+        eduTrack.addStudent(amyTan);
+        assertEquals(Set.of(amy, amyTan), eduTrack.getStudentsByName(keywords));
+
+        eduTrack.setStudent(amy, renamedAmy);
+        assertEquals(Set.of(renamedAmy, amyTan), eduTrack.getStudentsByName(keywords));
+
+        eduTrack.removeStudent(amyTan);
+        assertEquals(Set.of(renamedAmy), eduTrack.getStudentsByName(keywords));
+        assertEquals(Set.of(), eduTrack.getStudentsByName(Arrays.asList("tan")));
+    }
+
+    @Test
+    public void getStudentsByName_prefixKeyword_matchesWordsWithPrefix() {
+        Student amy = new StudentBuilder().withName("Amy Bee").withId("A0251234Z").build();
+        eduTrack.addStudent(amy);
+        assertEquals(Set.of(amy), eduTrack.getStudentsByName(Arrays.asList("b*")));
+        assertEquals(Set.of(), eduTrack.getStudentsByName(Arrays.asList("my*")));
+        assertEquals(Arrays.asList("Amy"), eduTrack.getNameWordsWithPrefix("AM", 10));
+
+        Student bob = new StudentBuilder().withName("Bob Tan").withId("A0251235Z").build();
+        Student renamedAmy = new StudentBuilder(amy).withName("Amy Lim").build();
+        eduTrack.addStudent(bob);
+        assertEquals(Set.of(amy, bob), eduTrack.getStudentsByName(Arrays.asList("B*")));
+        eduTrack.setStudent(amy, renamedAmy);
+        assertEquals(Set.of(bob), eduTrack.getStudentsByName(Arrays.asList("b*")));
+        assertEquals(Set.of(renamedAmy, bob), eduTrack.getStudentsByName(Arrays.asList("li*", "bo*")));
+        eduTrack.removeStudent(bob);
+        assertEquals(Set.of(renamedAmy), eduTrack.getStudentsByName(Arrays.asList("*")));
+    }
+
+    @Test
+    public void nameContainsAny_studentNotInEduTrack_testsName() {
+        Student amy = new StudentBuilder().withName("Amy Bee").withId("A0251234Z").build();
+        assertTrue(eduTrack.nameContainsAny(Arrays.asList("AMY", "lim")).test(amy));
+        assertTrue(eduTrack.nameContainsAny(Arrays.asList("b*")).test(amy));
+        assertFalse(eduTrack.nameContainsAny(Arrays.asList("my*")).test(amy));
+        assertFalse(eduTrack.nameContainsAny(Arrays.asList("tan")).test(amy));
+    }
+
+    @Test
+    public void getSimilarStudents_misspeltKeyword_returnsSimilarStudentsOnly() {
+        Student amy = new StudentBuilder().withName("Amy Bee").withId("A0251234Z").build();
+        Student alice = new StudentBuilder().withName("Alice Tan").withId("A0251235Z").build();
+        eduTrack.addStudent(amy);
+        eduTrack.addStudent(alice);
+
+        Map<Student, Double> similarStudents = eduTrack.getSimilarStudents(Arrays.asList("alise"));
+        assertEquals(Collections.singleton(alice), similarStudents.keySet());
+        assertTrue(similarStudents.get(alice) < 1);
+        assertEquals(similarStudents.get(alice), eduTrack.getNameSimilarity(alice, Arrays.asList("alise")));
+        assertEquals(0.0, eduTrack.getNameSimilarity(amy, Arrays.asList("alise")));
+        assertEquals(1.0, eduTrack.getSimilarStudents(Arrays.asList("TAN")).get(alice));
+
+        eduTrack.removeStudent(alice);
+        assertTrue(eduTrack.getSimilarStudents(Arrays.asList("alise")).isEmpty());
+    }
+
+    @Test
+    public void getStudentsByMemo_studentsChanged_followsChanges() {
+        Student amy = new StudentBuilder().withName("Amy Bee").withId("A0251234Z")
+                .withMemo("Needs extra help, lab 3 incomplete.").build();
+        Student editedAmy = new StudentBuilder(amy).withMemo("Lab 3 done.").build();
+        List<String> keywords = Arrays.asList("LAB", "incomplete");
+
+        eduTrack.addStudent(amy);
+        eduTrack.addStudent(BOB);
+        assertEquals(Set.of(amy), eduTrack.getStudentsByMemo(keywords));
+        assertTrue(eduTrack.getStudentsByMemo(Arrays.asList("lab", "done")).isEmpty());
+        assertTrue(eduTrack.getStudentsByMemo(Arrays.asList("...")).isEmpty());
+
+        eduTrack.setStudent(amy, editedAmy);
+        assertTrue(eduTrack.getStudentsByMemo(keywords).isEmpty());
+        assertEquals(Set.of(editedAmy), eduTrack.getStudentsByMemo(Arrays.asList("lab", "done")));
+
+        eduTrack.removeStudent(editedAmy);
+        assertTrue(eduTrack.getStudentsByMemo(Arrays.asList("lab", "done")).isEmpty());
+    }
+
+    @Test
+    public void studentMemoContainsAll_testsMemoOfStudent() {
+        Student amy = new StudentBuilder().withName("Amy Bee").withId("A0251234Z")
+                .withMemo("Needs extra help, lab 3 incomplete.").build();
+        Predicate<Student> predicate = eduTrack.studentMemoContainsAll(Arrays.asList("LAB", "incomplete"));
+
+        // Not in EduTrack
+        assertTrue(predicate.test(amy));
+        assertFalse(predicate.test(new StudentBuilder(amy).withMemo("Lab 3 done.").build()));
+        assertFalse(eduTrack.studentMemoContainsAll(Arrays.asList("...")).test(amy));
+    }
+
+    @Test
+    public void getClassesByMemo_classesChanged_followsChanges() {
+        Class c = new Class(new ClassName("cs2109"), new UniqueStudentList(), new Memo("Tutorial in COM1"),
+                new Schedule());
+        Class editedClass = new Class(new ClassName("cs2109"), new UniqueStudentList(), new Memo("Lab in COM1"),
+                new Schedule());
+        Class noMemo = new Class(new ClassName("cs2100"), new UniqueStudentList(), null, new Schedule());
+        Predicate<Class> predicate = eduTrack.classMemoContainsAll(Arrays.asList("com1"));
+
+        eduTrack.addClass(c);
+        eduTrack.addClass(noMemo);
+        assertEquals(Set.of(c), eduTrack.getClassesByMemo(Arrays.asList("tutorial", "com1")));
+        assertTrue(predicate.test(c));
+        assertFalse(predicate.test(noMemo));
+
+        // Same name, so the edited class replaces the class in the index
+        eduTrack.setClass(Index.fromZeroBased(0), editedClass);
+        assertTrue(eduTrack.getClassesByMemo(Arrays.asList("tutorial")).isEmpty());
+        assertSame(editedClass, eduTrack.getClassesByMemo(Arrays.asList("com1")).iterator().next());
+
+        eduTrack.removeClass(editedClass);
+        assertTrue(eduTrack.getClassesByMemo(Arrays.asList("com1")).isEmpty());
+    }
+
+    @Test
+    public void getClassNamesWithPrefix_classesChanged_followsChanges() {
+        Class c = new Class(new ClassName("cs2109"), new UniqueStudentList(), new Memo(" "), new Schedule());
+        eduTrack.addClass(c);
+        eduTrack.addClass(new Class(new ClassName("cs2100"), new UniqueStudentList(), new Memo(" "), new Schedule()));
+        assertEquals(Arrays.asList("CS2100", "CS2109"), eduTrack.getClassNamesWithPrefix("cs21", 10));
+
+        eduTrack.removeClass(c);
+        assertEquals(Arrays.asList("CS2100"), eduTrack.getClassNamesWithPrefix("cs21", 10));
+    }
+
+    @Test
+    public void addStudent_duplicateStudent_nameIndexUnchanged() {
+        eduTrack.addStudent(ALICE);
+        assertThrows(DuplicateStudentException.class, () -> eduTrack.addStudent(ALICE));
+        eduTrack.removeStudent(ALICE);
+        assertTrue(eduTrack.getStudentsByName(Arrays.asList("alice")).isEmpty());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface
      * constraints.
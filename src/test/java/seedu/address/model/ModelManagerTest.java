@@ -10,10 +10,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClasses.CS2102;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -24,9 +27,14 @@ import seedu.address.model.common.Memo;
 import seedu.address.model.module.Class;
 import seedu.address.model.module.ClassName;
 import seedu.address.model.module.Schedule;
+import seedu.address.model.student.AtRiskPredicate;
+import seedu.address.model.student.IdMatchesPredicate;
 import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.student.Student;
 import seedu.address.model.student.UniqueStudentList;
+import seedu.address.testutil.ClassBuilder;
 import seedu.address.testutil.EduTrackBuilder;
+import seedu.address.testutil.StudentBuilder;
 
 public class ModelManagerTest {
 
@@ -169,6 +177,441 @@ public class ModelManagerTest {
         assertEquals(modelManager.getFilteredClassList().size(), 1);
     }
 
+    @Test
+    public void updateFilteredStudentListToClass_nullClass_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.updateFilteredStudentListToClass(null));
+    }
+
+    @Test
+    public void updateFilteredStudentListToClass_classMembershipChanges_followsClass() {
+        Class studentClass = new ClassBuilder().withClassName("CS1231").build();
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.addClass(studentClass);
+
+        modelManager.updateFilteredStudentListToClass(studentClass);
+        assertTrue(modelManager.getFilteredStudentList().isEmpty());
+
+        modelManager.addStudentToClass(BENSON, studentClass);
+        modelManager.addStudentToClass(ALICE, studentClass);
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredStudentList());
+
+        modelManager.deleteStudentFromClass(BENSON, studentClass);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredStudentList());
+
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void updateFilteredStudentListById_studentsChanged_followsChanges() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.updateFilteredStudentListById(ALICE.getId());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredStudentList());
+
+        Student bensonWithAliceId = new StudentBuilder(BENSON).withId(ALICE.getId().toString()).build();
+        modelManager.setStudent(BENSON, bensonWithAliceId);
+        assertEquals(Arrays.asList(ALICE, bensonWithAliceId), modelManager.getFilteredStudentList());
+
+        Student editedAlice = new StudentBuilder(ALICE).withId("A0000000Z").build();
+        modelManager.setStudent(ALICE, editedAlice);
+        assertEquals(Arrays.asList(bensonWithAliceId), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void updateFilteredStudentListByName_studentsChanged_followsChanges() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.updateFilteredStudentListByName(Arrays.asList("alice", "Kurz"));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredStudentList());
+
+        modelManager.addStudent(CARL);
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredStudentList());
+
+        Student editedAlice = new StudentBuilder(ALICE).withMemo("Edited").build();
+        modelManager.setStudent(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, CARL), modelManager.getFilteredStudentList());
+
+        // Renamed to match, in the place of the student in EduTrack
+        Student renamedBenson = new StudentBuilder(BENSON).withName("Benson Kurz").build();
+        modelManager.setStudent(BENSON, renamedBenson);
+        assertEquals(Arrays.asList(editedAlice, renamedBenson, CARL), modelManager.getFilteredStudentList());
+
+        modelManager.deleteStudent(CARL);
+        assertEquals(Arrays.asList(editedAlice, renamedBenson), modelManager.getFilteredStudentList());
+
+        modelManager.setEduTrack(new EduTrackBuilder().withPerson(CARL).withPerson(ALICE).build());
+        assertEquals(Arrays.asList(CARL, ALICE), modelManager.getFilteredStudentList());
+
+        modelManager.updateFilteredStudentListByName(Arrays.asList("al*", "k*"));
+        assertEquals(Arrays.asList(CARL, ALICE), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void updateFilteredListsByMemo_dataChanged_followsChanges() {
+        Student alice = new StudentBuilder(ALICE).withMemo("Lab 3 incomplete").build();
+        Class cs2101 = new ClassBuilder().withClassName("CS2101").withMemo("Lab in COM1").build();
+        modelManager.addStudent(alice);
+        modelManager.addStudent(BENSON);
+        modelManager.addClass(cs2101);
+        modelManager.addClass(new ClassBuilder().withClassName("CS2103").withMemo("Tutorial").build());
+        modelManager.updateFilteredListsByMemo(Arrays.asList("lab"));
+        assertEquals(Arrays.asList(alice), modelManager.getFilteredStudentList());
+        assertEquals(Arrays.asList(cs2101), modelManager.getFilteredClassList());
+
+        Student benson = new StudentBuilder(BENSON).withMemo("lab").build();
+        modelManager.setStudent(BENSON, benson);
+        Class editedClass = new ClassBuilder().withClassName("CS2101").withMemo("Tutorial").build();
+        modelManager.setClass(cs2101, editedClass);
+        assertEquals(Arrays.asList(alice, benson), modelManager.getFilteredStudentList());
+        assertTrue(modelManager.getFilteredClassList().isEmpty());
+
+        modelManager.updateFilteredClassList(PREDICATE_SHOW_ALL_CLASSES);
+        assertEquals(2, modelManager.getFilteredClassList().size());
+    }
+
+    @Test
+    public void updateFilteredClassListToRunningAt_classesChanged_followsChanges() {
+        LocalDateTime thursdayAfternoon = LocalDateTime.of(2023, 11, 2, 15, 30);
+        Class cs2101 = new ClassBuilder().withClassName("CS2101").withSchedule("thu, 15:00-16:00").build();
+        Class cs2103 = new ClassBuilder().withClassName("CS2103").withSchedule("thu, 16:00-17:00").build();
+        modelManager.addClass(cs2103);
+        modelManager.addClass(cs2101);
+        modelManager.updateFilteredClassListToRunningAt(thursdayAfternoon);
+        assertEquals(Arrays.asList(cs2101), modelManager.getFilteredClassList());
+
+        Class editedCs2103 = new ClassBuilder().withClassName("CS2103").withSchedule("thu, 14:00-17:00").build();
+        modelManager.setClass(cs2103, editedCs2103);
+        assertEquals(Arrays.asList(editedCs2103, cs2101), modelManager.getFilteredClassList());
+
+        modelManager.removeClass(cs2101);
+        assertEquals(Arrays.asList(editedCs2103), modelManager.getFilteredClassList());
+    }
+
+    @Test
+    public void updateFilteredStudentListBySimilarName_studentsChanged_mostSimilarFirst() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(CARL);
+        modelManager.updateFilteredStudentListBySimilarName(Arrays.asList("kurtz"));
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredStudentList());
+
+        Student kurtz = new StudentBuilder().withName("Kurtz Lee").withId("A0251234Z").build();
+        modelManager.addStudent(kurtz);
+        modelManager.addStudent(BENSON);
+        assertEquals(Arrays.asList(kurtz, CARL), modelManager.getFilteredStudentList());
+
+        modelManager.deleteStudent(kurtz);
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void updateFilteredStudentListToAtRisk_attendanceChanges_followsChanges() {
+        Student absentAmy = new StudentBuilder().withName("Amy Bee").withCurrentLessonAttendance(false)
+                .withLessonsAttended(0).build();
+        Student absentBob = new StudentBuilder().withName("Bob Choo").withCurrentLessonAttendance(false)
+                .withLessonsAttended(AtRiskPredicate.MIN_LESSONS_ATTENDED).build();
+        Class studentClass = new ClassBuilder().withClassName("CS1231").build();
+        modelManager.addStudent(absentAmy);
+        modelManager.addStudent(absentBob);
+        modelManager.addClass(studentClass);
+        modelManager.addStudentToClass(absentAmy, studentClass);
+
+        modelManager.updateFilteredStudentListToAtRisk();
+        assertEquals(Arrays.asList(absentAmy), modelManager.getFilteredStudentList());
+
+        modelManager.markStudentsAttendance(studentClass, List.of(absentAmy), true);
+        assertTrue(modelManager.getFilteredStudentList().isEmpty());
+
+        Student absentCarl = new StudentBuilder().withName("Carl Kurz").withCurrentLessonAttendance(false)
+                .withLessonsAttended(1).build();
+        modelManager.addStudent(absentCarl);
+        assertEquals(Arrays.asList(absentCarl), modelManager.getFilteredStudentList());
+
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(3, modelManager.getFilteredStudentList().size());
+    }
+
+    @Test
+    public void updateFilteredStudentList_equalPredicate_studentsNotTestedAgain() {
+        modelManager.addStudent(ALICE);
+        modelManager.updateFilteredStudentList(new IdMatchesPredicate(ALICE.getId()));
+        modelManager.updateFilteredStudentListToClass(CS2102);
+
+        int[] tests = new int[1];
+        modelManager.updateFilteredStudentList(new IdMatchesPredicate(ALICE.getId()) {
+            @Override
+            public boolean test(Student student) {
+                tests[0]++;
+                return super.test(student);
+            }
+        });
+        assertEquals(0, tests[0]);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void completeWord_classesAndStudents_completesAsFarAsAllAgree() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.addClass(new ClassBuilder().withClassName("BE1101").build());
+        assertEquals("BE", modelManager.completeWord("b"));
+        assertEquals("BE1101 ", modelManager.completeWord("be1"));
+        assertEquals("Benson ", modelManager.completeWord("ben"));
+        assertEquals("x", modelManager.completeWord("x"));
+    }
+
+    @Test
+    public void completeWord_moreThanTenCompletions_completesAsFarAsAllAgree() {
+        for (int i = 0; i < 11; i++) {
+            modelManager.addStudent(new StudentBuilder().withName("Alexander" + (char) ('a' + i))
+                    .withId(String.format("A00000%02dZ", i)).build());
+        }
+        assertEquals("Alexander", modelManager.completeWord("al"));
+
+        modelManager.addStudent(new StudentBuilder().withName("Alfred").withId("A0000011Z").build());
+        assertEquals("Al", modelManager.completeWord("al"));
+        assertEquals("Alfred ", modelManager.completeWord("alf"));
+    }
+
+    @Test
+    public void markStudentsAttendance_someAlreadyMarked_marksOthersInEduTrackAndClass() {
+        Class studentClass = new ClassBuilder().withClassName("CS1231").build();
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.addClass(studentClass);
+        modelManager.addStudentToClass(ALICE, studentClass);
+        modelManager.addStudentToClass(BENSON, studentClass);
+        assertEquals(1, modelManager.markStudentsAttendance(studentClass, List.of(ALICE), true));
+        Student markedAlice = new StudentBuilder(ALICE).withLessonsAttended(6).build();
+
+        assertEquals(1, modelManager.markStudentsAttendance(studentClass, studentClass.getStudentList(), true));
+        Student markedBenson = new StudentBuilder(BENSON).withCurrentLessonAttendance(true)
+                .withLessonsAttended(6).build();
+        assertEquals(Arrays.asList(markedAlice, markedBenson), studentClass.getStudentList());
+        assertEquals(Arrays.asList(markedAlice, markedBenson), modelManager.getEduTrack().getStudentList());
+        assertEquals(2, studentClass.getPresentCount());
+
+        // Marking no student again records no change
+        long modificationCount = modelManager.getModificationCount();
+        assertEquals(0, modelManager.markStudentsAttendance(studentClass, studentClass.getStudentList(), true));
+        assertEquals(modificationCount, modelManager.getModificationCount());
+    }
+
+    @Test
+    public void markStudentsAttendance_absentBeforeFirstLesson_recordsNothing() {
+        Class studentClass = new ClassBuilder().withClassName("CS1231").build();
+        modelManager.addStudent(ALICE);
+        modelManager.addClass(studentClass);
+        modelManager.addStudentToClass(ALICE, studentClass);
+        long modificationCount = modelManager.getModificationCount();
+
+        assertEquals(0, modelManager.markStudentsAttendance(studentClass, List.of(ALICE), false));
+        assertEquals(0, studentClass.getAttendanceHistory().getLessonCount());
+        assertEquals(List.of(ALICE), modelManager.getEduTrack().getStudentList());
+        assertEquals(modificationCount, modelManager.getModificationCount());
+    }
+
+    @Test
+    public void markStudentsAttendance_presentInOtherClass_marksInEachClass() {
+        Class cs2103 = new ClassBuilder().withClassName("CS2103").build();
+        Class cs2101 = new ClassBuilder().withClassName("CS2101").build();
+        modelManager.addStudent(BENSON);
+        modelManager.addClass(cs2103);
+        modelManager.addClass(cs2101);
+        modelManager.addStudentToClass(BENSON, cs2103);
+        modelManager.addStudentToClass(BENSON, cs2101);
+
+        assertEquals(1, modelManager.markStudentsAttendance(cs2103, List.of(BENSON), true));
+        assertEquals(1, modelManager.markStudentsAttendance(cs2101, cs2101.getStudentList(), true));
+        Student benson = modelManager.getEduTrack().getStudentList().get(0);
+        assertEquals(new StudentBuilder(BENSON).withCurrentLessonAttendance(true).withLessonsAttended(7).build(),
+                benson);
+        assertEquals(1, cs2103.getLessonsAttended(benson));
+        assertEquals(1, cs2101.getLessonsAttended(benson));
+
+        // Still present in the current lesson of CS2103
+        assertEquals(1, modelManager.markStudentsAttendance(cs2101, cs2101.getStudentList(), false));
+        modelManager.startLesson(cs2101);
+        benson = modelManager.getEduTrack().getStudentList().get(0);
+        assertEquals(new StudentBuilder(BENSON).withCurrentLessonAttendance(true).withLessonsAttended(6).build(),
+                benson);
+
+        modelManager.startLesson(cs2103);
+        assertFalse(modelManager.getEduTrack().getStudentList().get(0).getCurrentAttendance().getIsPresent());
+    }
+
+    @Test
+    public void undo_deleteStudent_restoresStudentInPlace() {
+        Class cs2103 = new ClassBuilder().withClassName("CS2103").build();
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.addStudent(CARL);
+        modelManager.addClass(cs2103);
+        modelManager.addStudentToClass(BENSON, cs2103);
+        modelManager.addStudentToClass(CARL, cs2103);
+        modelManager.markStudentsAttendance(cs2103, List.of(BENSON), true);
+        Student presentBenson = cs2103.getStudentList().get(0);
+        modelManager.commitChanges();
+
+        modelManager.deleteStudent(presentBenson);
+        modelManager.commitChanges();
+        modelManager.undo();
+        assertEquals(List.of(ALICE, presentBenson, CARL), modelManager.getEduTrack().getStudentList());
+        assertEquals(List.of(presentBenson, CARL), cs2103.getStudentList());
+        assertEquals(1, cs2103.getLessonsAttended(presentBenson));
+        assertEquals(1, cs2103.getPresentCount());
+
+        modelManager.redo();
+        assertEquals(List.of(ALICE, CARL), modelManager.getEduTrack().getStudentList());
+        assertEquals(List.of(CARL), cs2103.getStudentList());
+        assertEquals(0, cs2103.getPresentCount());
+    }
+
+    @Test
+    public void undo_markAttendanceBeforeFirstLesson_removesLesson() {
+        Class cs2103 = new ClassBuilder().withClassName("CS2103").build();
+        modelManager.addStudent(ALICE);
+        modelManager.addClass(cs2103);
+        modelManager.addStudentToClass(ALICE, cs2103);
+        modelManager.commitChanges();
+
+        modelManager.markStudentsAttendance(cs2103, List.of(ALICE), true);
+        modelManager.commitChanges();
+        modelManager.undo();
+        assertEquals(List.of(ALICE), modelManager.getEduTrack().getStudentList());
+        assertEquals(0, cs2103.getAttendanceHistory().getLessonCount());
+        assertEquals(0, cs2103.getLessonsAttended(ALICE));
+
+        modelManager.redo();
+        Student presentAlice = modelManager.getEduTrack().getStudentList().get(0);
+        assertTrue(presentAlice.getCurrentAttendance().getIsPresent());
+        assertEquals(1, cs2103.getAttendanceHistory().getLessonCount());
+        assertEquals(1, cs2103.getLessonsAttended(presentAlice));
+    }
+
+    @Test
+    public void undo_startLesson_restoresCurrentLesson() {
+        Class cs2103 = new ClassBuilder().withClassName("CS2103").build();
+        modelManager.addStudent(ALICE);
+        modelManager.addClass(cs2103);
+        modelManager.addStudentToClass(ALICE, cs2103);
+        modelManager.markStudentsAttendance(cs2103, List.of(ALICE), true);
+        Student presentAlice = cs2103.getStudentList().get(0);
+        modelManager.commitChanges();
+
+        modelManager.startLesson(cs2103);
+        modelManager.commitChanges();
+        assertEquals(0, cs2103.getPresentCount());
+        modelManager.undo();
+        assertEquals(List.of(presentAlice), modelManager.getEduTrack().getStudentList());
+        assertEquals(1, cs2103.getAttendanceHistory().getLessonCount());
+        assertEquals(1, cs2103.getPresentCount());
+        assertTrue(modelManager.getEduTrack().getStudentList().get(0).getCurrentAttendance().getIsPresent());
+    }
+
+    @Test
+    public void undo_removeClass_restoresClassInPlace() {
+        Class cs2103 = new ClassBuilder().withClassName("CS2103").build();
+        Class cs2105 = new ClassBuilder().withClassName("CS2105").build();
+        modelManager.addClass(cs2103);
+        modelManager.addClass(cs2105);
+        modelManager.addStudent(ALICE);
+        modelManager.addStudentToClass(ALICE, cs2103);
+        modelManager.commitChanges();
+
+        modelManager.removeClass(cs2103);
+        modelManager.commitChanges();
+        modelManager.undo();
+        assertEquals(List.of(cs2103, cs2105), modelManager.getEduTrack().getClassList());
+        assertEquals(List.of(cs2103), modelManager.getClassesById(ALICE.getId()));
+    }
+
+    @Test
+    public void undo_setEduTrack_restoresPreviousData() {
+        modelManager.addStudent(ALICE);
+        modelManager.addClass(new ClassBuilder().withClassName("CS2103").build());
+        EduTrack previous = new EduTrack(modelManager.getEduTrack());
+        modelManager.commitChanges();
+
+        modelManager.setEduTrack(new EduTrack());
+        modelManager.commitChanges();
+        modelManager.undo();
+        assertEquals(previous, modelManager.getEduTrack());
+        modelManager.redo();
+        assertEquals(new EduTrack(), modelManager.getEduTrack());
+    }
+
+    @Test
+    public void undo_setStudent_restoresStudent() {
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alicia").build();
+        modelManager.addStudent(ALICE);
+        modelManager.commitChanges();
+
+        modelManager.setStudent(ALICE, editedAlice);
+        modelManager.commitChanges();
+        modelManager.undo();
+        assertEquals(List.of(ALICE), modelManager.getEduTrack().getStudentList());
+        modelManager.redo();
+        assertEquals(List.of(editedAlice), modelManager.getEduTrack().getStudentList());
+    }
+
+    @Test
+    public void getModificationCount_countsChangesOnly() {
+        assertEquals(0L, modelManager.getModificationCount());
+        modelManager.addStudent(ALICE);
+        assertEquals(1L, modelManager.getModificationCount());
+
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredStudentListToAtRisk();
+        modelManager.commitChanges();
+        assertEquals(1L, modelManager.getModificationCount());
+
+        modelManager.undo();
+        assertEquals(2L, modelManager.getModificationCount());
+        modelManager.redo();
+        assertEquals(3L, modelManager.getModificationCount());
+    }
+
+    @Test
+    public void commitChanges_newChangeAfterUndo_cannotRedo() {
+        modelManager.addStudent(ALICE);
+        modelManager.commitChanges();
+        modelManager.undo();
+        assertTrue(modelManager.canRedo());
+        modelManager.commitChanges();
+        assertTrue(modelManager.canRedo());
+
+        modelManager.addStudent(BENSON);
+        modelManager.commitChanges();
+        assertFalse(modelManager.canRedo());
+        assertTrue(modelManager.canUndo());
+    }
+
+    @Test
+    public void discardChanges_changesSinceCommit_undoneAndForgotten() {
+        modelManager.addStudent(ALICE);
+        modelManager.commitChanges();
+        modelManager.addStudent(BENSON);
+        modelManager.deleteStudent(ALICE);
+        long modificationCount = modelManager.getModificationCount();
+
+        modelManager.discardChanges();
+        assertEquals(Arrays.asList(ALICE), modelManager.getEduTrack().getStudentList());
+        assertEquals(modificationCount + 1, modelManager.getModificationCount());
+
+        // The committed step is kept
+        modelManager.undo();
+        assertTrue(modelManager.getEduTrack().getStudentList().isEmpty());
+        assertFalse(modelManager.canUndo());
+
+        // Nothing to discard
+        modificationCount = modelManager.getModificationCount();
+        modelManager.discardChanges();
+        assertEquals(modificationCount, modelManager.getModificationCount());
+        assertTrue(modelManager.canRedo());
+    }
+
     @Test
     public void equals() {
         EduTrack eduTrack = new EduTrackBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +19,12 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setEduTrackFilePath(null));
     }
 
+    @Test
+    public void setEduTrackFileFormat_nullFormat_usesJson() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setEduTrackFileFormat(UserPrefs.DataFileFormat.BINARY);
+        userPrefs.setEduTrackFileFormat(null);
+        assertEquals(UserPrefs.DataFileFormat.JSON, userPrefs.getEduTrackFileFormat());
+    }
+
 }
@@ -0,0 +1,144 @@
+package seedu.address.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class AttendanceHistoryTest {
+
+    private final AttendanceHistory history = new AttendanceHistory();
+
+    @Test
+    public void setAttendance_noLessonStarted_startsFirstLesson() {
+        history.setAttendance(ALICE, true);
+        assertEquals(1, history.getLessonCount());
+        assertTrue(history.hasAttended(ALICE, 0));
+    }
+
+    @Test
+    public void setAttendance_absent_clearsCurrentLesson() {
+        history.startLesson();
+        history.setAttendance(ALICE, true);
+        history.setAttendance(ALICE, false);
+        assertFalse(history.hasAttended(ALICE, 0));
+        assertEquals(0, history.countAttended(ALICE));
+    }
+
+    @Test
+    public void countAttended_range_countsLessonsInRangeOnly() {
+        for (int lesson = 0; lesson < 70; lesson++) {
+            history.startLesson();
+            history.setAttendance(ALICE, lesson % 2 == 0);
+        }
+        assertEquals(35, history.countAttended(ALICE));
+        assertEquals(2, history.countAttended(ALICE, 2, 5));
+        assertEquals(3, history.countAttended(ALICE, 62, 68));
+        assertEquals(0, history.countAttended(BENSON, 0, 70));
+        assertThrows(IllegalArgumentException.class, () -> history.countAttended(ALICE, 5, 71));
+    }
+
+    @Test
+    public void setLessonsAttended_roundTrip_restoresHistory() {
+        history.setLessonCount(3);
+        history.setLessonsAttended(ALICE, new long[] {0b101});
+        assertArrayEquals(new long[] {0b101}, history.getLessonsAttended(ALICE));
+        assertArrayEquals(new long[0], history.getLessonsAttended(BENSON));
+    }
+
+    @Test
+    public void setLessonsAttended_afterLastLesson_throwsIllegalArgumentException() {
+        history.setLessonCount(2);
+        assertThrows(IllegalArgumentException.class, () -> history.setLessonsAttended(ALICE, new long[] {0b100}));
+    }
+
+    @Test
+    public void setStudent_movesHistory() {
+        history.setAttendance(ALICE, true);
+        history.setStudent(ALICE, BENSON);
+        assertEquals(0, history.countAttended(ALICE));
+        assertEquals(1, history.countAttended(BENSON));
+    }
+
+    @Test
+    public void setAttendance_markAndUnmark_updatesTotals() {
+        history.startLesson();
+        history.setAttendance(ALICE, true);
+        history.setAttendance(BENSON, true);
+        history.startLesson();
+        history.setAttendance(ALICE, true);
+        history.setAttendance(ALICE, true);
+        assertEquals(1, history.getPresentCount());
+        assertEquals(3, history.getTotalAttended());
+        assertEquals(Map.of(1, 1, 2, 1), history.getStudentsByLessonsAttended());
+
+        history.setAttendance(ALICE, false);
+        assertEquals(0, history.getPresentCount());
+        assertEquals(2, history.getTotalAttended());
+        assertEquals(Map.of(1, 2), history.getStudentsByLessonsAttended());
+
+        history.startLesson();
+        assertEquals(0, history.getPresentCount());
+        assertEquals(2, history.getTotalAttended());
+    }
+
+    @Test
+    public void removeStudent_removesFromTotals() {
+        history.setAttendance(ALICE, true);
+        history.setAttendance(BENSON, true);
+        history.removeStudent(ALICE);
+        assertEquals(1, history.getPresentCount());
+        assertEquals(1, history.getTotalAttended());
+        assertEquals(Map.of(1, 1), history.getStudentsByLessonsAttended());
+    }
+
+    @Test
+    public void setLessonsAttended_updatesTotals() {
+        history.setLessonsAttended(ALICE, new long[0]);
+        history.setLessonCount(3);
+        history.setLessonsAttended(ALICE, new long[] {0b101});
+        history.setLessonsAttended(BENSON, new long[] {0b010});
+        assertEquals(1, history.getPresentCount());
+        assertEquals(3, history.getTotalAttended());
+        assertEquals(Map.of(1, 1, 2, 1), history.getStudentsByLessonsAttended());
+
+        history.setLessonsAttended(ALICE, new long[] {0b011});
+        assertEquals(0, history.getPresentCount());
+        assertEquals(3, history.getTotalAttended());
+    }
+
+    @Test
+    public void setLessonCount_undoStartLesson_restoresPresentCount() {
+        history.setAttendance(ALICE, true);
+        history.startLesson();
+        assertEquals(0, history.getPresentCount());
+
+        history.setLessonCount(1);
+        assertEquals(1, history.getPresentCount());
+        assertThrows(IllegalArgumentException.class, () -> history.setLessonCount(0));
+        assertEquals(1, history.getLessonCount());
+
+        history.setLessonCount(3);
+        assertEquals(0, history.getPresentCount());
+    }
+
+    @Test
+    public void copyConstructor_changesToCopy_doNotAffectOriginal() {
+        history.setAttendance(ALICE, true);
+        AttendanceHistory copy = new AttendanceHistory(history);
+        copy.setAttendance(ALICE, false);
+        copy.startLesson();
+        assertTrue(history.hasAttended(ALICE, 0));
+        assertEquals(1, history.getLessonCount());
+        assertEquals(1, history.getPresentCount());
+        assertEquals(1, history.getTotalAttended());
+        assertEquals(0, copy.getPresentCount());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.module;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -55,4 +56,10 @@ public class ClassNameTest {
         // different values -> returns false
         assertFalse(className.equals(new ClassName("cs2100")));
     }
+
+    @Test
+    public void of_namesDifferingInCase_returnsSameInstance() {
+        assertSame(ClassName.of("cs2103t"), ClassName.of("CS2103T"));
+        assertThrows(IllegalArgumentException.class, () -> ClassName.of("cs 2103t"));
+    }
 }
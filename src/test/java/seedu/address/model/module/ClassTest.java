@@ -4,11 +4,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.common.Memo;
+import seedu.address.model.student.Student;
 import seedu.address.model.student.UniqueStudentList;
+import seedu.address.testutil.StudentBuilder;
 
 class ClassTest {
     private final Class c = new Class(new ClassName("abc"), new UniqueStudentList(), new Memo(" "), new Schedule());
@@ -39,6 +47,55 @@ class ClassTest {
                 new Memo(" "), new Schedule())));
     }
 
+    @Test
+    public void attendanceStatistics() {
+        c.addStudentToClass(ALICE);
+        c.addStudentToClass(BENSON);
+        c.addStudentToClass(CARL);
+        assertEquals(0.0, c.getAverageAttendanceRate());
+
+        c.recordAttendance(ALICE, true);
+        c.recordAttendance(BENSON, true);
+        c.getAttendanceHistory().setLessonCount(2);
+        c.recordAttendance(ALICE, true);
+        assertEquals(1, c.getPresentCount());
+        assertEquals(2, c.getAbsentCount());
+        assertEquals(50.0, c.getAverageAttendanceRate(), 1e-9);
+        assertEquals(Map.of(0, 1, 1, 1, 2, 1), c.getAttendanceDistribution());
+
+        c.removeStudentFromClass(ALICE);
+        assertEquals(0, c.getPresentCount());
+        assertEquals(2, c.getAbsentCount());
+        assertEquals(25.0, c.getAverageAttendanceRate(), 1e-9);
+        assertEquals(Map.of(0, 1, 1, 1), c.getAttendanceDistribution());
+    }
+
+    @Test
+    public void attendanceRanking_attendanceChanged_ranksByLessonsOfClass() {
+        c.addStudentToClass(ALICE);
+        c.addStudentToClass(BENSON);
+        c.addStudentToClass(CARL);
+        assertEquals(List.of(ALICE, BENSON, CARL), c.getFewestLessonsAttended(3));
+
+        c.recordAttendance(ALICE, true);
+        c.getAttendanceHistory().setLessonCount(2);
+        c.recordAttendance(ALICE, true);
+        c.recordAttendance(BENSON, true);
+        assertEquals(List.of(CARL, BENSON, ALICE), c.getFewestLessonsAttended(3));
+        assertEquals(2, c.getAttendanceRank(BENSON));
+        assertEquals(200.0 / 3, c.getAttendancePercentile(ALICE), 1e-9);
+
+        Student editedAlice = new StudentBuilder(ALICE).withName("Zoe Pauline").build();
+        c.setStudent(ALICE, editedAlice);
+        c.recordAttendance(BENSON, false);
+        assertEquals(List.of(BENSON, CARL, editedAlice), c.getFewestLessonsAttended(3));
+        assertEquals(2, c.getLessonsAttended(editedAlice));
+
+        c.removeStudentFromClass(editedAlice);
+        c.setLessonsAttended(CARL, new long[] {0b11});
+        assertEquals(List.of(BENSON, CARL), c.getFewestLessonsAttended(3));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Class.class.getCanonicalName() + "{className=" + c.getClassName()
@@ -1,8 +1,15 @@
 package seedu.address.model.module;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
 import org.junit.jupiter.api.Test;
 
 public class ScheduleTest {
@@ -14,6 +21,7 @@ public class ScheduleTest {
         // invalid schedule
         assertFalse(Schedule.isValidSchedule("wed 10:00-12:00")); // missing comma
         assertFalse(Schedule.isValidSchedule("friday, 08:35-09:30")); // wrong day format
+        assertFalse(Schedule.isValidSchedule("fr\u0131, 10:00-12:00")); // dotless i is not an ASCII i
         assertFalse(Schedule.isValidSchedule("thu, 8:35-09:30")); // wrong time format
         assertFalse(Schedule.isValidSchedule("thu, 8:35 - 09:30")); // wrong time format
 
@@ -21,7 +29,14 @@ public class ScheduleTest {
         assertFalse(Schedule.isValidSchedule("mon, 13:00-12:00"));
         assertFalse(Schedule.isValidSchedule("mon, 10:60-12:00"));
 
+        assertFalse(Schedule.isValidSchedule("mon, 23:00-24:00")); // hour out of range
+        assertFalse(Schedule.isValidSchedule("mon, 10:00-10:00")); // empty range
+        assertFalse(Schedule.isValidSchedule("mon,  10:00-12:00")); // extra space
+        assertFalse(Schedule.isValidSchedule(" mon, 10:00-12:00")); // leading space
+
         // valid schedule
+        assertTrue(Schedule.isValidSchedule("MON, 00:00-23:59"));
+        assertTrue(Schedule.isValidSchedule("thu,\t10:00-12:00"));
         assertTrue(Schedule.isValidSchedule("wed, 10:00-12:00"));
         assertTrue(Schedule.isValidSchedule("fri, 08:35-09:30"));
     }
@@ -47,4 +62,55 @@ public class ScheduleTest {
         // different values -> returns false
         assertFalse(schedule.equals(differentSchedule));
     }
+
+    @Test
+    public void constructor_validSchedule_parsesDayAndTimes() {
+        Schedule schedule = new Schedule("Tue, 14:05-15:30");
+        assertTrue(schedule.isScheduled());
+        assertEquals(DayOfWeek.TUESDAY, schedule.getDay());
+        assertEquals(14 * 60 + 5, schedule.getStartMinute());
+        assertEquals(15 * 60 + 30, schedule.getEndMinute());
+
+        Schedule blank = new Schedule();
+        assertFalse(blank.isScheduled());
+        assertNull(blank.getDay());
+        assertFalse(new Schedule("").isScheduled());
+    }
+
+    @Test
+    public void clashesWith() {
+        Schedule schedule = new Schedule("mon, 10:00-12:00");
+        assertTrue(schedule.clashesWith(new Schedule("mon, 11:59-13:00")));
+        assertTrue(schedule.clashesWith(new Schedule("mon, 10:30-11:00")));
+
+        // touching, different day or blank -> no clash
+        assertFalse(schedule.clashesWith(new Schedule("mon, 12:00-13:00")));
+        assertFalse(schedule.clashesWith(new Schedule("tue, 10:00-12:00")));
+        assertFalse(schedule.clashesWith(new Schedule()));
+        assertFalse(new Schedule().clashesWith(schedule));
+    }
+
+    @Test
+    public void isRunningAt() {
+        Schedule schedule = new Schedule("wed, 10:00-12:00");
+        assertTrue(schedule.isRunningAt(DayOfWeek.WEDNESDAY, 10 * 60));
+        assertFalse(schedule.isRunningAt(DayOfWeek.WEDNESDAY, 12 * 60));
+        assertFalse(schedule.isRunningAt(DayOfWeek.THURSDAY, 11 * 60));
+        assertFalse(new Schedule().isRunningAt(DayOfWeek.WEDNESDAY, 11 * 60));
+    }
+
+    @Test
+    public void isRunningAt_dateTime() {
+        Schedule schedule = new Schedule("wed, 10:00-12:00");
+        // 2023-11-01 is a Wednesday
+        assertTrue(schedule.isRunningAt(LocalDateTime.of(2023, 11, 1, 11, 59)));
+        assertFalse(schedule.isRunningAt(LocalDateTime.of(2023, 11, 1, 12, 0)));
+        assertFalse(schedule.isRunningAt(LocalDateTime.of(2023, 11, 2, 11, 0)));
+        assertEquals(10 * 60 + 5, Schedule.getMinuteOfDay(LocalTime.of(10, 5)));
+    }
+
+    @Test
+    public void of_equalSchedules_returnsSameInstance() {
+        assertSame(Schedule.of("mon, 08:00-09:00"), Schedule.of(new String("mon, 08:00-09:00")));
+    }
 }
@@ -8,6 +8,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClasses.CS2040;
 import static seedu.address.testutil.TypicalClasses.CS2102;
 
+import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -54,6 +55,39 @@ public class UniqueClassListTest {
         assertTrue(uniqueClassList.contains(c));
     }
 
+    @Test
+    public void get_classNameInList_returnsClass() {
+        uniqueClassList.add(sampleClass1);
+        uniqueClassList.add(sampleClass2);
+        assertEquals(sampleClass2, uniqueClassList.get(new ClassName("CS2105")));
+    }
+
+    @Test
+    public void get_removedClassName_throwsClassNotFoundException() {
+        uniqueClassList.add(sampleClass1);
+        uniqueClassList.remove(Index.fromOneBased(1));
+        assertThrows(ClassNotFoundException.class, () -> uniqueClassList.get(sampleClassName1));
+    }
+
+    @Test
+    public void indexOf_listChanged_followsChanges() {
+        uniqueClassList.add(sampleClass1);
+        uniqueClassList.add(sampleClass2);
+        assertEquals(-1, uniqueClassList.indexOf(CS2102));
+
+        uniqueClassList.add(Index.fromZeroBased(0), CS2102);
+        assertEquals(0, uniqueClassList.indexOf(CS2102));
+        assertEquals(2, uniqueClassList.indexOf(sampleClass2));
+
+        uniqueClassList.setClass(Index.fromZeroBased(1), CS2040);
+        assertEquals(-1, uniqueClassList.indexOf(sampleClass1));
+        assertEquals(1, uniqueClassList.indexOf(CS2040));
+
+        uniqueClassList.remove(CS2102);
+        assertEquals(0, uniqueClassList.indexOf(CS2040));
+        assertEquals(1, uniqueClassList.indexOf(sampleClass2));
+    }
+
     @Test
     public void add_nullClass_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClassList.add(null));
@@ -183,6 +217,16 @@ public class UniqueClassListTest {
         UniqueClassList expectedUniqueClassList = new UniqueClassList();
         expectedUniqueClassList.add(CS2040);
         assertEquals(expectedUniqueClassList, uniqueClassList);
+        assertEquals(CS2040, uniqueClassList.get(CS2040.getClassName()));
+        assertThrows(ClassNotFoundException.class, () -> uniqueClassList.get(sampleClassName1));
+    }
+
+    @Test
+    public void setClass_duplicateClassName_throwsDuplicateClassException() {
+        uniqueClassList.add(sampleClass1);
+        uniqueClassList.add(sampleClass2);
+        assertThrows(DuplicateClassException.class, () -> uniqueClassList.setClass(Index.fromOneBased(1),
+                new Class(sampleClassName2, new UniqueStudentList(), new Memo(" "), new Schedule())));
     }
 
     @Test
@@ -218,4 +262,34 @@ public class UniqueClassListTest {
         expectedUniqueClassList.add(sampleClass1);
         assertEquals(uniqueClassList.hashCode(), expectedUniqueClassList.hashCode());
     }
+
+    @Test
+    public void getClassesClashingWith_classesChanged_followsChanges() {
+        Class morning = new Class(new ClassName("cs1101s"), new UniqueStudentList(), new Memo(" "),
+                new Schedule("mon, 09:00-11:00"));
+        Class noon = new Class(new ClassName("cs1231"), new UniqueStudentList(), new Memo(" "),
+                new Schedule("mon, 10:00-13:00"));
+        uniqueClassList.add(morning);
+        uniqueClassList.add(noon);
+        uniqueClassList.add(sampleClass1);
+
+        assertEquals(Arrays.asList(morning, noon),
+                uniqueClassList.getClassesClashingWith(new Schedule("mon, 10:30-10:45")));
+        assertEquals(Arrays.asList(noon), uniqueClassList.getClassesClashingWith(new Schedule("mon, 11:00-12:00")));
+        assertEquals(Collections.emptyList(), uniqueClassList.getClassesClashingWith(new Schedule()));
+
+        Class movedNoon = new Class(new ClassName("cs1231"), new UniqueStudentList(), new Memo(" "),
+                new Schedule("tue, 10:00-13:00"));
+        uniqueClassList.setClass(Index.fromOneBased(2), movedNoon);
+        assertEquals(Collections.emptyList(),
+                uniqueClassList.getClassesClashingWith(new Schedule("mon, 11:00-12:00")));
+        assertEquals(Arrays.asList(movedNoon), uniqueClassList.getClassesRunningAt(DayOfWeek.TUESDAY, 12 * 60));
+
+        uniqueClassList.remove(morning);
+        assertEquals(Collections.emptyList(), uniqueClassList.getClassesRunningAt(DayOfWeek.MONDAY, 10 * 60));
+
+        uniqueClassList.setClasses(Arrays.asList(morning));
+        assertEquals(Arrays.asList(morning), uniqueClassList.getClassesRunningAt(DayOfWeek.MONDAY, 10 * 60));
+        assertEquals(Collections.emptyList(), uniqueClassList.getClassesRunningAt(DayOfWeek.TUESDAY, 12 * 60));
+    }
 }
@@ -0,0 +1,35 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudentBuilder;
+
+public class AtRiskPredicateTest {
+
+    private final AtRiskPredicate predicate = new AtRiskPredicate();
+
+    @Test
+    public void equals() {
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new AtRiskPredicate()));
+        assertFalse(predicate.equals(null));
+        assertFalse(predicate.equals(1));
+    }
+
+    @Test
+    public void test_absentWithFewLessons_returnsTrue() {
+        assertTrue(predicate.test(new StudentBuilder().withCurrentLessonAttendance(false)
+                .withLessonsAttended(AtRiskPredicate.MIN_LESSONS_ATTENDED - 1).build()));
+    }
+
+    @Test
+    public void test_presentOrEnoughLessons_returnsFalse() {
+        assertFalse(predicate.test(new StudentBuilder().withCurrentLessonAttendance(true)
+                .withLessonsAttended(0).build()));
+        assertFalse(predicate.test(new StudentBuilder().withCurrentLessonAttendance(false)
+                .withLessonsAttended(AtRiskPredicate.MIN_LESSONS_ATTENDED).build()));
+    }
+}
@@ -26,27 +26,31 @@ public class CurrentLessonAttendanceTest {
     }
 
     @Test
-    public void setPresent_studentAbsent_success() {
+    public void markPresent_studentAbsent_success() {
         CurrentLessonAttendance absentLessonAttendance = new CurrentLessonAttendance(false);
-        assertDoesNotThrow(() -> absentLessonAttendance.setPresent());
+        assertDoesNotThrow(() -> absentLessonAttendance.markPresent());
+        assertTrue(absentLessonAttendance.markPresent().getIsPresent());
+        assertFalse(absentLessonAttendance.getIsPresent());
     }
 
     @Test
-    public void setPresent_studentPresent_throwsStudentAlreadyMarkedPresentException() {
+    public void markPresent_studentPresent_throwsStudentAlreadyMarkedPresentException() {
         CurrentLessonAttendance presentLessonAttendance = new CurrentLessonAttendance(true);
-        assertThrows(StudentAlreadyMarkedPresent.class, () -> presentLessonAttendance.setPresent());
+        assertThrows(StudentAlreadyMarkedPresent.class, () -> presentLessonAttendance.markPresent());
     }
 
     @Test
-    public void setAbsent_studentPresent_success() {
+    public void markAbsent_studentPresent_success() {
         CurrentLessonAttendance presentLessonAttendance = new CurrentLessonAttendance(true);
-        assertDoesNotThrow(() -> presentLessonAttendance.setAbsent());
+        assertDoesNotThrow(() -> presentLessonAttendance.markAbsent());
+        assertFalse(presentLessonAttendance.markAbsent().getIsPresent());
+        assertTrue(presentLessonAttendance.getIsPresent());
     }
 
     @Test
-    public void setAbsent_studentAbsent_throwsStudentAlreadyMarkedAbsentException() {
+    public void markAbsent_studentAbsent_throwsStudentAlreadyMarkedAbsentException() {
         CurrentLessonAttendance absentLessonAttendance = new CurrentLessonAttendance(false);
-        assertThrows(StudentAlreadyMarkedAbsent.class, () -> absentLessonAttendance.setAbsent());
+        assertThrows(StudentAlreadyMarkedAbsent.class, () -> absentLessonAttendance.markAbsent());
     }
 
     @Test
@@ -2,6 +2,7 @@ package seedu.address.model.student;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -33,27 +34,30 @@ public class LessonsAttendedTest {
     @Test
     public void getTotalLessons() {
         LessonsAttended defaultLessonsAttended = new LessonsAttended();
-        Integer expectedDefault = 0;
-        assertEquals(expectedDefault, defaultLessonsAttended.getTotalLessons());
+        assertEquals(0, defaultLessonsAttended.getTotalLessons());
         LessonsAttended lessonsAttended = new LessonsAttended(50);
-        Integer expected = 50;
-        assertEquals(expected, lessonsAttended.getTotalLessons());
+        assertEquals(50, lessonsAttended.getTotalLessons());
     }
 
     @Test
-    public void incrementLessons() {
+    public void of_sharesSmallCounts() {
+        assertSame(LessonsAttended.of(5), LessonsAttended.of(5));
+        assertEquals(new LessonsAttended(1000), LessonsAttended.of(1000));
+        assertThrows(IllegalArgumentException.class, () -> LessonsAttended.of(-1));
+    }
+
+    @Test
+    public void increment() {
         LessonsAttended lessonsAttended = new LessonsAttended(50);
-        lessonsAttended.incrementLessons();
-        Integer expected = 51;
-        assertEquals(expected, lessonsAttended.getTotalLessons());
+        assertEquals(51, lessonsAttended.increment().getTotalLessons());
+        assertEquals(50, lessonsAttended.getTotalLessons());
     }
 
     @Test
-    public void decrementLessons() {
+    public void decrement() {
         LessonsAttended lessonsAttended = new LessonsAttended(50);
-        lessonsAttended.decrementLessons();
-        Integer expected = 49;
-        assertEquals(expected, lessonsAttended.getTotalLessons());
+        assertEquals(49, lessonsAttended.decrement().getTotalLessons());
+        assertEquals(0, new LessonsAttended().decrement().getTotalLessons());
     }
 
     @Test
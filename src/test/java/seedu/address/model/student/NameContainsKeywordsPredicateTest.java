@@ -56,6 +56,10 @@ public class NameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
+
+        // Prefix keyword
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("bO*"));
+        assertTrue(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
     }
 
     @Test
@@ -68,6 +72,10 @@ public class NameContainsKeywordsPredicateTest {
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol"));
         assertFalse(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
 
+        // Prefix keyword matching only the middle of a word
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("lic*"));
+        assertFalse(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
+
         // Keywords match phone, email and address, but does not match name
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("12345", "alice@email.com", "Main", "Street"));
         assertFalse(predicate.test(new StudentBuilder().withName("Alice").build()));
@@ -1,6 +1,7 @@
 package seedu.address.model.student;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -57,4 +58,10 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void of_equalNames_returnsSameInstance() {
+        assertSame(Name.of("Peter Jack"), Name.of(new String("Peter Jack")));
+        assertThrows(IllegalArgumentException.class, () -> Name.of("^"));
+    }
 }
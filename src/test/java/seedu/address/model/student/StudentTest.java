@@ -1,9 +1,7 @@
 package seedu.address.model.student;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
@@ -13,8 +11,6 @@ import static seedu.address.testutil.TypicalStudents.DANIEL;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.model.student.exceptions.StudentAlreadyMarkedAbsent;
-import seedu.address.model.student.exceptions.StudentAlreadyMarkedPresent;
 import seedu.address.testutil.StudentBuilder;
 
 public class StudentTest {
@@ -53,39 +49,6 @@ public class StudentTest {
         assertFalse(ALICE == duplicateAlice);
     }
 
-    @Test
-    public void markStudentPresent_studentAttended_throwsStudentAlreadyMarkedPresentException() {
-        // BOB attended lesson before
-        Student Bob = new StudentBuilder(BOB).build();
-        assertThrows(StudentAlreadyMarkedPresent.class, () -> Bob.markStudentPresent());
-    }
-
-    @Test
-    public void markStudentPresent_studentDidNotAttend_success() {
-        // bob has not attended lesson before
-        Student bob = new StudentBuilder().withName(VALID_NAME_BOB)
-                .withCurrentLessonAttendance(false)
-                .withLessonsAttended(5)
-                .build();
-        assertDoesNotThrow(() -> bob.markStudentPresent());
-    }
-
-    @Test
-    public void markStudentAbsent_studentDidNotAttend_throwsStudentAlreadyMarkedAbsentException() {
-        // DANIEL was already marked absent
-        Student Daniel = new StudentBuilder(DANIEL).build();
-        assertThrows(StudentAlreadyMarkedAbsent.class, () -> Daniel.markStudentAbsent());
-    }
-
-    @Test
-    public void markStudentAbsent_studentAttended_success() {
-        // bob was marked present beforehand
-        Student bob = new StudentBuilder().withName(VALID_NAME_BOB)
-                .withCurrentLessonAttendance(true)
-                .withLessonsAttended(5)
-                .build();
-        assertDoesNotThrow(() -> bob.markStudentAbsent());
-    }
     @Test
     public void getAttendanceStringRep() {
         // BOB was marked present beforehand
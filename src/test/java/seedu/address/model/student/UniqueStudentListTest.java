@@ -5,14 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
 import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
 import seedu.address.testutil.StudentBuilder;
@@ -123,6 +128,85 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniquePersonList, uniqueStudentList);
     }
 
+    @Test
+    public void remove_personBeforeOthers_othersCanStillBeReplaced() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+        uniqueStudentList.add(CARL);
+        uniqueStudentList.remove(ALICE);
+        uniqueStudentList.setStudent(CARL, BOB);
+        UniqueStudentList expectedUniquePersonList = new UniqueStudentList();
+        expectedUniquePersonList.add(BENSON);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniqueStudentList);
+        assertFalse(uniqueStudentList.contains(CARL));
+    }
+
+    @Test
+    public void replaceStudents_nullMap_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueStudentList.replaceStudents(null));
+    }
+
+    @Test
+    public void replaceStudents_someStudentsInList_replacesOnlyThoseInList() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+        uniqueStudentList.add(CARL);
+        Student editedAlice = new StudentBuilder(ALICE).withMemo("Replaced").build();
+        Student editedCarl = new StudentBuilder(CARL).withMemo("Replaced").build();
+        Map<Student, Student> replacements = new HashMap<>();
+        replacements.put(ALICE, editedAlice);
+        replacements.put(CARL, editedCarl);
+        replacements.put(BOB, editedAlice);
+        uniqueStudentList.replaceStudents(replacements);
+        UniqueStudentList expectedUniquePersonList = new UniqueStudentList();
+        expectedUniquePersonList.setStudents(Arrays.asList(editedAlice, BENSON, editedCarl));
+        assertEquals(expectedUniquePersonList, uniqueStudentList);
+        assertFalse(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void replaceStudents_editedStudentsNotUnique_throwsDuplicatePersonException() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+        uniqueStudentList.add(CARL);
+        Map<Student, Student> replacements = new HashMap<>();
+        replacements.put(ALICE, BOB);
+        replacements.put(CARL, BOB);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.replaceStudents(replacements));
+    }
+
+    @Test
+    public void replaceStudents_editedStudentSameAsStudentNotReplaced_throwsDuplicatePersonException() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+        uniqueStudentList.add(CARL);
+        Map<Student, Student> replacements = new HashMap<>();
+        replacements.put(ALICE, new StudentBuilder(ALICE).withMemo("Replaced").build());
+        replacements.put(CARL, BENSON);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.replaceStudents(replacements));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceStudents_studentsSwapped_replacesInOneChange() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+        uniqueStudentList.add(CARL);
+        int[] changes = new int[1];
+        uniqueStudentList.asUnmodifiableObservableList().addListener((ListChangeListener<Student>) change -> {
+            changes[0]++;
+        });
+        Map<Student, Student> replacements = new HashMap<>();
+        replacements.put(ALICE, CARL);
+        replacements.put(CARL, ALICE);
+        uniqueStudentList.replaceStudents(replacements);
+        assertEquals(1, changes[0]);
+        assertEquals(Arrays.asList(CARL, BENSON, ALICE), uniqueStudentList.asUnmodifiableObservableList());
+        assertEquals(0, uniqueStudentList.indexOf(CARL));
+        assertEquals(2, uniqueStudentList.indexOf(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudents((UniqueStudentList) null));
@@ -185,4 +269,36 @@ public class UniqueStudentListTest {
     public void hashCode_sameInstance_sameHashCode() {
         assertTrue(uniqueStudentList.hashCode() == uniqueStudentList.hashCode());
     }
+
+    @Test
+    public void getFewestLessonsAttended_attendanceChanges_followsChanges() {
+        Student carl = new StudentBuilder(CARL).withLessonsAttended(1).build();
+        Student bob = new StudentBuilder(BOB).withLessonsAttended(3).build();
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+        uniqueStudentList.add(carl);
+        uniqueStudentList.add(bob);
+        assertEquals(Arrays.asList(carl, bob, ALICE), uniqueStudentList.getFewestLessonsAttended(3));
+        assertEquals(1, uniqueStudentList.getAttendanceRank(carl));
+        assertEquals(3, uniqueStudentList.getAttendanceRank(BENSON));
+        assertEquals(50.0, uniqueStudentList.getAttendancePercentile(ALICE));
+
+        Student markedCarl = new StudentBuilder(carl).withLessonsAttended(6).build();
+        uniqueStudentList.setStudent(carl, markedCarl);
+        assertEquals(Arrays.asList(bob, ALICE, BENSON, markedCarl), uniqueStudentList.getFewestLessonsAttended(10));
+
+        Map<Student, Student> replacements = new HashMap<>();
+        replacements.put(ALICE, new StudentBuilder(ALICE).withLessonsAttended(0).build());
+        replacements.put(bob, new StudentBuilder(bob).withLessonsAttended(4).build());
+        uniqueStudentList.replaceStudents(replacements);
+        assertEquals(Arrays.asList(replacements.get(ALICE), replacements.get(bob)),
+                uniqueStudentList.getFewestLessonsAttended(2));
+
+        uniqueStudentList.remove(replacements.get(ALICE));
+        assertEquals(Arrays.asList(replacements.get(bob)), uniqueStudentList.getFewestLessonsAttended(1));
+
+        uniqueStudentList.setStudents(Collections.singletonList(BENSON));
+        assertEquals(Arrays.asList(BENSON), uniqueStudentList.getFewestLessonsAttended(10));
+        assertEquals(0.0, uniqueStudentList.getAttendancePercentile(BENSON));
+    }
 }
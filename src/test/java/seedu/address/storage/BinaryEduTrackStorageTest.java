@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.AMY;
+import static seedu.address.testutil.TypicalStudents.getTypicalEduTrack;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.EduTrack;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.Class;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.ClassBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class BinaryEduTrackStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private EduTrack eduTrack;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("eduTrack.bin");
+        ModelManager model = new ModelManager(getTypicalEduTrack(), new UserPrefs());
+        List<Student> students = model.getEduTrack().getStudentList();
+        model.setStudent(students.get(0), new StudentBuilder(students.get(0)).withMemo("Caf\u00e9 \u2615").build());
+        model.addClass(new ClassBuilder().withClassName("CS2103").build());
+        model.addClass(new ClassBuilder().withClassName("CS2101").build());
+        Class cs2103 = model.getEduTrack().getClassList().get(0);
+        model.addStudentToClass(students.get(0), cs2103);
+        model.addStudentToClass(students.get(2), cs2103);
+        model.addStudentToClass(students.get(2), model.getEduTrack().getClassList().get(1));
+        for (int i = 0; i < 70; i++) {
+            model.startLesson(cs2103);
+            model.markStudentsAttendance(cs2103, List.of(students.get(i % 2 == 0 ? 0 : 2)), true);
+        }
+        eduTrack = new EduTrack(model.getEduTrack());
+    }
+
+    @Test
+    public void readEduTrack_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryEduTrackStorage(filePath).readEduTrack().isPresent());
+    }
+
+    @Test
+    public void readAndSaveEduTrack_allInOrder_success() throws Exception {
+        BinaryEduTrackStorage storage = new BinaryEduTrackStorage(filePath);
+        storage.saveEduTrack(eduTrack);
+        assertTrue(BinaryEduTrackReader.isBinaryFile(filePath));
+        assertEquals(eduTrack, new EduTrack(storage.readEduTrack().get()));
+
+        eduTrack.addStudent(AMY);
+        storage.saveEduTrack(eduTrack);
+        assertEquals(eduTrack, new EduTrack(storage.readEduTrack().get()));
+    }
+
+    @Test
+    public void readEduTrack_jsonFile_convertedLosslessly() throws Exception {
+        Path jsonFilePath = testFolder.resolve("eduTrack.json");
+        new JsonEduTrackStorage(jsonFilePath).saveEduTrack(eduTrack);
+        String json = FileUtil.readFromFile(jsonFilePath);
+
+        // JSON to binary
+        BinaryEduTrackStorage binaryStorage = new BinaryEduTrackStorage(jsonFilePath);
+        binaryStorage.saveEduTrack(binaryStorage.readEduTrack().get());
+        assertTrue(BinaryEduTrackReader.isBinaryFile(jsonFilePath));
+        assertTrue(Files.size(jsonFilePath) < json.length());
+
+        // Binary to JSON
+        JsonEduTrackStorage jsonStorage = new JsonEduTrackStorage(jsonFilePath);
+        jsonStorage.saveEduTrack(jsonStorage.readEduTrack().get());
+        assertEquals(json, FileUtil.readFromFile(jsonFilePath));
+    }
+
+    @Test
+    public void readEduTrack_journal_replayedAndCompactedAsBinary() throws Exception {
+        BinaryEduTrackStorage storage = new BinaryEduTrackStorage(filePath);
+        storage.saveEduTrack(eduTrack);
+        ModelManager model = new ModelManager(storage.readEduTrack().get(), new UserPrefs());
+        EduTrackJournal journal = storage.getEduTrackJournal();
+        journal.setEduTrack(model.getEduTrack());
+        model.setEduTrackChangeListener(journal);
+        model.addStudent(AMY);
+        journal.append();
+        assertEquals(new EduTrack(model.getEduTrack()),
+                new EduTrack(new BinaryEduTrackStorage(filePath).readEduTrack().get()));
+
+        journal.compact(new EduTrack(model.getEduTrack()), journal.getSequence());
+        assertTrue(BinaryEduTrackReader.isBinaryFile(filePath));
+        assertEquals(new EduTrack(model.getEduTrack()),
+                new EduTrack(new BinaryEduTrackStorage(filePath).readEduTrack().get()));
+    }
+
+    @Test
+    public void readEduTrack_invalidFile_throwsDataLoadingException() throws Exception {
+        new BinaryEduTrackStorage(filePath).saveEduTrack(eduTrack);
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        // Cut short
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataLoadingException.class, () -> new BinaryEduTrackStorage(filePath).readEduTrack());
+
+        // Written by a newer version
+        byte[] newerVersion = bytes.clone();
+        newerVersion[7] = BinaryEduTrackWriter.VERSION + 1;
+        Files.write(filePath, newerVersion);
+        assertThrows(DataLoadingException.class, () -> new BinaryEduTrackStorage(filePath).readEduTrack());
+
+        // Not a data file in either format
+        Files.write(filePath, new byte[] {1, 2, 3});
+        assertThrows(DataLoadingException.class, () -> new BinaryEduTrackStorage(filePath).readEduTrack());
+    }
+
+    @Test
+    public void saveEduTrack_nullEduTrack_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryEduTrackStorage(filePath).saveEduTrack(null));
+    }
+
+    @Test
+    public void readEduTrack_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryEduTrackStorage(Paths.get("eduTrack.bin")).readEduTrack((Path) null));
+    }
+
+}
@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.AMY;
+import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.getTypicalEduTrack;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EduTrack;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyEduTrack;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.common.Memo;
+import seedu.address.model.module.Class;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.ClassBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class EduTrackJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path dataFilePath;
+    private Path journalFilePath;
+    private ModelManager model;
+    private EduTrackJournal journal;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dataFilePath = testFolder.resolve("eduTrack.json");
+        journalFilePath = EduTrackJournal.getJournalFilePath(dataFilePath);
+        JsonEduTrackStorage storage = new JsonEduTrackStorage(dataFilePath);
+        model = new ModelManager(getTypicalEduTrack(), new UserPrefs());
+        storage.saveEduTrack(model.getEduTrack());
+        journal = storage.getEduTrackJournal();
+        journal.setEduTrack(model.getEduTrack());
+        model.setEduTrackChangeListener(journal);
+    }
+
+    @Test
+    public void getJournalFilePath_nextToDataFile() {
+        assertEquals(testFolder.resolve("eduTrack.json.journal"), journalFilePath);
+    }
+
+    @Test
+    public void readEduTrack_changesAppended_replaysChanges() throws Exception {
+        model.addClass(new ClassBuilder().withClassName("CS2103").build());
+        endCommand();
+        Class cs2103 = model.getEduTrack().getClassList().get(0);
+        model.addStudentToClass(studentAt(0), cs2103);
+        model.addStudentToClass(studentAt(1), cs2103);
+        endCommand();
+        model.markStudentsAttendance(cs2103, List.of(studentAt(0)), true);
+        endCommand();
+        model.startLesson(cs2103);
+        model.markStudentsAttendance(cs2103, List.of(studentAt(1)), true);
+        endCommand();
+        model.setStudent(studentAt(2), new StudentBuilder(studentAt(2)).withMemo("Quiet").build());
+        model.setClass(cs2103, new Class(cs2103.getClassName(), cs2103.getUniqueStudentList(),
+                Memo.of("Bring laptops"), cs2103.getClassSchedule(), cs2103.getAttendanceHistory()));
+        endCommand();
+
+        cs2103 = model.getEduTrack().getClassList().get(0);
+        model.deleteStudentFromClass(studentAt(1), cs2103);
+        endCommand();
+        model.undo();
+        endCommand();
+        model.redo();
+        endCommand();
+        model.deleteStudent(studentAt(0));
+        endCommand();
+        model.undo();
+        endCommand();
+        model.removeClass(cs2103);
+        endCommand();
+        model.undo();
+        endCommand();
+        model.setEduTrack(new EduTrack());
+        endCommand();
+        model.undo();
+        endCommand();
+        model.addStudent(AMY);
+        endCommand();
+
+        assertReadDataEqualsModel();
+    }
+
+    @Test
+    public void readEduTrack_recordsIncludedByDataFile_notReplayed() throws Exception {
+        model.addStudent(AMY);
+        endCommand();
+        new JsonEduTrackStorage(dataFilePath).saveEduTrack(model.getEduTrack());
+        // The new storage numbers the data file after the records in the journal
+        assertReadDataEqualsModel();
+    }
+
+    @Test
+    public void readEduTrack_incompleteLastRecord_dropsRecord() throws Exception {
+        model.addStudent(AMY);
+        endCommand();
+        Files.write(journalFilePath, "{\"sequence\":2,\"chan".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertReadDataEqualsModel();
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+    }
+
+    @Test
+    public void readEduTrack_recordDoesNotFitData_throwsDataLoadingException() throws Exception {
+        Files.write(journalFilePath, "{\"sequence\":1,\"changes\":[{\"type\":\"REMOVE_STUDENT\",\"index\":99}]}\n"
+                .getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> new JsonEduTrackStorage(dataFilePath).readEduTrack());
+    }
+
+    @Test
+    public void append_noChanges_writesNothing() throws Exception {
+        journal.append();
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(0L, journal.getSequence());
+    }
+
+    @Test
+    public void compact_dropsRecordsIncludedBySnapshot() throws Exception {
+        assertFalse(journal.hasSnapshot());
+        model.addStudent(AMY);
+        endCommand();
+        journal.compact(new EduTrack(model.getEduTrack()), journal.getSequence());
+        model.addStudent(BOB);
+        endCommand();
+
+        assertTrue(journal.hasSnapshot());
+        assertEquals(2L, journal.getSequence());
+        assertEquals(1, journal.getRecordCount());
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertReadDataEqualsModel();
+    }
+
+    private Student studentAt(int index) {
+        return model.getEduTrack().getStudentList().get(index);
+    }
+
+    /**
+     * Ends a command, as {@code LogicManager} does, appending the changes it made to the journal.
+     */
+    private void endCommand() throws IOException {
+        model.commitChanges();
+        journal.append();
+    }
+
+    /**
+     * Asserts that reading the data file and replaying the journal gives the data of the model.
+     */
+    private void assertReadDataEqualsModel() throws Exception {
+        ReadOnlyEduTrack readBack = new JsonEduTrackStorage(dataFilePath).readEduTrack().get();
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableEduTrack(model.getEduTrack())),
+                JsonUtil.toJsonString(new JsonSerializableEduTrack(readBack)));
+    }
+}
@@ -0,0 +1,246 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config.SavePolicy;
+import seedu.address.model.EduTrack;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyEduTrack;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.Class;
+import seedu.address.testutil.ClassBuilder;
+
+public class EduTrackSaverTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private final RecordingStorage storage = new RecordingStorage();
+    private final List<IOException> errors = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void constructor_negativeDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new EduTrackSaver(storage, SavePolicy.ON_IDLE, -1, errors::add));
+    }
+
+    @Test
+    public void save_everyCommand_writesSnapshotInBackground() throws Exception {
+        EduTrackSaver saver = new EduTrackSaver(storage, SavePolicy.EVERY_COMMAND, 0, errors::add);
+        EduTrack eduTrack = new EduTrack();
+        eduTrack.addStudent(ALICE);
+        saver.save(eduTrack);
+        assertTrue(storage.firstSave.await(10, TimeUnit.SECONDS));
+        saver.shutdown();
+        assertEquals(1, storage.saved.size());
+        assertEquals(List.of(ALICE), storage.saved.get(0).getStudentList());
+    }
+
+    @Test
+    public void save_laterChanges_doNotAffectSnapshot() {
+        EduTrackSaver saver = new EduTrackSaver(storage, SavePolicy.ON_IDLE, LONG_DELAY_MILLIS, errors::add);
+        EduTrack eduTrack = new EduTrack();
+        Class cs2103 = new ClassBuilder().withClassName("CS2103").build();
+        eduTrack.addStudent(ALICE);
+        eduTrack.addClass(cs2103);
+        eduTrack.addStudentToClass(ALICE, cs2103);
+        cs2103.recordAttendance(ALICE, true);
+        saver.save(eduTrack);
+
+        eduTrack.addStudent(BENSON);
+        eduTrack.addStudentToClass(BENSON, cs2103);
+        cs2103.getAttendanceHistory().startLesson();
+        cs2103.recordAttendance(ALICE, true);
+        saver.shutdown();
+        ReadOnlyEduTrack saved = storage.saved.get(0);
+        assertEquals(List.of(ALICE), saved.getStudentList());
+        Class savedClass = saved.getClassList().get(0);
+        assertEquals(List.of(ALICE), savedClass.getStudentList());
+        assertEquals(1, savedClass.getAttendanceHistory().getLessonCount());
+        assertEquals(1, savedClass.getLessonsAttended(ALICE));
+    }
+
+    @Test
+    public void save_burstWhileWriting_writesLatestOnce() throws Exception {
+        storage.blockFirstSave();
+        EduTrackSaver saver = new EduTrackSaver(storage, SavePolicy.EVERY_COMMAND, 0, errors::add);
+        EduTrack eduTrack = new EduTrack();
+        eduTrack.addStudent(ALICE);
+        saver.save(eduTrack);
+        assertTrue(storage.firstSave.await(10, TimeUnit.SECONDS));
+
+        eduTrack.addStudent(BENSON);
+        saver.save(eduTrack);
+        eduTrack.addStudent(CARL);
+        saver.save(eduTrack);
+        storage.unblock();
+        saver.shutdown();
+        assertEquals(2, storage.saved.size());
+        assertEquals(List.of(ALICE, BENSON, CARL), storage.saved.get(1).getStudentList());
+    }
+
+    @Test
+    public void save_intervalOrIdle_writesOnceForBurst() {
+        for (SavePolicy savePolicy : List.of(SavePolicy.INTERVAL, SavePolicy.ON_IDLE)) {
+            RecordingStorage storage = new RecordingStorage();
+            EduTrackSaver saver = new EduTrackSaver(storage, savePolicy, LONG_DELAY_MILLIS, errors::add);
+            EduTrack eduTrack = new EduTrack();
+            saver.save(eduTrack);
+            eduTrack.addStudent(ALICE);
+            saver.save(eduTrack);
+            assertEquals(0, storage.saved.size());
+            saver.shutdown();
+            assertEquals(1, storage.saved.size());
+            assertEquals(List.of(ALICE), storage.saved.get(0).getStudentList());
+        }
+    }
+
+    @Test
+    public void save_onIdle_waitsForDelayAfterLastSave() throws Exception {
+        EduTrackSaver saver = new EduTrackSaver(storage, SavePolicy.ON_IDLE, 200, errors::add);
+        EduTrack eduTrack = new EduTrack();
+        long start = System.nanoTime();
+        saver.save(eduTrack);
+        Thread.sleep(100);
+        eduTrack.addStudent(ALICE);
+        saver.save(eduTrack);
+        assertTrue(storage.firstSave.await(10, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 300);
+        saver.shutdown();
+        assertEquals(1, storage.saved.size());
+        assertEquals(List.of(ALICE), storage.saved.get(0).getStudentList());
+    }
+
+    @Test
+    public void save_storageFails_reportsError() {
+        storage.failWith(new IOException("disk full"));
+        EduTrackSaver saver = new EduTrackSaver(storage, SavePolicy.EVERY_COMMAND, 0, errors::add);
+        saver.save(new EduTrack());
+        saver.shutdown();
+        assertEquals(1, errors.size());
+        assertEquals("disk full", errors.get(0).getMessage());
+    }
+
+    @Test
+    public void save_journal_appendsChangesAndCompactsJournal() throws Exception {
+        Path dataFilePath = testFolder.resolve("eduTrack.json");
+        JsonEduTrackStorage jsonStorage = new JsonEduTrackStorage(dataFilePath);
+        ModelManager model = new ModelManager();
+        EduTrackSaver saver = startJournal(jsonStorage, model);
+        model.addStudent(ALICE);
+        saver.save(model.getEduTrack());
+        saver.shutdown();
+        // The journal did not follow on from a data file, so the data was written in full
+        assertTrue(Files.exists(dataFilePath));
+        assertEquals(0, jsonStorage.getEduTrackJournal().getRecordCount());
+
+        jsonStorage = new JsonEduTrackStorage(dataFilePath);
+        model = new ModelManager(jsonStorage.readEduTrack().get(), new UserPrefs());
+        saver = startJournal(jsonStorage, model);
+        model.addStudent(BENSON);
+        saver.save(model.getEduTrack());
+        saver.shutdown();
+        assertEquals(1, jsonStorage.getEduTrackJournal().getRecordCount());
+        // The data file alone, without the journal, is left as it was
+        Path copyPath = Files.copy(dataFilePath, testFolder.resolve("copy.json"));
+        assertEquals(List.of(ALICE), new JsonEduTrackStorage(copyPath).readEduTrack().get().getStudentList());
+
+        saver = startJournal(jsonStorage, model);
+        model.addStudent(CARL);
+        saver.save(model.getEduTrack());
+        saver.shutdown();
+        // The journal reached the compaction threshold
+        assertEquals(0, jsonStorage.getEduTrackJournal().getRecordCount());
+        assertEquals(List.of(ALICE, BENSON, CARL),
+                new JsonEduTrackStorage(dataFilePath).readEduTrack().get().getStudentList());
+        assertEquals(List.of(), errors);
+    }
+
+    private EduTrackSaver startJournal(JsonEduTrackStorage jsonStorage, ModelManager model) {
+        EduTrackSaver saver = new EduTrackSaver(jsonStorage, SavePolicy.JOURNAL, 0, errors::add, 2);
+        jsonStorage.getEduTrackJournal().setEduTrack(model.getEduTrack());
+        model.setEduTrackChangeListener(jsonStorage.getEduTrackJournal());
+        return saver;
+    }
+
+    /**
+     * An {@code EduTrackStorage} that keeps every saved {@code ReadOnlyEduTrack} instead of writing it.
+     */
+    private static class RecordingStorage implements EduTrackStorage {
+        private final List<ReadOnlyEduTrack> saved = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch firstSave = new CountDownLatch(1);
+        private CountDownLatch unblocked = new CountDownLatch(0);
+        private IOException failure;
+
+        void blockFirstSave() {
+            unblocked = new CountDownLatch(1);
+        }
+
+        void unblock() {
+            unblocked.countDown();
+        }
+
+        void failWith(IOException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public Path getEduTrackFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyEduTrack> readEduTrack() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyEduTrack> readEduTrack(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveEduTrack(ReadOnlyEduTrack eduTrack) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(eduTrack);
+            firstSave.countDown();
+            try {
+                unblocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void saveEduTrack(ReadOnlyEduTrack eduTrack, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public EduTrackJournal getEduTrackJournal() {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -1,46 +1,124 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.storage.JsonAdaptedClass.MESSAGE_INVALID_ATTENDANCE;
+import static seedu.address.storage.JsonAdaptedClass.MESSAGE_INVALID_STUDENT_REFERENCE;
 import static seedu.address.storage.JsonAdaptedClass.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClasses.CS2105;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.module.AttendanceHistory;
+import seedu.address.model.module.Class;
 import seedu.address.model.module.ClassName;
+import seedu.address.model.student.Student;
 
 public class JsonAdaptedClassTest {
 
     private static final String INVALID_CLASS_NAME = "cs 2103t";
+    private static final List<Integer> EMPTY_STUDENT_REFERENCES = new ArrayList<>();
     private static final List<JsonAdaptedStudent> EMPTY_STUDENT_LIST = new ArrayList<>();
     private static final String EMPTY_CLASS_NOTE = " ";
     private static final String EMPTY_CLASS_SCHEDULE = " ";
+    private static final List<long[]> EMPTY_ATTENDANCE = new ArrayList<>();
+
+    private final List<Student> canonicalStudents = new ArrayList<>(Arrays.asList(ALICE, BENSON));
+    private final Map<Student, Student> studentLookup = new HashMap<>();
+
+    {
+        canonicalStudents.forEach(student -> studentLookup.put(student, student));
+    }
 
     @Test
     public void toModelType_validClassDetails_returnsClass() throws Exception {
-        JsonAdaptedClass c = new JsonAdaptedClass("CS2105", EMPTY_STUDENT_LIST,
-                EMPTY_CLASS_NOTE, EMPTY_CLASS_SCHEDULE);
-        assertEquals(CS2105, c.toModelType());
+        JsonAdaptedClass c = new JsonAdaptedClass("CS2105", EMPTY_STUDENT_REFERENCES, EMPTY_STUDENT_LIST,
+                EMPTY_CLASS_NOTE, EMPTY_CLASS_SCHEDULE, 0, EMPTY_ATTENDANCE);
+        assertEquals(CS2105, c.toModelType(canonicalStudents, studentLookup));
+    }
+
+    @Test
+    public void toModelType_studentReferences_sharesCanonicalStudents() throws Exception {
+        JsonAdaptedClass c = new JsonAdaptedClass("CS2105", Collections.singletonList(1), EMPTY_STUDENT_LIST,
+                EMPTY_CLASS_NOTE, EMPTY_CLASS_SCHEDULE, 0, EMPTY_ATTENDANCE);
+        Class modelClass = c.toModelType(canonicalStudents, studentLookup);
+        assertSame(BENSON, modelClass.getStudentList().get(0));
+    }
+
+    @Test
+    public void toModelType_embeddedStudents_resolvedToCanonicalStudents() throws Exception {
+        JsonAdaptedClass c = new JsonAdaptedClass("CS2105", EMPTY_STUDENT_REFERENCES,
+                Collections.singletonList(new JsonAdaptedStudent(ALICE)), EMPTY_CLASS_NOTE, EMPTY_CLASS_SCHEDULE,
+                0, EMPTY_ATTENDANCE);
+        Class modelClass = c.toModelType(canonicalStudents, studentLookup);
+        assertSame(ALICE, modelClass.getStudentList().get(0));
+        assertEquals(2, canonicalStudents.size());
+    }
+
+    @Test
+    public void toModelType_invalidStudentReference_throwsIllegalValueException() {
+        JsonAdaptedClass c = new JsonAdaptedClass("CS2105", Collections.singletonList(2), EMPTY_STUDENT_LIST,
+                EMPTY_CLASS_NOTE, EMPTY_CLASS_SCHEDULE, 0, EMPTY_ATTENDANCE);
+        String expectedMessage = String.format(MESSAGE_INVALID_STUDENT_REFERENCE, "CS2105");
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                c.toModelType(canonicalStudents, studentLookup));
     }
 
     @Test
     public void toModelType_invalidClassName_throwsIllegalValueException() {
         JsonAdaptedClass c =
-                new JsonAdaptedClass(INVALID_CLASS_NAME, EMPTY_STUDENT_LIST,
-                        EMPTY_CLASS_NOTE, EMPTY_CLASS_SCHEDULE);
+                new JsonAdaptedClass(INVALID_CLASS_NAME, EMPTY_STUDENT_REFERENCES, EMPTY_STUDENT_LIST,
+                        EMPTY_CLASS_NOTE, EMPTY_CLASS_SCHEDULE, 0, EMPTY_ATTENDANCE);
         String expectedMessage = ClassName.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, c::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                c.toModelType(canonicalStudents, studentLookup));
     }
 
     @Test
     public void toModelType_nullClassName_throwsIllegalValueException() {
-        JsonAdaptedClass c = new JsonAdaptedClass((String) null, new ArrayList<JsonAdaptedStudent>(),
-                EMPTY_CLASS_NOTE, EMPTY_CLASS_SCHEDULE);
+        JsonAdaptedClass c = new JsonAdaptedClass((String) null, EMPTY_STUDENT_REFERENCES,
+                new ArrayList<JsonAdaptedStudent>(), EMPTY_CLASS_NOTE, EMPTY_CLASS_SCHEDULE, 0, EMPTY_ATTENDANCE);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, ClassName.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, c::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                c.toModelType(canonicalStudents, studentLookup));
+    }
+
+    @Test
+    public void toModelType_attendance_restoresLessonHistory() throws Exception {
+        JsonAdaptedClass c = new JsonAdaptedClass("CS2105", Arrays.asList(0, 1), EMPTY_STUDENT_LIST,
+                EMPTY_CLASS_NOTE, EMPTY_CLASS_SCHEDULE, 3, Arrays.asList(new long[] {0b101}, new long[0]));
+        AttendanceHistory history = c.toModelType(canonicalStudents, studentLookup).getAttendanceHistory();
+        assertEquals(3, history.getLessonCount());
+        assertEquals(2, history.countAttended(ALICE));
+        assertEquals(0, history.countAttended(BENSON));
+    }
+
+    @Test
+    public void toModelType_attendanceAfterLastLesson_throwsIllegalValueException() {
+        JsonAdaptedClass c = new JsonAdaptedClass("CS2105", Arrays.asList(0, 1), EMPTY_STUDENT_LIST,
+                EMPTY_CLASS_NOTE, EMPTY_CLASS_SCHEDULE, 2, Arrays.asList(new long[] {0b100}, new long[0]));
+        String expectedMessage = String.format(MESSAGE_INVALID_ATTENDANCE, "CS2105");
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                c.toModelType(canonicalStudents, studentLookup));
+    }
+
+    @Test
+    public void toModelType_attendanceNotMatchingStudents_throwsIllegalValueException() {
+        JsonAdaptedClass c = new JsonAdaptedClass("CS2105", Arrays.asList(0, 1), EMPTY_STUDENT_LIST,
+                EMPTY_CLASS_NOTE, EMPTY_CLASS_SCHEDULE, 2, Collections.singletonList(new long[] {0b1}));
+        String expectedMessage = String.format(MESSAGE_INVALID_ATTENDANCE, "CS2105");
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                c.toModelType(canonicalStudents, studentLookup));
     }
 }
@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EduTrack;
+import seedu.address.model.module.ClassName;
+import seedu.address.model.student.Student;
+
+public class JsonEduTrackReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonEduTrackReaderTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableEduTrackTest");
+    private static final Path CLASSES_BEFORE_STUDENTS_FILE =
+            TEST_DATA_FOLDER.resolve("classesBeforeStudentsEduTrack.json");
+    private static final Path NULL_STUDENT_FILE = TEST_DATA_FOLDER.resolve("nullStudentEduTrack.json");
+    private static final Path ARRAY_FILE = TEST_DATA_FOLDER.resolve("arrayEduTrack.json");
+    private static final Path MISSING_CLASSES_FILE = TEST_DATA_FOLDER.resolve("missingClassesEduTrack.json");
+
+    @Test
+    public void read_sameAsJsonSerializableEduTrack() throws Exception {
+        for (String fileName : new String[] {"typicalStudentsEduTrack.json", "typicalClassesEduTrack.json",
+            "classStudentsEduTrack.json", "legacyClassStudentsEduTrack.json"}) {
+            Path filePath = SERIALIZABLE_TEST_DATA_FOLDER.resolve(fileName);
+            EduTrack expected = JsonUtil.readJsonFile(filePath, JsonSerializableEduTrack.class).get().toModelType();
+            assertEquals(expected, new JsonEduTrackReader(filePath).read());
+        }
+    }
+
+    @Test
+    public void read_invalidData_throwsIllegalValueException() {
+        for (String fileName : new String[] {"invalidStudentEduTrack.json", "invalidClassEduTrack.json"}) {
+            Path filePath = SERIALIZABLE_TEST_DATA_FOLDER.resolve(fileName);
+            assertThrows(IllegalValueException.class, () -> new JsonEduTrackReader(filePath).read());
+        }
+        assertThrows(IllegalValueException.class, JsonSerializableEduTrack.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonEduTrackReader(SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicatePersonEduTrack.json")).read());
+        assertThrows(IllegalValueException.class, JsonSerializableEduTrack.MESSAGE_DUPLICATE_CLASS, () ->
+                new JsonEduTrackReader(SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicateClassEduTrack.json")).read());
+        assertThrows(IllegalValueException.class, String.format(JsonEduTrackReader.MESSAGE_MISSING_ENTRY,
+                "Students"), () -> new JsonEduTrackReader(NULL_STUDENT_FILE).read());
+    }
+
+    @Test
+    public void read_classesBeforeStudents_resolvesStudentsAfterReadingThem() throws Exception {
+        EduTrack eduTrack = new JsonEduTrackReader(CLASSES_BEFORE_STUDENTS_FILE).read();
+        Student benson = eduTrack.getStudentList().get(1);
+        assertSame(benson, eduTrack.getClass(new ClassName("CS2101")).getStudentList().get(0));
+    }
+
+    @Test
+    public void read_notEduTrackData_throwsIoException() {
+        assertThrows(IOException.class, () -> new JsonEduTrackReader(ARRAY_FILE).read());
+        assertThrows(IOException.class, () -> new JsonEduTrackReader(MISSING_CLASSES_FILE).read());
+        assertThrows(IOException.class, () -> new JsonEduTrackReader(
+                Paths.get("src", "test", "data", "JsonEduTrackStorageTest", "notJsonFormatEduTrack.json")).read());
+    }
+
+}
@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalClasses.getTypicalEduTrack;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EduTrack;
+
+public class JsonEduTrackWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_sameAsJsonSerializableEduTrack() throws Exception {
+        EduTrack eduTrack = getTypicalEduTrack();
+        Path filePath = testFolder.resolve("data").resolve("eduTrack.json");
+
+        JsonEduTrackWriter.write(eduTrack, 0, filePath);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableEduTrack(eduTrack)), FileUtil.readFromFile(filePath));
+
+        JsonEduTrackWriter.write(new EduTrack(), 7, filePath);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableEduTrack(new EduTrack(), 7)),
+                FileUtil.readFromFile(filePath));
+        assertFalse(Files.exists(testFolder.resolve("data").resolve("eduTrack.json.tmp")));
+    }
+
+    @Test
+    public void write_readBack_sameData() throws Exception {
+        EduTrack eduTrack = getTypicalEduTrack();
+        Path filePath = testFolder.resolve("eduTrack.json");
+        JsonEduTrackWriter.write(eduTrack, 3, filePath);
+
+        JsonEduTrackReader reader = new JsonEduTrackReader(filePath);
+        assertEquals(eduTrack, reader.read());
+        assertEquals(3L, reader.getJournalSequence());
+    }
+
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
@@ -11,6 +12,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.EduTrack;
+import seedu.address.model.module.Class;
+import seedu.address.model.module.ClassName;
+import seedu.address.model.student.Student;
 import seedu.address.testutil.TypicalClasses;
 import seedu.address.testutil.TypicalStudents;
 
@@ -24,6 +28,9 @@ public class JsonSerializableEduTrackTest {
     private static final Path TYPICAL_CLASSES_FILE = TEST_DATA_FOLDER.resolve("typicalClassesEduTrack.json");
     private static final Path INVALID_CLASSES_FILE = TEST_DATA_FOLDER.resolve("invalidClassEduTrack.json");
     private static final Path DUPLICATE_CLASS_FILE = TEST_DATA_FOLDER.resolve("duplicateClassEduTrack.json");
+    private static final Path CLASS_STUDENTS_FILE = TEST_DATA_FOLDER.resolve("classStudentsEduTrack.json");
+    private static final Path LEGACY_CLASS_STUDENTS_FILE =
+            TEST_DATA_FOLDER.resolve("legacyClassStudentsEduTrack.json");
 
     @Test
     public void toModelType_typicalStudentsFile_success() throws Exception {
@@ -73,4 +80,36 @@ public class JsonSerializableEduTrackTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_classStudentReferences_sharesStudents() throws Exception {
+        JsonSerializableEduTrack dataFromFile = JsonUtil.readJsonFile(CLASS_STUDENTS_FILE,
+                JsonSerializableEduTrack.class).get();
+        EduTrack eduTrackFromFile = dataFromFile.toModelType();
+        Student benson = eduTrackFromFile.getStudentList().get(1);
+        assertSame(benson, eduTrackFromFile.getClass(new ClassName("CS2103T")).getStudentList().get(1));
+        assertSame(benson, eduTrackFromFile.getClass(new ClassName("CS2101")).getStudentList().get(0));
+    }
+
+    @Test
+    public void toModelType_legacyEmbeddedClassStudents_success() throws Exception {
+        JsonSerializableEduTrack dataFromFile = JsonUtil.readJsonFile(LEGACY_CLASS_STUDENTS_FILE,
+                JsonSerializableEduTrack.class).get();
+        EduTrack eduTrackFromFile = dataFromFile.toModelType();
+        Class cs2103t = eduTrackFromFile.getClass(new ClassName("CS2103T"));
+        assertEquals(2, eduTrackFromFile.getStudentList().size());
+        assertSame(eduTrackFromFile.getStudentList().get(0), cs2103t.getStudentList().get(0));
+        assertSame(eduTrackFromFile.getStudentList().get(1), cs2103t.getStudentList().get(1));
+    }
+
+    @Test
+    public void constructor_classStudents_writesEachStudentOnce() throws Exception {
+        EduTrack source = JsonUtil.readJsonFile(CLASS_STUDENTS_FILE, JsonSerializableEduTrack.class).get()
+                .toModelType();
+        String json = JsonUtil.toJsonString(new JsonSerializableEduTrack(source));
+        assertEquals(json.indexOf("Benson Meier"), json.lastIndexOf("Benson Meier"));
+
+        EduTrack reloaded = new JsonSerializableEduTrack(source).toModelType();
+        ClassName cs2101 = new ClassName("CS2101");
+        assertEquals(source.getClass(cs2101).getStudentList(), reloaded.getClass(cs2101).getStudentList());
+    }
 }
@@ -62,6 +62,12 @@ public class JsonUserPrefsStorageTest {
         assertEquals(new UserPrefs(), actual);
     }
 
+    @Test
+    public void readUserPrefs_nullFileFormat_jsonFormatUsed() throws DataLoadingException {
+        UserPrefs actual = readUserPrefs("NullFileFormatUserPrefs.json").get();
+        assertEquals(getTypicalUserPrefs(), actual);
+    }
+
     @Test
     public void readUserPrefs_extraValuesInFile_extraValuesIgnored() throws DataLoadingException {
         UserPrefs expected = getTypicalUserPrefs();